@@ -0,0 +1,48 @@
+package com.dnd.modutime.config;
+
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultRecomputeQueue;
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultResponseCache;
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultCacheStatsResponse;
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultRecomputeStatsResponse;
+import com.dnd.modutime.core.outbox.application.OutboxEventProcessor;
+import com.dnd.modutime.core.outbox.application.response.OutboxStageStatsResponse;
+import com.dnd.modutime.core.timetable.application.TimeTableResponseCache;
+import com.dnd.modutime.core.timetable.application.response.TimeTableCacheStatsResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 캐시, 재계산 큐, outbox의 운영 지표를 한 곳에서 보여준다. 접근은 AdminTokenInterceptor가 막는다.
+@RestController
+@RequestMapping("/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final TimeTableResponseCache timeTableResponseCache;
+    private final AdjustmentResultResponseCache adjustmentResultResponseCache;
+    private final AdjustmentResultRecomputeQueue adjustmentResultRecomputeQueue;
+    private final OutboxEventProcessor outboxEventProcessor;
+
+    @GetMapping("/time-table-cache")
+    public ResponseEntity<TimeTableCacheStatsResponse> getTimeTableCacheStats() {
+        return ResponseEntity.ok(timeTableResponseCache.getStats());
+    }
+
+    @GetMapping("/adjustment-result-cache")
+    public ResponseEntity<AdjustmentResultCacheStatsResponse> getAdjustmentResultCacheStats() {
+        return ResponseEntity.ok(adjustmentResultResponseCache.getStats());
+    }
+
+    @GetMapping("/adjustment-result-recompute")
+    public ResponseEntity<AdjustmentResultRecomputeStatsResponse> getAdjustmentResultRecomputeStats() {
+        return ResponseEntity.ok(adjustmentResultRecomputeQueue.getStats());
+    }
+
+    @GetMapping("/outbox")
+    public ResponseEntity<List<OutboxStageStatsResponse>> getOutboxStats() {
+        return ResponseEntity.ok(outboxEventProcessor.getStats());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dnd.modutime.config;
+
+import com.dnd.modutime.exception.InvalidPasswordException;
+import com.dnd.modutime.exception.NotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// /admin 아래의 운영용 API는 X-Admin-Token 헤더가 설정한 토큰과 같을 때만 연다.
+// 토큰을 설정하지 않으면 관리자 API가 없는 것처럼 404로 막는다.
+@Component
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] adminToken;
+
+    public AdminTokenInterceptor(@Value("${modutime.admin.token:}") String adminToken) {
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (adminToken.length == 0) {
+            throw new NotFoundException("관리자 API가 설정되지 않았습니다.");
+        }
+        String token = request.getHeader(ADMIN_TOKEN_HEADER);
+        // 길이와 내용을 한 번에 비교해서 응답 시간으로 토큰을 추측하지 못하게 한다.
+        if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new InvalidPasswordException();
+        }
+        return true;
+    }
+}
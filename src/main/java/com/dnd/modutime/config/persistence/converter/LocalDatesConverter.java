@@ -0,0 +1,32 @@
+package com.dnd.modutime.config.persistence.converter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class LocalDatesConverter implements AttributeConverter<List<LocalDate>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<LocalDate> dates) {
+        return dates.stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public List<LocalDate> convertToEntityAttribute(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(DELIMITER))
+                .map(LocalDate::parse)
+                .collect(Collectors.toList());
+    }
+}
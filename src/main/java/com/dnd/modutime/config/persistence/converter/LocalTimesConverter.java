@@ -0,0 +1,32 @@
+package com.dnd.modutime.config.persistence.converter;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class LocalTimesConverter implements AttributeConverter<List<LocalTime>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<LocalTime> times) {
+        return times.stream()
+                .map(LocalTime::toString)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public List<LocalTime> convertToEntityAttribute(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(DELIMITER))
+                .map(LocalTime::parse)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.dnd.modutime.config.persistence.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class StringsConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("문자열 목록을 컬럼 값으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(OBJECT_MAPPER.readValue(value, new TypeReference<List<String>>() {
+            }));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("컬럼 값을 문자열 목록으로 변환할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultRecomputeStatsResponse;
+import com.dnd.modutime.exception.NotFoundException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 시간표가 바뀐 방의 조율 결과를 방마다 한 번에 하나씩 다시 계산한다. outbox에 저장된 TimeTable 변경을 OutboxEventProcessor가 넘겨준다.
+// 첫 변경 후 windowMillis 동안 들어온 변경은 모아서 가장 최근의 시간표로 한 번만 계산하고,
+// 계산하는 도중에 들어온 변경은 계산이 끝난 뒤 다시 계산하므로 조율 결과는 결국 시간표와 같아진다.
+@Component
+public class AdjustmentResultRecomputeQueue {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final AdjustmentResultReplaceService adjustmentResultReplaceService;
+    private final long windowMillis;
+    private final int maxRetryCount;
+    private final ScheduledExecutorService executor;
+    private final Map<String, RoomRecompute> recomputesByRoomUuid = new HashMap<>();
+
+    // 재시도를 모두 실패한 방. 다음 변경이 들어오면 전체를 다시 계산한다.
+    private final Set<String> staleRoomUuids = new HashSet<>();
+
+    private long requestCount;
+    private long executionCount;
+    private long coalescedCount;
+    private long failureCount;
+
+    public AdjustmentResultRecomputeQueue(AdjustmentResultReplaceService adjustmentResultReplaceService,
+                                          @Value("${modutime.adjustment-result-recompute.window-millis:200}") long windowMillis,
+                                          @Value("${modutime.adjustment-result-recompute.max-retry-count:3}") int maxRetryCount,
+                                          @Value("${modutime.adjustment-result-recompute.threads:2}") int threads) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("재계산 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (maxRetryCount < 0) {
+            throw new IllegalArgumentException("재시도 횟수는 0 이상이어야 합니다.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("재계산 스레드 수는 1 이상이어야 합니다.");
+        }
+        this.adjustmentResultReplaceService = adjustmentResultReplaceService;
+        this.windowMillis = windowMillis;
+        this.maxRetryCount = maxRetryCount;
+        this.executor = new ScheduledThreadPoolExecutor(threads);
+    }
+
+    // changedDates가 null이면 전체를 다시 계산한다. 이 변경이 반영된 계산이 끝나면 완료되고, 재시도를 모두 실패하면 예외로 완료된다.
+    public synchronized CompletableFuture<Void> request(String roomUuid, List<LocalDate> changedDates) {
+        requestCount++;
+        if (staleRoomUuids.remove(roomUuid)) {
+            changedDates = null;
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        RoomRecompute recompute = recomputesByRoomUuid.computeIfAbsent(roomUuid, ignored -> new RoomRecompute());
+        recompute.merge(changedDates, future);
+        if (!recompute.isScheduled() && !recompute.isRunning()) {
+            schedule(roomUuid, recompute, windowMillis);
+        }
+        return future;
+    }
+
+    private void schedule(String roomUuid, RoomRecompute recompute, long delayMillis) {
+        recompute.setScheduled(true);
+        executor.schedule(() -> run(roomUuid), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(String roomUuid) {
+        RoomRecompute recompute;
+        RoomRecompute.Target target;
+        synchronized (this) {
+            recompute = recomputesByRoomUuid.get(roomUuid);
+            recompute.setScheduled(false);
+            recompute.setRunning(true);
+            target = recompute.drain();
+            executionCount++;
+            coalescedCount += Math.max(target.getRequestCount() - 1, 0);
+        }
+        boolean succeeded = execute(roomUuid, target);
+        List<CompletableFuture<Void>> abandonedFutures;
+        synchronized (this) {
+            recompute.setRunning(false);
+            if (succeeded) {
+                recompute.resetFailureCount();
+            } else {
+                failureCount++;
+                recompute.restore(target);
+            }
+            abandonedFutures = scheduleNext(roomUuid, recompute);
+        }
+        // 완료 콜백이 락을 잡은 채로 실행되지 않도록 락 밖에서 완료한다.
+        if (succeeded) {
+            target.getFutures().forEach(future -> future.complete(null));
+        }
+        abandonedFutures.forEach(future -> future.completeExceptionally(
+                new IllegalStateException("조율 결과를 다시 계산하지 못했습니다.")));
+    }
+
+    private boolean execute(String roomUuid, RoomRecompute.Target target) {
+        try {
+            if (target.isAllChanged()) {
+                adjustmentResultReplaceService.replaceAll(roomUuid);
+            } else {
+                adjustmentResultReplaceService.replace(roomUuid, target.getChangedDates());
+            }
+            return true;
+        } catch (NotFoundException e) {
+            // 조율 결과가 없는 방은 다시 계산할 대상이 없다.
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 실패하면 대기 시간을 두 배씩 늘려 다시 시도한다. 재시도를 모두 실패하면 기다리던 요청을 반환한다.
+    private List<CompletableFuture<Void>> scheduleNext(String roomUuid, RoomRecompute recompute) {
+        if (recompute.getFailureCount() > maxRetryCount) {
+            recomputesByRoomUuid.remove(roomUuid);
+            staleRoomUuids.add(roomUuid);
+            notifyAll();
+            return recompute.drain().getFutures();
+        }
+        if (recompute.hasPending()) {
+            schedule(roomUuid, recompute, windowMillis << recompute.getFailureCount());
+            return List.of();
+        }
+        recomputesByRoomUuid.remove(roomUuid);
+        notifyAll();
+        return List.of();
+    }
+
+    // 모아둔 변경이 모두 반영될 때까지 기다린다. 시간 안에 반영되면 true를 반환한다.
+    public synchronized boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!recomputesByRoomUuid.isEmpty()) {
+            long remainingMillis = deadline - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            wait(remainingMillis);
+        }
+        return true;
+    }
+
+    public synchronized AdjustmentResultRecomputeStatsResponse getStats() {
+        int runningSize = (int) recomputesByRoomUuid.values().stream()
+                .filter(RoomRecompute::isRunning)
+                .count();
+        return new AdjustmentResultRecomputeStatsResponse(recomputesByRoomUuid.size() - runningSize, runningSize,
+                staleRoomUuids.size(), requestCount, executionCount, coalescedCount, failureCount, getCoalescingRatio());
+    }
+
+    // 들어온 변경 중 다른 변경과 합쳐져 따로 계산하지 않은 비율
+    private double getCoalescingRatio() {
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) coalescedCount / requestCount;
+    }
+
+    // 이미 예약된 재계산은 종료 전에 마저 실행한다.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
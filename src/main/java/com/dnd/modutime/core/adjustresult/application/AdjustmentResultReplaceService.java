@@ -9,8 +9,9 @@ import com.dnd.modutime.core.adjustresult.util.convertor.CandidateDateTimeConver
 import com.dnd.modutime.core.timetable.domain.DateInfo;
 import com.dnd.modutime.core.timetable.domain.TimeInfo;
 import com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName;
-import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
 import com.dnd.modutime.exception.NotFoundException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -19,9 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
@@ -30,20 +29,127 @@ public class AdjustmentResultReplaceService {
     private final AdjustmentResultRepository adjustmentResultRepository;
     private final CandidateDateTimeRepository candidateDateTimeRepository;
     private final CandidateDateTimeConvertorFactory candidateDateTimeConvertorFactory;
+    private final TimeTableRepository timeTableRepository;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener
-    public void replace(TimeTableReplaceEvent event) {
-        var adjustmentResult = getByRoomUuid(event.getRoomUuid());
+    // 조율 결과는 AdjustmentResultRecomputeQueue에서 방마다 모아서 다시 계산하므로 항상 가장 최근의 TimeTable을 읽는다.
+    // 계산에 쓴 TimeTable보다 새로운 version이 저장되지 않도록 TimeTable version을 먼저 읽는다.
+    @Transactional
+    public void replaceAll(String roomUuid) {
+        var adjustmentResult = getByRoomUuid(roomUuid);
+        long timeTableVersion = getTimeTableVersion(roomUuid);
         candidateDateTimeRepository.deleteAllByAdjustmentResultId(adjustmentResult.getId());
+        var candidateDateTimes = createCandidateDateTimes(adjustmentResult, roomUuid, getDateInfos(roomUuid));
+        adjustmentResult.replace(candidateDateTimes);
+        adjustmentResultRepository.increaseVersionByRoomUuid(roomUuid, timeTableVersion);
+    }
+
+    @Transactional
+    public void replace(String roomUuid, List<LocalDate> changedDates) {
+        var adjustmentResult = getByRoomUuid(roomUuid);
+        long timeTableVersion = getTimeTableVersion(roomUuid);
+        var dateInfos = getDateInfos(roomUuid);
+        for (List<LocalDate> dates : groupConsecutiveDates(changedDates)) {
+            replaceDates(adjustmentResult, roomUuid, dateInfos, dates.get(0), dates.get(dates.size() - 1));
+        }
+        adjustmentResultRepository.increaseVersionByRoomUuid(roomUuid, timeTableVersion);
+    }
 
-        var dateTimeInfosDto = convertDateTimeInfosDto(event.getDateInfos());
-        var candidateDateTimeConvertor = candidateDateTimeConvertorFactory.getInstance(event.getRoomUuid());
+    // 시간이 있는 방은 후보 시간이 자정을 넘어 이어질 수 있으므로 겹치거나 맞닿은 후보 시간의 날짜까지 범위를 넓혀 다시 계산한다.
+    private void replaceDates(AdjustmentResult adjustmentResult,
+                              String roomUuid,
+                              List<DateInfo> dateInfos,
+                              LocalDate startDate,
+                              LocalDate endDate) {
+        boolean hasTime = hasTime(dateInfos);
+        var oldCandidateDateTimes = findCandidateDateTimes(adjustmentResult, startDate, endDate, hasTime);
+        while (hasTime) {
+            LocalDate expandedStartDate = startDate;
+            LocalDate expandedEndDate = endDate;
+            for (CandidateDateTime candidateDateTime : oldCandidateDateTimes) {
+                expandedStartDate = min(expandedStartDate, candidateDateTime.getStartDateTime().toLocalDate());
+                expandedEndDate = max(expandedEndDate, getLastDate(candidateDateTime.getEndDateTime()));
+            }
+            if (expandedStartDate.isEqual(startDate) && expandedEndDate.isEqual(endDate)) {
+                break;
+            }
+            startDate = expandedStartDate;
+            endDate = expandedEndDate;
+            oldCandidateDateTimes = findCandidateDateTimes(adjustmentResult, startDate, endDate, true);
+        }
+        candidateDateTimeRepository.deleteAll(oldCandidateDateTimes);
+        createCandidateDateTimes(adjustmentResult, roomUuid, getDateInfosBetween(dateInfos, startDate, endDate));
+    }
+
+    // 날짜만 있는 방의 후보 시간은 시작과 끝이 모두 그 날짜의 0시이므로 다음 날짜의 후보 시간을 포함하지 않는다.
+    private List<CandidateDateTime> findCandidateDateTimes(AdjustmentResult adjustmentResult,
+                                                           LocalDate startDate,
+                                                           LocalDate endDate,
+                                                           boolean hasTime) {
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = hasTime ? endDate.plusDays(1).atStartOfDay() : endDate.atStartOfDay();
+        return candidateDateTimeRepository.findAllByAdjustmentResultIdAndDateTimeBetween(adjustmentResult.getId(), from, to);
+    }
+
+    private List<CandidateDateTime> createCandidateDateTimes(AdjustmentResult adjustmentResult,
+                                                             String roomUuid,
+                                                             List<DateInfo> dateInfos) {
+        var dateTimeInfosDto = convertDateTimeInfosDto(dateInfos);
+        var candidateDateTimeConvertor = candidateDateTimeConvertorFactory.getInstance(roomUuid);
         var candidateDateTimes = candidateDateTimeConvertor.convert(dateTimeInfosDto);
         candidateDateTimes.forEach(candidateDateTime -> candidateDateTime.makeEntity(adjustmentResult));
 
         candidateDateTimeRepository.saveAll(candidateDateTimes);
-        adjustmentResult.replace(candidateDateTimes);
+        return candidateDateTimes;
+    }
+
+    private List<List<LocalDate>> groupConsecutiveDates(List<LocalDate> sortedDates) {
+        List<List<LocalDate>> groups = new ArrayList<>();
+        for (LocalDate date : sortedDates) {
+            if (groups.isEmpty() || !getLast(groups).plusDays(1).isEqual(date)) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(groups.size() - 1).add(date);
+        }
+        return groups;
+    }
+
+    private LocalDate getLast(List<List<LocalDate>> groups) {
+        List<LocalDate> dates = groups.get(groups.size() - 1);
+        return dates.get(dates.size() - 1);
+    }
+
+    private List<DateInfo> getDateInfosBetween(List<DateInfo> dateInfos, LocalDate startDate, LocalDate endDate) {
+        return dateInfos.stream()
+                .filter(dateInfo -> !dateInfo.getDate().isBefore(startDate) && !dateInfo.getDate().isAfter(endDate))
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasTime(List<DateInfo> dateInfos) {
+        return dateInfos.stream()
+                .flatMap(dateInfo -> dateInfo.getTimeInfos().stream())
+                .anyMatch(TimeInfo::hasTime);
+    }
+
+    // 끝 시간은 포함하지 않으므로 0시에 끝나는 후보 시간의 마지막 날짜는 전날이다.
+    private LocalDate getLastDate(LocalDateTime endDateTime) {
+        if (endDateTime.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            return endDateTime.toLocalDate().minusDays(1);
+        }
+        return endDateTime.toLocalDate();
+    }
+
+    private LocalDate min(LocalDate date, LocalDate other) {
+        if (other.isBefore(date)) {
+            return other;
+        }
+        return date;
+    }
+
+    private LocalDate max(LocalDate date, LocalDate other) {
+        if (other.isAfter(date)) {
+            return other;
+        }
+        return date;
     }
 
     private AdjustmentResult getByRoomUuid(String roomUuid) {
@@ -51,6 +157,17 @@ public class AdjustmentResultReplaceService {
                 .orElseThrow(() -> new NotFoundException("roomUuid에 해당하는 조율 결과가 없습니다."));
     }
 
+    private long getTimeTableVersion(String roomUuid) {
+        return timeTableRepository.findVersionByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+    }
+
+    private List<DateInfo> getDateInfos(String roomUuid) {
+        return timeTableRepository.findByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."))
+                .getDateInfos();
+    }
+
     private List<DateTimeInfoDto> convertDateTimeInfosDto(List<DateInfo> dateInfos) {
         List<DateTimeInfoDto> dateTimeInfosDto = new ArrayList<>();
         for (DateInfo dateInfo : dateInfos) {
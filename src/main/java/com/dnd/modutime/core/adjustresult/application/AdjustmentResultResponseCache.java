@@ -0,0 +1,145 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultCacheStatsResponse;
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
+import com.dnd.modutime.core.timeblock.application.ParticipantCreationEvent;
+import com.dnd.modutime.core.timeblock.application.ParticipantsCreationEvent;
+import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 일부 참여자의 조율 결과를 (roomUuid, TimeTable version, AdjustmentResult version, 정렬된 참여자 이름, 정렬 기준, offset, limit) 별로 보관한다.
+// 무효화 이벤트는 변경을 커밋한 서버에서만 받으므로 DB에서 읽은 두 version을 키에 넣는다.
+// 다른 서버에서 시간이 바뀌거나(TimeTable version) 참여자가 추가되어도(AdjustmentResult version) 이전 결과를 돌려주지 않는다.
+// 방은 최대 maxRoomSize개, 방 하나의 결과는 최대 maxEntrySizePerRoom개까지 LRU로 보관한다.
+@Component
+public class AdjustmentResultResponseCache {
+
+    private final int maxRoomSize;
+    private final int maxEntrySizePerRoom;
+    private final Map<String, Map<String, AdjustmentResultResponse>> responsesByRoomUuid;
+
+    // 무효화가 일어날 때마다 증가한다. 조회 도중 무효화가 있었다면 조회 결과를 캐시에 넣지 않는다.
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private int entrySize;
+
+    public AdjustmentResultResponseCache(@Value("${modutime.adjustment-result-cache.max-room-size:1000}") int maxRoomSize,
+                                         @Value("${modutime.adjustment-result-cache.max-entry-size-per-room:20}") int maxEntrySizePerRoom) {
+        validateSize(maxRoomSize);
+        validateSize(maxEntrySizePerRoom);
+        this.maxRoomSize = maxRoomSize;
+        this.maxEntrySizePerRoom = maxEntrySizePerRoom;
+        this.responsesByRoomUuid = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, AdjustmentResultResponse>> eldest) {
+                if (size() > AdjustmentResultResponseCache.this.maxRoomSize) {
+                    evictionCount += eldest.getValue().size();
+                    entrySize -= eldest.getValue().size();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private void validateSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    public AdjustmentResultResponse getOrLoad(String roomUuid,
+                                              long timeTableVersion,
+                                              long adjustmentResultVersion,
+                                              List<String> names,
+                                              CandidateDateTimeSortStandard candidateDateTimeSortStandard,
+                                              int offset,
+                                              int limit,
+                                              Supplier<AdjustmentResultResponse> loader) {
+        String key = toKey(timeTableVersion, adjustmentResultVersion, names, candidateDateTimeSortStandard, offset, limit);
+        long loadingGeneration;
+        synchronized (this) {
+            Map<String, AdjustmentResultResponse> responses = responsesByRoomUuid.get(roomUuid);
+            AdjustmentResultResponse response = responses == null ? null : responses.get(key);
+            if (response != null) {
+                hitCount++;
+                return response;
+            }
+            missCount++;
+            loadingGeneration = generation;
+        }
+        AdjustmentResultResponse response = loader.get();
+        synchronized (this) {
+            if (loadingGeneration == generation) {
+                put(roomUuid, key, response);
+            }
+        }
+        return response;
+    }
+
+    private void put(String roomUuid, String key, AdjustmentResultResponse response) {
+        Map<String, AdjustmentResultResponse> responses = responsesByRoomUuid.computeIfAbsent(roomUuid,
+                ignored -> new LinkedHashMap<>(16, 0.75f, true));
+        if (responses.put(key, response) != null) {
+            return;
+        }
+        entrySize++;
+        if (responses.size() > maxEntrySizePerRoom) {
+            String eldestKey = responses.keySet().iterator().next();
+            responses.remove(eldestKey);
+            entrySize--;
+            evictionCount++;
+        }
+    }
+
+    // 이름 순서가 달라도 같은 결과이므로 정렬해서 키를 만든다.
+    private String toKey(long timeTableVersion,
+                         long adjustmentResultVersion,
+                         List<String> names,
+                         CandidateDateTimeSortStandard candidateDateTimeSortStandard,
+                         int offset,
+                         int limit) {
+        List<String> sortedNames = new ArrayList<>(names);
+        sortedNames.sort(null);
+        return timeTableVersion + ":" + adjustmentResultVersion + ":" + candidateDateTimeSortStandard + ":" + offset + ":" + limit + ":" + String.join("\u0000", sortedNames);
+    }
+
+    public synchronized void evict(String roomUuid) {
+        generation++;
+        Map<String, AdjustmentResultResponse> responses = responsesByRoomUuid.remove(roomUuid);
+        if (responses != null) {
+            entrySize -= responses.size();
+        }
+    }
+
+    // 같은 서버의 변경은 키가 바뀌기 전에 오래된 결과를 바로 지운다.
+    @TransactionalEventListener
+    public void invalidate(TimeTableReplaceEvent event) {
+        evict(event.getRoomUuid());
+    }
+
+    // 참여자가 추가되면 불가능한 참여자 목록이 달라진다.
+    @TransactionalEventListener
+    public void invalidate(ParticipantCreationEvent event) {
+        evict(event.getRoomUuid());
+    }
+
+    @TransactionalEventListener
+    public void invalidate(ParticipantsCreationEvent event) {
+        evict(event.getRoomUuid());
+    }
+
+    public synchronized AdjustmentResultCacheStatsResponse getStats() {
+        return new AdjustmentResultCacheStatsResponse(hitCount, missCount, evictionCount, responsesByRoomUuid.size(),
+                entrySize, maxRoomSize, maxEntrySizePerRoom);
+    }
+}
@@ -2,31 +2,103 @@ package com.dnd.modutime.core.adjustresult.application;
 
 import com.dnd.modutime.core.adjustresult.util.executor.AdjustmentResultExecutorFactory;
 import com.dnd.modutime.core.adjustresult.util.executor.AdjustmentResultResponseGenerator;
+import com.dnd.modutime.core.adjustresult.util.executor.AvailabilityWindowResponseGenerator;
 import com.dnd.modutime.core.adjustresult.domain.AdjustmentResult;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
 import com.dnd.modutime.core.adjustresult.repository.AdjustmentResultRepository;
+import com.dnd.modutime.core.adjustresult.repository.CandidateDateTimeRepository;
 import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
+import com.dnd.modutime.core.timeblock.application.ParticipantCreationEvent;
+import com.dnd.modutime.core.timeblock.application.ParticipantsCreationEvent;
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import com.dnd.modutime.exception.NotFoundException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class AdjustmentResultService {
 
+    private static final int MAX_LIMIT = 50;
+    // 뒤쪽 페이지일수록 DB와 정렬 힙이 앞의 후보 시간을 모두 거쳐야 하므로 offset도 제한한다.
+    private static final int MAX_OFFSET = 10_000;
+
     private final AdjustmentResultRepository adjustmentResultRepository;
+    private final CandidateDateTimeRepository candidateDateTimeRepository;
     private final AdjustmentResultExecutorFactory adjustmentResultExecutorFactory;
+    private final AvailabilityWindowResponseGenerator availabilityWindowResponseGenerator;
+    private final TimeTableRepository timeTableRepository;
 
     @Transactional(readOnly = true)
     public AdjustmentResultResponse getByRoomUuidAndSortedAndNames(String roomUuid,
                                                                    String sorted,
-                                                                   List<String> names) {
+                                                                   List<String> names,
+                                                                   int offset,
+                                                                   int limit) {
+        validatePage(offset, limit);
         AdjustmentResultResponseGenerator adjustmentResultResponseGenerator = adjustmentResultExecutorFactory.getInstance(roomUuid, names);
-        return adjustmentResultResponseGenerator.generate(roomUuid, CandidateDateTimeSortStandard.getByValue(sorted), names);
+        return adjustmentResultResponseGenerator.generate(roomUuid, CandidateDateTimeSortStandard.getByValue(sorted), names,
+                offset, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public AdjustmentResultResponse getWindowsByRoomUuid(String roomUuid,
+                                                         String sorted,
+                                                         List<String> names,
+                                                         String minDuration,
+                                                         Integer minParticipants,
+                                                         int offset,
+                                                         int limit) {
+        validatePage(offset, limit);
+        return availabilityWindowResponseGenerator.generate(roomUuid, CandidateDateTimeSortStandard.getByValue(sorted), names,
+                AvailabilityWindowCondition.of(minDuration, minParticipants), offset, limit);
+    }
+
+    private void validatePage(int offset, int limit) {
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("offset은 0 이상 " + MAX_OFFSET + " 이하여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public AdjustmentResultVersion getVersion(String roomUuid) {
+        long currentTimeTableVersion = timeTableRepository.findVersionByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+        AdjustmentResult adjustmentResult = adjustmentResultRepository.findByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("roomUuid에 해당하는 조율 결과가 없습니다."));
+        return new AdjustmentResultVersion(adjustmentResult.getVersion(), adjustmentResult.getTimeTableVersion(),
+                currentTimeTableVersion);
+    }
+
+    // 정렬 기준 컬럼이 추가되기 전에 저장된 후보 시간의 값을 채운다. 후보 시간에는 항상 참여자가 1명 이상 있다.
+    public void migrateSortKeys(Long adjustmentResultId) {
+        candidateDateTimeRepository.findAllByAdjustmentResultIdAndParticipantSize(adjustmentResultId, 0)
+                .forEach(CandidateDateTime::refreshSortKeys);
     }
 
     public void create(String roomUuid) {
         adjustmentResultRepository.save(new AdjustmentResult(roomUuid, List.of()));
     }
+
+    // 참여자가 추가되면 응답의 불가능한 참여자 목록이 달라지므로 version을 올린다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener
+    public void increaseVersion(ParticipantCreationEvent event) {
+        adjustmentResultRepository.increaseVersionByRoomUuid(event.getRoomUuid());
+    }
+
+    // 일괄 등록은 참여자 수와 상관없이 version을 한 번만 올린다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener
+    public void increaseVersion(ParticipantsCreationEvent event) {
+        adjustmentResultRepository.increaseVersionByRoomUuid(event.getRoomUuid());
+    }
 }
@@ -0,0 +1,25 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+// 조율 결과의 version과 조율 결과를 계산할 때 읽은 TimeTable version, 현재 TimeTable version
+public class AdjustmentResultVersion {
+
+    private final long version;
+    private final long computedTimeTableVersion;
+    private final long currentTimeTableVersion;
+
+    public AdjustmentResultVersion(long version, long computedTimeTableVersion, long currentTimeTableVersion) {
+        this.version = version;
+        this.computedTimeTableVersion = computedTimeTableVersion;
+        this.currentTimeTableVersion = currentTimeTableVersion;
+    }
+
+    // TimeTable에서 바로 계산하는 조회도 있으므로 현재 TimeTable version을 함께 넣는다.
+    public String getETag() {
+        return version + "-" + currentTimeTableVersion;
+    }
+
+    // 조율 결과가 아직 현재 TimeTable로 다시 계산되지 않았으면 ETag가 같아도 304를 보내지 않는다.
+    public boolean isUpToDate() {
+        return computedTimeTableVersion == currentTimeTableVersion;
+    }
+}
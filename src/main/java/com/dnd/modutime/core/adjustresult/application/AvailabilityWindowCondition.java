@@ -0,0 +1,65 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 최소 길이(minDuration)와 최소 참여자 수(minParticipants)를 만족하는 구간 조회 조건
+public class AvailabilityWindowCondition {
+
+    // "90m", "2h", "1h30m" 또는 분 단위 숫자("90")
+    private static final Pattern DURATION_PATTERN = Pattern.compile("^(?:(\\d{1,2})h)?(?:(\\d{1,4})m?)?$");
+    private static final int MAX_DURATION_MINUTES = 24 * 60;
+    private static final int DEFAULT_MIN_PARTICIPANTS = 1;
+
+    private final int minDurationMinutes;
+    private final int minParticipants;
+
+    public AvailabilityWindowCondition(int minDurationMinutes, int minParticipants) {
+        validateMinDuration(minDurationMinutes);
+        validateMinParticipants(minParticipants);
+        this.minDurationMinutes = minDurationMinutes;
+        this.minParticipants = minParticipants;
+    }
+
+    public static boolean isRequested(String minDuration, Integer minParticipants) {
+        return minDuration != null || minParticipants != null;
+    }
+
+    public static AvailabilityWindowCondition of(String minDuration, Integer minParticipants) {
+        return new AvailabilityWindowCondition(
+                minDuration == null ? AvailableDateTime.SLOT_MINUTES : parseMinutes(minDuration),
+                minParticipants == null ? DEFAULT_MIN_PARTICIPANTS : minParticipants);
+    }
+
+    private static int parseMinutes(String minDuration) {
+        Matcher matcher = DURATION_PATTERN.matcher(minDuration.trim());
+        if (minDuration.isBlank() || !matcher.matches()) {
+            throw new IllegalArgumentException("minDuration은 90m, 2h, 1h30m 형식이어야 합니다.");
+        }
+        int hours = matcher.group(1) == null ? 0 : Integer.parseInt(matcher.group(1));
+        int minutes = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+        return hours * 60 + minutes;
+    }
+
+    private void validateMinDuration(int minDurationMinutes) {
+        if (minDurationMinutes < 1 || minDurationMinutes > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("minDuration은 1분 이상 24시간 이하여야 합니다.");
+        }
+    }
+
+    private void validateMinParticipants(int minParticipants) {
+        if (minParticipants < 1) {
+            throw new IllegalArgumentException("minParticipants는 1 이상이어야 합니다.");
+        }
+    }
+
+    // 30분 슬롯 단위로 올림한 구간 길이
+    public int getWindowSlotSize() {
+        return (minDurationMinutes + AvailableDateTime.SLOT_MINUTES - 1) / AvailableDateTime.SLOT_MINUTES;
+    }
+
+    public int getMinParticipants() {
+        return minParticipants;
+    }
+}
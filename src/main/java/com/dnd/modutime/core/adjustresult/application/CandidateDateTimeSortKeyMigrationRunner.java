@@ -0,0 +1,25 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import com.dnd.modutime.core.adjustresult.repository.AdjustmentResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 CandidateDateTime의 participant_size, duration_seconds를 참여자 이름과 시작/끝 시간으로 채운다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "modutime.candidate-date-time.migrate-sort-keys", havingValue = "true")
+public class CandidateDateTimeSortKeyMigrationRunner implements ApplicationRunner {
+
+    private final AdjustmentResultRepository adjustmentResultRepository;
+    private final AdjustmentResultService adjustmentResultService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (Long adjustmentResultId : adjustmentResultRepository.findAllIds()) {
+            adjustmentResultService.migrateSortKeys(adjustmentResultId);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+// 한 방에서 아직 반영하지 않은 변경을 모은다. AdjustmentResultRecomputeQueue의 락 안에서만 사용한다.
+class RoomRecompute {
+
+    private final TreeSet<LocalDate> changedDates = new TreeSet<>();
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    private boolean allChanged;
+    private int requestCount;
+    private int failureCount;
+    private boolean scheduled;
+    private boolean running;
+
+    void merge(List<LocalDate> dates, CompletableFuture<Void> future) {
+        requestCount++;
+        futures.add(future);
+        if (dates == null) {
+            allChanged = true;
+            changedDates.clear();
+            return;
+        }
+        if (!allChanged) {
+            changedDates.addAll(dates);
+        }
+    }
+
+    // 실패한 변경은 요청 수를 늘리지 않고 다시 모은다.
+    void restore(Target target) {
+        futures.addAll(target.getFutures());
+        if (target.isAllChanged()) {
+            allChanged = true;
+            changedDates.clear();
+        } else if (!allChanged) {
+            changedDates.addAll(target.getChangedDates());
+        }
+        failureCount++;
+    }
+
+    Target drain() {
+        Target target = new Target(allChanged, new ArrayList<>(changedDates), requestCount, new ArrayList<>(futures));
+        allChanged = false;
+        changedDates.clear();
+        futures.clear();
+        requestCount = 0;
+        return target;
+    }
+
+    boolean hasPending() {
+        return allChanged || !changedDates.isEmpty();
+    }
+
+    int getFailureCount() {
+        return failureCount;
+    }
+
+    void resetFailureCount() {
+        failureCount = 0;
+    }
+
+    boolean isScheduled() {
+        return scheduled;
+    }
+
+    void setScheduled(boolean scheduled) {
+        this.scheduled = scheduled;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    static class Target {
+
+        private final boolean allChanged;
+        private final List<LocalDate> changedDates;
+        private final int requestCount;
+        private final List<CompletableFuture<Void>> futures;
+
+        Target(boolean allChanged,
+               List<LocalDate> changedDates,
+               int requestCount,
+               List<CompletableFuture<Void>> futures) {
+            this.allChanged = allChanged;
+            this.changedDates = changedDates;
+            this.requestCount = requestCount;
+            this.futures = futures;
+        }
+
+        boolean isAllChanged() {
+            return allChanged;
+        }
+
+        List<LocalDate> getChangedDates() {
+            return changedDates;
+        }
+
+        int getRequestCount() {
+            return requestCount;
+        }
+
+        List<CompletableFuture<Void>> getFutures() {
+            return futures;
+        }
+    }
+}
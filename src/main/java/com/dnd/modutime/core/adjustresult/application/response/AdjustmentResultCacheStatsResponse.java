@@ -0,0 +1,20 @@
+package com.dnd.modutime.core.adjustresult.application.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AdjustmentResultCacheStatsResponse {
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private int roomSize;
+    private int entrySize;
+    private int maxRoomSize;
+    private int maxEntrySizePerRoom;
+}
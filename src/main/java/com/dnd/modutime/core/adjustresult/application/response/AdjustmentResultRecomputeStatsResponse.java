@@ -0,0 +1,21 @@
+package com.dnd.modutime.core.adjustresult.application.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AdjustmentResultRecomputeStatsResponse {
+
+    private int queueSize;
+    private int runningSize;
+    private int staleRoomSize;
+    private long requestCount;
+    private long executionCount;
+    private long coalescedCount;
+    private long failureCount;
+    private double coalescingRatio;
+}
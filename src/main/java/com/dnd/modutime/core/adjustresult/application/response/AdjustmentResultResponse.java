@@ -23,10 +23,17 @@ public class AdjustmentResultResponse {
     @JsonProperty(value = "candidateTimes")
     private List<CandidateDateTimeResponse> candidateDateTimeResponse;
 
-    public static AdjustmentResultResponse from(List<CandidateDateTime> candidateDateTimes, Participants participants) {
+    private boolean hasNext;
+
+    // 다음 페이지가 있는지 알기 위해 limit보다 하나 더 많은 후보 시간을 받는다.
+    public static AdjustmentResultResponse of(List<CandidateDateTime> candidateDateTimes,
+                                              int limit,
+                                              Participants participants) {
         return new AdjustmentResultResponse(candidateDateTimes.stream()
+                .limit(limit)
                 .map(it -> getCandidateDateTimeResponse(it, participants))
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList()),
+                candidateDateTimes.size() > limit);
     }
 
     private static CandidateDateTimeResponse getCandidateDateTimeResponse(CandidateDateTime candidateDateTime, Participants participants) {
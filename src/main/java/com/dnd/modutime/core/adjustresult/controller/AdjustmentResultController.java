@@ -1,15 +1,20 @@
 package com.dnd.modutime.core.adjustresult.controller;
 
 import com.dnd.modutime.core.adjustresult.application.AdjustmentResultService;
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultVersion;
+import com.dnd.modutime.core.adjustresult.application.AvailabilityWindowCondition;
 import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/room/{roomUuid}")
@@ -21,10 +26,25 @@ public class AdjustmentResultController {
     @GetMapping("/adjustment-result")
     public ResponseEntity<AdjustmentResultResponse> getAdjustmentResult(@PathVariable String roomUuid,
                                                                         @RequestParam(defaultValue = "fast") String sorted,
-                                                                        @RequestParam(value = "name", defaultValue = "") List<String> names) {
-        AdjustmentResultResponse adjustmentResultResponse = adjustmentResultService.getByRoomUuidAndSortedAndNames(
-                roomUuid, sorted, names
-        );
-        return ResponseEntity.ok(adjustmentResultResponse);
+                                                                        @RequestParam(value = "name", defaultValue = "") List<String> names,
+                                                                        @RequestParam(defaultValue = "0") int offset,
+                                                                        @RequestParam(defaultValue = "5") int limit,
+                                                                        @RequestParam(required = false) String minDuration,
+                                                                        @RequestParam(required = false) Integer minParticipants,
+                                                                        WebRequest webRequest) {
+        AdjustmentResultVersion adjustmentResultVersion = adjustmentResultService.getVersion(roomUuid);
+        String eTag = adjustmentResultVersion.getETag();
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && adjustmentResultVersion.isUpToDate()
+                && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        boolean isWindowQuery = AvailabilityWindowCondition.isRequested(minDuration, minParticipants);
+        AdjustmentResultResponse adjustmentResultResponse = isWindowQuery
+                ? adjustmentResultService.getWindowsByRoomUuid(roomUuid, sorted, names, minDuration, minParticipants, offset, limit)
+                : adjustmentResultService.getByRoomUuidAndSortedAndNames(roomUuid, sorted, names, offset, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(adjustmentResultResponse);
     }
 }
@@ -33,6 +33,15 @@ public class AdjustmentResult implements Auditable {
     @OneToMany(mappedBy = "adjustmentResult", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
     private List<CandidateDateTime> candidateDateTimes;
 
+    // 후보 시간이 교체되거나 참여자가 추가될 때마다 1씩 증가한다.
+    // 동시에 고쳐도 같은 값이 나오지 않도록 AdjustmentResultRepository.increaseVersionByRoomUuid로만 올리고 엔티티로는 쓰지 않는다.
+    @Column(nullable = false, updatable = false)
+    private long version;
+
+    // 후보 시간을 계산할 때 읽은 TimeTable의 version. version과 함께 increaseVersionByRoomUuid로만 바꾼다.
+    @Column(nullable = false, updatable = false)
+    private long timeTableVersion;
+
     private String createdBy;
     private LocalDateTime createdAt;
     private String modifiedBy;
@@ -57,6 +66,14 @@ public class AdjustmentResult implements Auditable {
         return roomUuid;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public long getTimeTableVersion() {
+        return timeTableVersion;
+    }
+
     public boolean isConfirmation() {
         return confirmation;
     }
@@ -13,16 +13,24 @@ import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_cdt_fast_first", columnList = "adjustment_result_id, participant_size, start_date_time"),
+        @Index(name = "idx_cdt_long_first",
+                columnList = "adjustment_result_id, participant_size, duration_seconds, start_date_time")
+})
 public class CandidateDateTime implements Auditable {
 
     @Id
@@ -44,6 +52,14 @@ public class CandidateDateTime implements Auditable {
     @Column(nullable = false)
     private Boolean isConfirmed;
 
+    // 정렬 기준을 DB에서 인덱스로 처리하기 위해 저장한다.
+    @Column(nullable = false)
+    private int participantSize;
+
+    @Column(nullable = false)
+    private long durationSeconds;
+
+    @BatchSize(size = 100)
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.EAGER)
     @JoinColumn(
             name = "candidate_date_time_id", nullable = false, updatable = false,
@@ -66,6 +82,12 @@ public class CandidateDateTime implements Auditable {
         this.endDateTime = endDateTime;
         this.isConfirmed = isConfirmed;
         this.participantNames = participantNames;
+        refreshSortKeys();
+    }
+
+    public void refreshSortKeys() {
+        this.participantSize = participantNames.size();
+        this.durationSeconds = ChronoUnit.SECONDS.between(startDateTime, endDateTime);
     }
 
     public long calculateTerm() {
@@ -78,7 +100,11 @@ public class CandidateDateTime implements Auditable {
     }
 
     public int getParticipantSize() {
-        return participantNames.size();
+        return participantSize;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
     }
 
     public Long getId() {
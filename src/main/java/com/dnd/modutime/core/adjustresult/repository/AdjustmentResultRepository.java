@@ -1,9 +1,27 @@
 package com.dnd.modutime.core.adjustresult.repository;
 
 import com.dnd.modutime.core.adjustresult.domain.AdjustmentResult;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AdjustmentResultRepository extends JpaRepository<AdjustmentResult, Long> {
     Optional<AdjustmentResult> findByRoomUuid(String roomUuid);
+
+    @Query("select a.id from AdjustmentResult a")
+    List<Long> findAllIds();
+
+    @Query("select a.version from AdjustmentResult a where a.roomUuid = :roomUuid")
+    Optional<Long> findVersionByRoomUuid(@Param("roomUuid") String roomUuid);
+
+    @Modifying
+    @Query("update AdjustmentResult a set a.version = a.version + 1 where a.roomUuid = :roomUuid")
+    void increaseVersionByRoomUuid(@Param("roomUuid") String roomUuid);
+
+    @Modifying
+    @Query("update AdjustmentResult a set a.version = a.version + 1, a.timeTableVersion = :timeTableVersion where a.roomUuid = :roomUuid")
+    void increaseVersionByRoomUuid(@Param("roomUuid") String roomUuid, @Param("timeTableVersion") long timeTableVersion);
 }
@@ -1,8 +1,31 @@
 package com.dnd.modutime.core.adjustresult.repository;
 
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CandidateDateTimeRepository extends JpaRepository<CandidateDateTime, Long> {
     void deleteAllByAdjustmentResultId(Long adjustmentResultId);
+
+    @Query("select c from CandidateDateTime c where c.adjustmentResult.id = :adjustmentResultId "
+            + "order by c.participantSize desc, c.startDateTime asc")
+    List<CandidateDateTime> findFastFirstByAdjustmentResultId(@Param("adjustmentResultId") Long adjustmentResultId,
+                                                              Pageable pageable);
+
+    @Query("select c from CandidateDateTime c where c.adjustmentResult.id = :adjustmentResultId "
+            + "order by c.participantSize desc, c.durationSeconds desc, c.startDateTime asc")
+    List<CandidateDateTime> findLongFirstByAdjustmentResultId(@Param("adjustmentResultId") Long adjustmentResultId,
+                                                              Pageable pageable);
+
+    List<CandidateDateTime> findAllByAdjustmentResultIdAndParticipantSize(Long adjustmentResultId, int participantSize);
+
+    @Query("select c from CandidateDateTime c "
+            + "where c.adjustmentResult.id = :adjustmentResultId and c.startDateTime <= :to and c.endDateTime >= :from")
+    List<CandidateDateTime> findAllByAdjustmentResultIdAndDateTimeBetween(@Param("adjustmentResultId") Long adjustmentResultId,
+                                                                          @Param("from") LocalDateTime from,
+                                                                          @Param("to") LocalDateTime to);
 }
@@ -3,12 +3,19 @@ package com.dnd.modutime.core.adjustresult.util.convertor;
 import com.dnd.modutime.core.adjustresult.application.DateTimeInfoDto;
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTimeParticipantName;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
+// 이어지는 30분 슬롯 중 참여자 구성이 같은 구간을 하나의 후보 시간으로 묶는다.
+// 슬롯은 번호로, 참여자 구성은 이름 인덱스의 비트셋으로 바꿔서 비교한다.
 @Component
 public class DateTimeRoomConvertor implements CandidateDateTimeConvertor {
 
@@ -18,74 +25,66 @@ public class DateTimeRoomConvertor implements CandidateDateTimeConvertor {
         if (dateTimeInfosDto.isEmpty()) {
             return candidateDateTimes;
         }
-        DateTimeInfoDto firstDateTimeInfoDto = dateTimeInfosDto.get(0);
-
-        LocalDateTime preStartDateTime = firstDateTimeInfoDto.getDateTime();
-        LocalDateTime preEndDateTime = preStartDateTime.plusMinutes(30);
-        List<String> preParticipantNames = firstDateTimeInfoDto.getParticipantNames();
+        Map<String, Integer> participantIndexes = new HashMap<>();
+        int runStart = 0;
+        long preSlot = toSlot(dateTimeInfosDto.get(0));
+        BitSet preParticipants = toBitSet(dateTimeInfosDto.get(0).getParticipantNames(), participantIndexes);
 
         for (int i = 1; i < dateTimeInfosDto.size(); i++) {
             DateTimeInfoDto currentDateTimeInfoDto = dateTimeInfosDto.get(i);
-
+            long currentSlot = toSlot(currentDateTimeInfoDto);
+            List<String> preParticipantNames = dateTimeInfosDto.get(i - 1).getParticipantNames();
             List<String> currentParticipantNames = currentDateTimeInfoDto.getParticipantNames();
-            LocalDateTime currentStartDateTime = currentDateTimeInfoDto.getDateTime();
 
-            if (isContinuousTime(preEndDateTime, currentStartDateTime, preParticipantNames, currentParticipantNames)) {
-                preEndDateTime = currentDateTimeInfoDto.getDateTime().plusMinutes(30);
+            // 같은 이름 목록 객체를 공유하는 경우(일부 참여자 조회)는 비트셋을 만들지 않는다.
+            BitSet currentParticipants = currentParticipantNames == preParticipantNames
+                    ? preParticipants
+                    : toBitSet(currentParticipantNames, participantIndexes);
+            if (currentSlot == preSlot + 1 && !preParticipants.isEmpty() && currentParticipants.equals(preParticipants)) {
+                preSlot = currentSlot;
                 continue;
             }
 
-            if (preParticipantNames.size() > 0) {
-                addCandidateTime(candidateDateTimes, preStartDateTime, preEndDateTime, preParticipantNames);
-            }
-
-            preStartDateTime = currentStartDateTime;
-            preEndDateTime = preStartDateTime.plusMinutes(30);
-            preParticipantNames = currentDateTimeInfoDto.getParticipantNames();
+            addCandidateTime(candidateDateTimes, dateTimeInfosDto, runStart, i - 1);
+            runStart = i;
+            preSlot = currentSlot;
+            preParticipants = currentParticipants;
         }
 
-        addCandidateTime(candidateDateTimes, preStartDateTime, preEndDateTime, preParticipantNames);
+        addCandidateTime(candidateDateTimes, dateTimeInfosDto, runStart, dateTimeInfosDto.size() - 1);
         return candidateDateTimes;
     }
 
-    private boolean isContinuousTime(LocalDateTime preStartDateTime,
-                                     LocalDateTime currentStartDateTime,
-                                     List<String> preParticipantNames,
-                                     List<String> currentParticipantNames) {
-
-        return isSameTime(preStartDateTime, currentStartDateTime) && isSameNames(preParticipantNames, currentParticipantNames);
-    }
-
-    private boolean isSameTime(LocalDateTime preStartDateTime, LocalDateTime currentStartDateTime) {
-        return preStartDateTime.isEqual(currentStartDateTime);
+    private long toSlot(DateTimeInfoDto dateTimeInfoDto) {
+        return dateTimeInfoDto.getDateTime().toEpochSecond(ZoneOffset.UTC) / AvailableDateTime.SLOT_SECONDS;
     }
 
-    private boolean isSameNames(List<String> preParticipantNames, List<String> currentParticipantNames) {
-        if (preParticipantNames.isEmpty()) {
-            return false;
-        }
-        return haveSameElements(preParticipantNames, currentParticipantNames);
-    }
-
-    private boolean haveSameElements(List<String> preParticipantNames, List<String> currentParticipantNames) {
-        if (currentParticipantNames.size() != preParticipantNames.size()) {
-            return false;
+    private BitSet toBitSet(List<String> participantNames, Map<String, Integer> participantIndexes) {
+        BitSet participants = new BitSet(participantIndexes.size() + participantNames.size());
+        for (String participantName : participantNames) {
+            Integer participantIndex = participantIndexes.get(participantName);
+            if (participantIndex == null) {
+                participantIndex = participantIndexes.size();
+                participantIndexes.put(participantName, participantIndex);
+            }
+            participants.set(participantIndex);
         }
-        return currentParticipantNames.containsAll(preParticipantNames);
+        return participants;
     }
 
     private void addCandidateTime(List<CandidateDateTime> candidateDateTimes,
-                                  LocalDateTime preStartDateTime,
-                                  LocalDateTime preEndDateTime,
-                                  List<String> preParticipantNames) {
-        if (preParticipantNames.isEmpty()) {
+                                  List<DateTimeInfoDto> dateTimeInfosDto,
+                                  int runStart,
+                                  int runEnd) {
+        List<String> participantNames = dateTimeInfosDto.get(runStart).getParticipantNames();
+        if (participantNames.isEmpty()) {
             return;
         }
-        candidateDateTimes.add(new CandidateDateTime(null, preStartDateTime, preEndDateTime, null,
-                preParticipantNames.stream()
+        LocalDateTime startDateTime = dateTimeInfosDto.get(runStart).getDateTime();
+        LocalDateTime endDateTime = dateTimeInfosDto.get(runEnd).getDateTime().plusMinutes(AvailableDateTime.SLOT_MINUTES);
+        candidateDateTimes.add(new CandidateDateTime(null, startDateTime, endDateTime, null,
+                participantNames.stream()
                         .map(CandidateDateTimeParticipantName::new)
                         .collect(Collectors.toList())));
     }
 }
-
-
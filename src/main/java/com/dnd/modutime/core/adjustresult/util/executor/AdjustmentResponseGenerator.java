@@ -5,41 +5,50 @@ import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultR
 import com.dnd.modutime.core.adjustresult.domain.AdjustmentResult;
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
 import com.dnd.modutime.core.adjustresult.repository.AdjustmentResultRepository;
-import com.dnd.modutime.core.adjustresult.util.sorter.CandidateDateTimesSorter;
-import com.dnd.modutime.core.adjustresult.util.sorter.CandidateDateTimesSorterFactory;
+import com.dnd.modutime.core.adjustresult.repository.CandidateDateTimeRepository;
+import com.dnd.modutime.core.adjustresult.repository.OffsetPageRequest;
 import com.dnd.modutime.core.participant.domain.Participants;
 import com.dnd.modutime.core.participant.repository.ParticipantRepository;
 import com.dnd.modutime.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class AdjustmentResponseGenerator implements AdjustmentResultResponseGenerator {
 
-    private static final int EXPOSURE_SIZE = 5;
-
     private final AdjustmentResultRepository adjustmentResultRepository;
-    private final CandidateDateTimesSorterFactory candidateDateTimesSorterFactory;
+    private final CandidateDateTimeRepository candidateDateTimeRepository;
     private final ParticipantRepository participantRepository;
 
     @Override
     public AdjustmentResultResponse generate(String roomUuid,
                                              CandidateDateTimeSortStandard candidateDateTimeSortStandard,
-                                             List<String> names) {
+                                             List<String> names,
+                                             int offset,
+                                             int limit) {
         AdjustmentResult adjustmentResult = getAdjustmentResultByRoomUuid(roomUuid);
-        List<CandidateDateTime> candidateDateTimes = adjustmentResult.getCandidateDateTimes();
-        CandidateDateTimesSorter candidateDateTimesSorter = candidateDateTimesSorterFactory.getInstance(candidateDateTimeSortStandard);
-        candidateDateTimesSorter.sort(candidateDateTimes);
+        // 다음 페이지가 있는지 알기 위해 limit보다 하나 더 조회한다.
+        List<CandidateDateTime> candidateDateTimes = findCandidateDateTimes(adjustmentResult, candidateDateTimeSortStandard,
+                OffsetPageRequest.of(offset, limit + 1));
         var participants = participantRepository.findByRoomUuid(roomUuid);
-        return AdjustmentResultResponse.from(candidateDateTimes.stream()
-                        .limit(EXPOSURE_SIZE)
-                        .collect(Collectors.toList()),
-                new Participants(participants)
-        );
+        return AdjustmentResultResponse.of(candidateDateTimes, limit, new Participants(participants));
+    }
+
+    // 정렬 기준 컬럼의 인덱스를 타고 offset부터 필요한 개수만 조회한다.
+    private List<CandidateDateTime> findCandidateDateTimes(AdjustmentResult adjustmentResult,
+                                                           CandidateDateTimeSortStandard candidateDateTimeSortStandard,
+                                                           Pageable pageable) {
+        if (candidateDateTimeSortStandard.isFast()) {
+            return candidateDateTimeRepository.findFastFirstByAdjustmentResultId(adjustmentResult.getId(), pageable);
+        }
+        if (candidateDateTimeSortStandard.isLong()) {
+            return candidateDateTimeRepository.findLongFirstByAdjustmentResultId(adjustmentResult.getId(), pageable);
+        }
+        throw new IllegalArgumentException("해당하는 정렬 기준이 없습니다.");
     }
 
     private AdjustmentResult getAdjustmentResultByRoomUuid(String roomUuid) {
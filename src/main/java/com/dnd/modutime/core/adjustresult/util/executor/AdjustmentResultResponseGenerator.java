@@ -8,5 +8,7 @@ public interface AdjustmentResultResponseGenerator {
 
     AdjustmentResultResponse generate(String roomUuid,
                                       CandidateDateTimeSortStandard candidateDateTimeSortStandard,
-                                      List<String> names);
+                                      List<String> names,
+                                      int offset,
+                                      int limit);
 }
@@ -0,0 +1,46 @@
+package com.dnd.modutime.core.adjustresult.util.executor;
+
+import com.dnd.modutime.core.adjustresult.application.AvailabilityWindowCondition;
+import com.dnd.modutime.core.adjustresult.application.CandidateDateTimeSortStandard;
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import com.dnd.modutime.core.adjustresult.util.sorter.CandidateDateTimesSorter;
+import com.dnd.modutime.core.adjustresult.util.sorter.CandidateDateTimesSorterFactory;
+import com.dnd.modutime.core.adjustresult.util.window.AvailabilityWindowFinder;
+import com.dnd.modutime.core.participant.domain.Participants;
+import com.dnd.modutime.core.participant.repository.ParticipantRepository;
+import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import com.dnd.modutime.exception.NotFoundException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 최소 길이와 최소 참여자 수 조건의 구간은 TimeTable의 슬롯에서 바로 계산한다.
+@Component
+@RequiredArgsConstructor
+public class AvailabilityWindowResponseGenerator {
+
+    private final TimeTableRepository timeTableRepository;
+    private final AvailabilityWindowFinder availabilityWindowFinder;
+    private final CandidateDateTimesSorterFactory candidateDateTimesSorterFactory;
+    private final ParticipantRepository participantRepository;
+
+    public AdjustmentResultResponse generate(String roomUuid,
+                                             CandidateDateTimeSortStandard candidateDateTimeSortStandard,
+                                             List<String> names,
+                                             AvailabilityWindowCondition condition,
+                                             int offset,
+                                             int limit) {
+        Participants participants = new Participants(participantRepository.findByRoomUuid(roomUuid));
+        if (!participants.containsAll(names)) {
+            throw new IllegalArgumentException("방에 존재하지 않는 이름이 있습니다.");
+        }
+        TimeTable timeTable = timeTableRepository.findByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+        List<CandidateDateTime> candidateDateTimes = availabilityWindowFinder.find(timeTable.getDateInfos(), condition, names);
+        CandidateDateTimesSorter candidateDateTimesSorter = candidateDateTimesSorterFactory.getInstance(candidateDateTimeSortStandard);
+        var selectedCandidateDateTimes = candidateDateTimesSorter.select(candidateDateTimes, offset, limit + 1);
+        return AdjustmentResultResponse.of(selectedCandidateDateTimes, limit, participants);
+    }
+}
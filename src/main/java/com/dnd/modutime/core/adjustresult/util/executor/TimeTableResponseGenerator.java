@@ -1,9 +1,11 @@
 package com.dnd.modutime.core.adjustresult.util.executor;
 
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultResponseCache;
 import com.dnd.modutime.core.adjustresult.application.CandidateDateTimeSortStandard;
 import com.dnd.modutime.core.adjustresult.application.DateTimeInfoDto;
 import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import com.dnd.modutime.core.adjustresult.repository.AdjustmentResultRepository;
 import com.dnd.modutime.core.adjustresult.util.convertor.CandidateDateTimeConvertor;
 import com.dnd.modutime.core.adjustresult.util.sorter.CandidateDateTimesSorter;
 import com.dnd.modutime.core.adjustresult.util.sorter.CandidateDateTimesSorterFactory;
@@ -11,39 +13,63 @@ import com.dnd.modutime.core.participant.domain.Participants;
 import com.dnd.modutime.core.participant.repository.ParticipantRepository;
 import com.dnd.modutime.core.room.util.CandidateDateTimeConvertorFactory;
 import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
 import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
 import com.dnd.modutime.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class TimeTableResponseGenerator implements AdjustmentResultResponseGenerator {
 
     private final TimeTableRepository timeTableRepository;
+    private final TimeTableMatrixRepository timeTableMatrixRepository;
     private final CandidateDateTimeConvertorFactory candidateDateTimeConvertorFactory;
     private final CandidateDateTimesSorterFactory candidateDateTimesSorterFactory;
     private final ParticipantRepository participantRepository;
+    private final AdjustmentResultResponseCache adjustmentResultResponseCache;
+    private final AdjustmentResultRepository adjustmentResultRepository;
 
     @Override
     public AdjustmentResultResponse generate(String roomUuid,
                                              CandidateDateTimeSortStandard candidateDateTimeSortStandard,
-                                             List<String> names) {
-        TimeTable timeTable = getTimeTableByRoomUuid(roomUuid);
-        List<DateTimeInfoDto> dateTimeInfosDto = timeTable.getDateTimeInfosDtoByParticipantNames(names);
+                                             List<String> names,
+                                             int offset,
+                                             int limit) {
+        List<String> sortedNames = new ArrayList<>(names);
+        sortedNames.sort(null);
+        // 계산에 쓰는 TimeTable과 참여자보다 새로운 version이 키가 되지 않도록 version을 먼저 읽는다.
+        long timeTableVersion = timeTableRepository.findVersionByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+        long adjustmentResultVersion = adjustmentResultRepository.findVersionByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("roomUuid에 해당하는 조율 결과가 없습니다."));
+        return adjustmentResultResponseCache.getOrLoad(roomUuid, timeTableVersion, adjustmentResultVersion, sortedNames, candidateDateTimeSortStandard, offset, limit,
+                () -> load(roomUuid, candidateDateTimeSortStandard, sortedNames, offset, limit));
+    }
+
+    private AdjustmentResultResponse load(String roomUuid,
+                                          CandidateDateTimeSortStandard candidateDateTimeSortStandard,
+                                          List<String> names,
+                                          int offset,
+                                          int limit) {
+        List<DateTimeInfoDto> dateTimeInfosDto = getDateTimeInfosDto(roomUuid, names);
         CandidateDateTimeConvertor candidateDateTimeConvertor = candidateDateTimeConvertorFactory.getInstance(roomUuid);
         List<CandidateDateTime> candidateDateTimes = candidateDateTimeConvertor.convert(dateTimeInfosDto);
         CandidateDateTimesSorter candidateDateTimesSorter = candidateDateTimesSorterFactory.getInstance(candidateDateTimeSortStandard);
-        candidateDateTimesSorter.sort(candidateDateTimes);
+        var selectedCandidateDateTimes = candidateDateTimesSorter.select(candidateDateTimes, offset, limit + 1);
         var participants = participantRepository.findByRoomUuid(roomUuid);
-        return AdjustmentResultResponse.from(candidateDateTimes.stream()
-                        .limit(5)
-                        .collect(Collectors.toList()),
-                new Participants(participants)
-        );
+        return AdjustmentResultResponse.of(selectedCandidateDateTimes, limit, new Participants(participants));
+    }
+
+    // TimeTableMatrix 한 행만 읽어 비트마스크로 계산하고, 아직 만들어지지 않은 방만 TimeTable을 읽는다.
+    private List<DateTimeInfoDto> getDateTimeInfosDto(String roomUuid, List<String> names) {
+        return timeTableMatrixRepository.findByRoomUuid(roomUuid)
+                .map(timeTableMatrix -> timeTableMatrix.getDateTimeInfosDtoByParticipantNames(names))
+                .orElseGet(() -> getTimeTableByRoomUuid(roomUuid).getDateTimeInfosDtoByParticipantNames(names));
     }
 
     private TimeTable getTimeTableByRoomUuid(String roomUuid) {
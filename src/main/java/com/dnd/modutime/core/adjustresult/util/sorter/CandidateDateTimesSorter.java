@@ -1,8 +1,40 @@
 package com.dnd.modutime.core.adjustresult.util.sorter;
 
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 public interface CandidateDateTimesSorter {
-    void sort(List<CandidateDateTime> candidateDateTimes);
+
+    Comparator<CandidateDateTime> getComparator();
+
+    default void sort(List<CandidateDateTime> candidateDateTimes) {
+        candidateDateTimes.sort(getComparator());
+    }
+
+    // 전체를 정렬하지 않고 offset + limit 크기의 힙으로 정렬 순서상 offset 번째부터 limit개를 고른다.
+    default List<CandidateDateTime> select(List<CandidateDateTime> candidateDateTimes, int offset, int limit) {
+        Comparator<CandidateDateTime> comparator = getComparator();
+        int size = offset + limit;
+        PriorityQueue<CandidateDateTime> heap = new PriorityQueue<>(Math.min(size, candidateDateTimes.size()) + 1,
+                comparator.reversed());
+        for (CandidateDateTime candidateDateTime : candidateDateTimes) {
+            if (heap.size() < size) {
+                heap.add(candidateDateTime);
+                continue;
+            }
+            if (comparator.compare(candidateDateTime, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidateDateTime);
+            }
+        }
+        List<CandidateDateTime> selected = new ArrayList<>(heap);
+        selected.sort(comparator);
+        if (offset >= selected.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(selected.subList(offset, selected.size()));
+    }
 }
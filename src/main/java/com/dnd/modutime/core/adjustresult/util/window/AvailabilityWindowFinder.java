@@ -0,0 +1,212 @@
+package com.dnd.modutime.core.adjustresult.util.window;
+
+import com.dnd.modutime.core.adjustresult.application.AvailabilityWindowCondition;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTimeParticipantName;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+// 슬라이딩 윈도우로 윈도우 길이만큼 연속으로 가능한 참여자가 minParticipants명 이상인 구간을 찾는다.
+// 슬롯이 들어오고 나갈 때 그 슬롯의 참여자 수만 갱신하고, 참여자 구성이 같은 윈도우는 하나로 합친다.
+@Component
+public class AvailabilityWindowFinder {
+
+    public List<CandidateDateTime> find(List<DateInfo> dateInfos,
+                                        AvailabilityWindowCondition condition,
+                                        List<String> requiredNames) {
+        List<CandidateDateTime> candidateDateTimes = new ArrayList<>();
+        for (DateInfo dateInfo : dateInfos) {
+            findByDateInfo(dateInfo, condition, requiredNames, candidateDateTimes);
+        }
+        return candidateDateTimes;
+    }
+
+    private void findByDateInfo(DateInfo dateInfo,
+                                AvailabilityWindowCondition condition,
+                                List<String> requiredNames,
+                                List<CandidateDateTime> candidateDateTimes) {
+        List<TimeInfo> timeInfos = new ArrayList<>(dateInfo.getTimeInfos());
+        if (timeInfos.isEmpty()) {
+            return;
+        }
+        timeInfos.sort(Comparator.comparing(TimeInfo::getTimeOrZeroTime));
+        // 날짜만 있는 방은 하루가 한 슬롯이므로 길이 조건은 항상 만족한다.
+        int windowSize = timeInfos.get(0).hasTime() ? condition.getWindowSlotSize() : 1;
+
+        List<String> participantNames = new ArrayList<>();
+        int[][] slotParticipants = toSlotParticipants(timeInfos, participantNames);
+        int[] requiredIndexes = toRequiredIndexes(requiredNames, participantNames);
+        if (requiredIndexes == null) {
+            return;
+        }
+
+        SlidingWindow window = new SlidingWindow(participantNames.size(), windowSize);
+        Run run = null;
+        int windowStart = 0;
+        for (int slot = 0; slot < timeInfos.size(); slot++) {
+            if (slot > windowStart && !isNextSlot(timeInfos.get(slot - 1), timeInfos.get(slot))) {
+                addCandidateDateTime(candidateDateTimes, dateInfo, timeInfos, participantNames, run);
+                run = null;
+                for (; windowStart < slot; windowStart++) {
+                    window.remove(slotParticipants[windowStart]);
+                }
+            }
+            if (slot - windowStart == windowSize) {
+                window.remove(slotParticipants[windowStart++]);
+            }
+            window.add(slotParticipants[slot]);
+            if (slot - windowStart + 1 < windowSize) {
+                continue;
+            }
+
+            BitSet attendees = getAttendeesOrNull(window, slotParticipants[windowStart], requiredIndexes,
+                    condition.getMinParticipants());
+            if (attendees != null && run != null && run.end == slot - 1 && run.attendees.equals(attendees)) {
+                run.end = slot;
+                continue;
+            }
+            addCandidateDateTime(candidateDateTimes, dateInfo, timeInfos, participantNames, run);
+            run = attendees == null ? null : new Run(windowStart, slot, attendees);
+        }
+        addCandidateDateTime(candidateDateTimes, dateInfo, timeInfos, participantNames, run);
+    }
+
+    private int[][] toSlotParticipants(List<TimeInfo> timeInfos, List<String> participantNames) {
+        Map<String, Integer> participantIndexes = new HashMap<>();
+        int[][] slotParticipants = new int[timeInfos.size()][];
+        for (int slot = 0; slot < timeInfos.size(); slot++) {
+            List<TimeInfoParticipantName> timeInfoParticipantNames = timeInfos.get(slot).getTimeInfoParticipantNames();
+            int[] indexes = new int[timeInfoParticipantNames.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                String name = timeInfoParticipantNames.get(i).getName();
+                Integer index = participantIndexes.get(name);
+                if (index == null) {
+                    index = participantNames.size();
+                    participantIndexes.put(name, index);
+                    participantNames.add(name);
+                }
+                indexes[i] = index;
+            }
+            slotParticipants[slot] = indexes;
+        }
+        return slotParticipants;
+    }
+
+    // 한 슬롯에도 없는 이름이 조건에 있으면 그 날짜에는 만족하는 구간이 없다.
+    private int[] toRequiredIndexes(List<String> requiredNames, List<String> participantNames) {
+        int[] requiredIndexes = new int[requiredNames.size()];
+        for (int i = 0; i < requiredIndexes.length; i++) {
+            requiredIndexes[i] = participantNames.indexOf(requiredNames.get(i));
+            if (requiredIndexes[i] < 0) {
+                return null;
+            }
+        }
+        return requiredIndexes;
+    }
+
+    private boolean isNextSlot(TimeInfo pre, TimeInfo current) {
+        return pre.hasTime() && current.hasTime() && pre.getTime().plusMinutes(AvailableDateTime.SLOT_MINUTES).equals(current.getTime());
+    }
+
+    // 윈도우 전체에 있는 참여자는 첫 슬롯에도 있으므로 첫 슬롯의 참여자만 확인한다.
+    private BitSet getAttendeesOrNull(SlidingWindow window,
+                                      int[] firstSlotParticipants,
+                                      int[] requiredIndexes,
+                                      int minParticipants) {
+        if (window.getFullCount() < minParticipants) {
+            return null;
+        }
+        for (int requiredIndex : requiredIndexes) {
+            if (!window.isFull(requiredIndex)) {
+                return null;
+            }
+        }
+        BitSet attendees = new BitSet();
+        for (int participantIndex : firstSlotParticipants) {
+            if (window.isFull(participantIndex)) {
+                attendees.set(participantIndex);
+            }
+        }
+        return attendees;
+    }
+
+    private void addCandidateDateTime(List<CandidateDateTime> candidateDateTimes,
+                                      DateInfo dateInfo,
+                                      List<TimeInfo> timeInfos,
+                                      List<String> participantNames,
+                                      Run run) {
+        if (run == null) {
+            return;
+        }
+        LocalDateTime startDateTime = dateInfo.getDate().atTime(timeInfos.get(run.start).getTimeOrZeroTime());
+        LocalDateTime endDateTime = startDateTime;
+        if (timeInfos.get(run.end).hasTime()) {
+            endDateTime = dateInfo.getDate().atTime(timeInfos.get(run.end).getTime()).plusMinutes(AvailableDateTime.SLOT_MINUTES);
+        }
+        List<CandidateDateTimeParticipantName> candidateDateTimeParticipantNames = new ArrayList<>();
+        for (int index = run.attendees.nextSetBit(0); index >= 0; index = run.attendees.nextSetBit(index + 1)) {
+            candidateDateTimeParticipantNames.add(new CandidateDateTimeParticipantName(participantNames.get(index)));
+        }
+        candidateDateTimes.add(new CandidateDateTime(null, startDateTime, endDateTime, null,
+                candidateDateTimeParticipantNames));
+    }
+
+    private static class SlidingWindow {
+
+        private final int[] counts;
+        private final int size;
+        private int fullCount;
+
+        private SlidingWindow(int participantSize, int size) {
+            this.counts = new int[participantSize];
+            this.size = size;
+        }
+
+        private void add(int[] participantIndexes) {
+            for (int participantIndex : participantIndexes) {
+                if (++counts[participantIndex] == size) {
+                    fullCount++;
+                }
+            }
+        }
+
+        private void remove(int[] participantIndexes) {
+            for (int participantIndex : participantIndexes) {
+                if (counts[participantIndex]-- == size) {
+                    fullCount--;
+                }
+            }
+        }
+
+        private boolean isFull(int participantIndex) {
+            return counts[participantIndex] == size;
+        }
+
+        private int getFullCount() {
+            return fullCount;
+        }
+    }
+
+    private static class Run {
+
+        private final int start;
+        private int end;
+        private final BitSet attendees;
+
+        private Run(int start, int end, BitSet attendees) {
+            this.start = start;
+            this.end = end;
+            this.attendees = attendees;
+        }
+    }
+}
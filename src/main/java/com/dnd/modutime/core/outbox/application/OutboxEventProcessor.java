@@ -0,0 +1,318 @@
+package com.dnd.modutime.core.outbox.application;
+
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultRecomputeQueue;
+import com.dnd.modutime.core.outbox.application.response.OutboxStageStatsResponse;
+import com.dnd.modutime.core.outbox.domain.OutboxEvent;
+import com.dnd.modutime.core.outbox.domain.OutboxEventType;
+import com.dnd.modutime.core.timeblock.domain.TimeBlockReplaceEvent;
+import com.dnd.modutime.core.timeblock.domain.TimeBlocksImportEvent;
+import com.dnd.modutime.core.timetable.application.TimeTableUpdateService;
+import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import com.dnd.modutime.exception.NotFoundException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// outbox에 쌓인 이벤트를 batchSize개씩 가져와 처리한다.
+// TimeBlock 변경은 방마다 작업자 하나가 TimeTable에 반영하고, TimeTable 변경은 방마다 모아서 AdjustmentResultRecomputeQueue에 넘긴다.
+// 처리는 모두 현재 상태를 다시 읽어 맞추는 방식이라 같은 이벤트를 여러 번 처리해도 결과가 같다.
+@Component
+public class OutboxEventProcessor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long CLEANUP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long AWAIT_INTERVAL_MILLIS = 10;
+
+    private final OutboxEventService outboxEventService;
+    private final TimeTableUpdateService timeTableUpdateService;
+    private final AdjustmentResultRecomputeQueue adjustmentResultRecomputeQueue;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final long retryDelayMillis;
+    private final long retentionMillis;
+    private final ScheduledExecutorService scheduleExecutor;
+    private final ExecutorService pollExecutor;
+    private final ExecutorService workerExecutor;
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final Map<OutboxEventType, OutboxStageStats> statsByType = new EnumMap<>(OutboxEventType.class);
+
+    // 이벤트를 가져오거나 나누다가 실패한 조회. 어느 단계의 이벤트인지 알 수 없으므로 따로 센다.
+    private final OutboxStageStats pollStats = new OutboxStageStats();
+    private long lastCleanupMillis;
+
+    public OutboxEventProcessor(OutboxEventService outboxEventService,
+                                TimeTableUpdateService timeTableUpdateService,
+                                AdjustmentResultRecomputeQueue adjustmentResultRecomputeQueue,
+                                @Value("${modutime.outbox.poll-interval-millis:1000}") long pollIntervalMillis,
+                                @Value("${modutime.outbox.batch-size:100}") int batchSize,
+                                @Value("${modutime.outbox.worker-threads:4}") int workerThreads,
+                                @Value("${modutime.outbox.lease-seconds:60}") long leaseSeconds,
+                                @Value("${modutime.outbox.retry-delay-millis:1000}") long retryDelayMillis,
+                                @Value("${modutime.outbox.retention-minutes:60}") long retentionMinutes) {
+        validatePositive(pollIntervalMillis, "outbox 조회 주기는 1ms 이상이어야 합니다.");
+        validatePositive(batchSize, "outbox 조회 개수는 1 이상이어야 합니다.");
+        validatePositive(workerThreads, "outbox 작업자 수는 1 이상이어야 합니다.");
+        validatePositive(leaseSeconds, "outbox 점유 시간은 1초 이상이어야 합니다.");
+        validatePositive(retryDelayMillis, "outbox 재시도 대기 시간은 1ms 이상이어야 합니다.");
+        validatePositive(retentionMinutes, "outbox 보관 시간은 1분 이상이어야 합니다.");
+        this.outboxEventService = outboxEventService;
+        this.timeTableUpdateService = timeTableUpdateService;
+        this.adjustmentResultRecomputeQueue = adjustmentResultRecomputeQueue;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        this.retryDelayMillis = retryDelayMillis;
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        this.scheduleExecutor = Executors.newSingleThreadScheduledExecutor();
+        this.pollExecutor = Executors.newSingleThreadExecutor();
+        this.workerExecutor = Executors.newFixedThreadPool(workerThreads);
+        for (OutboxEventType type : OutboxEventType.values()) {
+            statsByType.put(type, new OutboxStageStats());
+        }
+    }
+
+    private void validatePositive(long value, String message) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    // 서버가 죽어서 남은 이벤트는 주기적인 조회로 처리한다.
+    // 조회에서 던진 예외가 이후의 주기를 멈추지 않도록 주기마다 조회 스레드에 넘긴다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduleExecutor.scheduleWithFixedDelay(this::wakeUp, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 변경이 커밋되면 조회 주기를 기다리지 않고 바로 처리한다. 조회는 한 스레드에서만 하므로 겹치지 않는다.
+    // 아직 시작하지 않은 조회가 있으면 그 조회가 새 이벤트도 가져가므로 더 넣지 않는다.
+    @TransactionalEventListener
+    public void wakeUp(TimeBlockReplaceEvent event) {
+        wakeUp();
+    }
+
+    @TransactionalEventListener
+    public void wakeUp(TimeBlocksImportEvent event) {
+        wakeUp();
+    }
+
+    @TransactionalEventListener
+    public void wakeUp(TimeTableReplaceEvent event) {
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        if (!pollRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pollExecutor.execute(this::poll);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 남은 이벤트는 다음에 서버가 뜰 때 처리한다.
+            pollRequested.set(false);
+        }
+    }
+
+    // 가져간 이벤트는 실패해도 점유 시간이 지나면 다시 처리된다.
+    // DB 연결이나 잠금처럼 다시 시도하면 되는 실패만 다음 주기로 넘기고, 나머지는 세고 나서 다시 던져 스레드의 UncaughtExceptionHandler에 알린다.
+    private void poll() {
+        pollRequested.set(false);
+        long startedAtMillis = System.currentTimeMillis();
+        try {
+            List<OutboxEvent> outboxEvents = outboxEventService.claim(batchSize, leaseMillis);
+            dispatch(outboxEvents);
+            cleanup();
+        } catch (TransientDataAccessException | RecoverableDataAccessException | CannotCreateTransactionException e) {
+            pollStats.recordFailure(1, System.currentTimeMillis() - startedAtMillis);
+        } catch (RuntimeException e) {
+            pollStats.recordFailure(1, System.currentTimeMillis() - startedAtMillis);
+            throw e;
+        }
+    }
+
+    // TimeBlock 변경을 모두 반영한 뒤에 다음 batch를 가져오므로 한 서버 안에서는 한 방의 TimeTable을 여러 작업자가 동시에 고치지 않는다.
+    // 다른 서버의 작업자와는 TimeTableUpdateService가 TimeTable 행을 잠가서 순서를 맞추고, 잠금을 기다리다 실패하면 재시도한다.
+    private void dispatch(List<OutboxEvent> outboxEvents) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<OutboxEvent> roomEvents : groupByRoomUuid(outboxEvents, OutboxEventType.TIME_BLOCK_REPLACED)) {
+            futures.add(CompletableFuture.runAsync(() -> handleTimeBlockReplaced(roomEvents), workerExecutor));
+        }
+        for (List<OutboxEvent> roomEvents : groupByRoomUuid(outboxEvents, OutboxEventType.TIME_TABLE_REPLACED)) {
+            handleTimeTableReplaced(roomEvents);
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private List<List<OutboxEvent>> groupByRoomUuid(List<OutboxEvent> outboxEvents, OutboxEventType type) {
+        Map<String, List<OutboxEvent>> outboxEventsByRoomUuid = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            if (outboxEvent.getType() == type) {
+                outboxEventsByRoomUuid.computeIfAbsent(outboxEvent.getRoomUuid(), ignored -> new ArrayList<>())
+                        .add(outboxEvent);
+            }
+        }
+        return new ArrayList<>(outboxEventsByRoomUuid.values());
+    }
+
+    private void handleTimeBlockReplaced(List<OutboxEvent> roomEvents) {
+        long startedAtMillis = System.currentTimeMillis();
+        String roomUuid = roomEvents.get(0).getRoomUuid();
+        Set<String> participantNames = roomEvents.stream()
+                .map(OutboxEvent::getParticipantName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        try {
+            reconcile(roomUuid, participantNames);
+            complete(roomEvents, startedAtMillis);
+        } catch (RuntimeException e) {
+            retry(roomEvents, startedAtMillis);
+        }
+    }
+
+    // 여러 참여자가 바뀌었으면 TimeTable을 한 번만 저장하도록 한 트랜잭션에서 모두 맞춘다.
+    private void reconcile(String roomUuid, Set<String> participantNames) {
+        try {
+            if (participantNames.size() == 1) {
+                timeTableUpdateService.reconcile(roomUuid, participantNames.iterator().next());
+                return;
+            }
+            timeTableUpdateService.reconcileAll(roomUuid, participantNames);
+        } catch (NotFoundException e) {
+            // TimeTable이 없는 방은 반영할 대상이 없다.
+        }
+    }
+
+    private void handleTimeTableReplaced(List<OutboxEvent> roomEvents) {
+        long startedAtMillis = System.currentTimeMillis();
+        adjustmentResultRecomputeQueue.request(roomEvents.get(0).getRoomUuid(), mergeChangedDates(roomEvents))
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) {
+                        complete(roomEvents, startedAtMillis);
+                        return;
+                    }
+                    retry(roomEvents, startedAtMillis);
+                });
+    }
+
+    // 하나라도 전체가 바뀐 이벤트가 있으면 null을 반환한다.
+    private List<LocalDate> mergeChangedDates(List<OutboxEvent> roomEvents) {
+        Set<LocalDate> changedDates = new TreeSet<>();
+        for (OutboxEvent outboxEvent : roomEvents) {
+            List<LocalDate> changedDatesOrNull = outboxEvent.getChangedDatesOrNull();
+            if (changedDatesOrNull == null) {
+                return null;
+            }
+            changedDates.addAll(changedDatesOrNull);
+        }
+        return new ArrayList<>(changedDates);
+    }
+
+    private void complete(List<OutboxEvent> roomEvents, long startedAtMillis) {
+        try {
+            outboxEventService.complete(getIds(roomEvents));
+        } catch (RuntimeException e) {
+            // 완료로 바꾸지 못한 이벤트는 점유 시간이 지나면 다시 처리된다.
+            return;
+        }
+        long completedAtMillis = System.currentTimeMillis();
+        long totalLatencyMillis = 0;
+        long maxLatencyMillis = 0;
+        for (OutboxEvent outboxEvent : roomEvents) {
+            long latencyMillis = completedAtMillis - outboxEvent.getCreatedAtMillis();
+            totalLatencyMillis += latencyMillis;
+            maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
+        }
+        statsByType.get(roomEvents.get(0).getType()).recordSuccess(roomEvents.size(), totalLatencyMillis,
+                maxLatencyMillis, completedAtMillis - startedAtMillis);
+    }
+
+    // 실패할수록 재시도 대기 시간을 늘린다.
+    private void retry(List<OutboxEvent> roomEvents, long startedAtMillis) {
+        statsByType.get(roomEvents.get(0).getType()).recordFailure(roomEvents.size(),
+                System.currentTimeMillis() - startedAtMillis);
+        int attemptCount = roomEvents.stream()
+                .mapToInt(OutboxEvent::getAttemptCount)
+                .max()
+                .orElse(1);
+        try {
+            outboxEventService.retry(getIds(roomEvents), retryDelayMillis * Math.min(attemptCount, 10));
+        } catch (RuntimeException e) {
+            // 재시도 시각을 바꾸지 못하면 점유 시간이 지난 뒤 다시 처리된다.
+        }
+    }
+
+    private List<Long> getIds(List<OutboxEvent> outboxEvents) {
+        return outboxEvents.stream()
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toList());
+    }
+
+    private void cleanup() {
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis - lastCleanupMillis < CLEANUP_INTERVAL_MILLIS) {
+            return;
+        }
+        lastCleanupMillis = nowMillis;
+        outboxEventService.deleteProcessedBefore(nowMillis - retentionMillis);
+    }
+
+    // 처리하지 않은 이벤트가 없어질 때까지 기다린다. 시간 안에 모두 처리되면 true를 반환한다.
+    public boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (outboxEventService.countPending() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(AWAIT_INTERVAL_MILLIS);
+        }
+        return true;
+    }
+
+    public List<OutboxStageStatsResponse> getStats() {
+        List<OutboxStageStatsResponse> stats = new ArrayList<>();
+        statsByType.forEach((type, stageStats) -> stats.add(new OutboxStageStatsResponse(type,
+                outboxEventService.countPending(type),
+                outboxEventService.getLagMillis(type),
+                stageStats.getProcessedCount(),
+                stageStats.getFailureCount(),
+                pollStats.getFailureCount(),
+                stageStats.getAverageLatencyMillis(),
+                stageStats.getMaxLatencyMillis(),
+                stageStats.getAverageHandlingMillis())));
+        return stats;
+    }
+
+    // 이미 가져간 batch는 마저 처리하고 남은 이벤트는 다음에 서버가 뜰 때 처리한다.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduleExecutor.shutdown();
+        scheduleExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        pollExecutor.shutdown();
+        pollExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        workerExecutor.shutdown();
+        workerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
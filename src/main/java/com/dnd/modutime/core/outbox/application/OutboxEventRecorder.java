@@ -0,0 +1,44 @@
+package com.dnd.modutime.core.outbox.application;
+
+import com.dnd.modutime.core.outbox.domain.OutboxEvent;
+import com.dnd.modutime.core.outbox.repository.OutboxEventRepository;
+import com.dnd.modutime.core.timeblock.domain.TimeBlockReplaceEvent;
+import com.dnd.modutime.core.timeblock.domain.TimeBlocksImportEvent;
+import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 이벤트를 발행한 트랜잭션 안에서 outbox에 저장하므로 변경이 커밋되면 처리할 이벤트도 함께 남는다.
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @EventListener
+    public void record(TimeBlockReplaceEvent event) {
+        outboxEventRepository.save(OutboxEvent.timeBlockReplaced(event.getRoomUuid(), event.getParticipantName(),
+                System.currentTimeMillis()));
+    }
+
+    // 일괄 등록은 바뀐 참여자마다 한 행씩 남기고 OutboxEventProcessor가 방 단위로 모아서 한 번에 반영한다.
+    @EventListener
+    public void record(TimeBlocksImportEvent event) {
+        long nowMillis = System.currentTimeMillis();
+        outboxEventRepository.saveAll(event.getParticipantNames().stream()
+                .map(participantName -> OutboxEvent.timeBlockReplaced(event.getRoomUuid(), participantName, nowMillis))
+                .collect(Collectors.toList()));
+    }
+
+    @EventListener
+    public void record(TimeTableReplaceEvent event) {
+        if (event.isAllChanged()) {
+            outboxEventRepository.save(OutboxEvent.timeTableReplaced(event.getRoomUuid(), null, System.currentTimeMillis()));
+            return;
+        }
+        outboxEventRepository.save(OutboxEvent.timeTableReplaced(event.getRoomUuid(), event.getChangedDates(),
+                System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.dnd.modutime.core.outbox.application;
+
+import com.dnd.modutime.core.outbox.domain.OutboxEvent;
+import com.dnd.modutime.core.outbox.domain.OutboxEventStatus;
+import com.dnd.modutime.core.outbox.domain.OutboxEventType;
+import com.dnd.modutime.core.outbox.repository.OutboxEventRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    // 가져간 이벤트는 leaseMillis 동안 다른 작업자가 가져가지 않는다.
+    public List<OutboxEvent> claim(int batchSize, long leaseMillis) {
+        long nowMillis = System.currentTimeMillis();
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findAllAvailable(OutboxEventStatus.PENDING, nowMillis,
+                PageRequest.of(0, batchSize));
+        outboxEvents.forEach(outboxEvent -> outboxEvent.lease(nowMillis, leaseMillis));
+        return outboxEvents;
+    }
+
+    public void complete(List<Long> ids) {
+        outboxEventRepository.updateStatusByIds(ids, OutboxEventStatus.DONE, System.currentTimeMillis());
+    }
+
+    public void retry(List<Long> ids, long delayMillis) {
+        outboxEventRepository.updateAvailableAtByIds(ids, System.currentTimeMillis() + delayMillis);
+    }
+
+    public void deleteProcessedBefore(long processedAtMillis) {
+        outboxEventRepository.deleteAllByStatusAndProcessedAtBefore(OutboxEventStatus.DONE, processedAtMillis);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxEventRepository.countByStatus(OutboxEventStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending(OutboxEventType type) {
+        return outboxEventRepository.countByTypeAndStatus(type, OutboxEventStatus.PENDING);
+    }
+
+    // 가장 오래 기다린 이벤트가 저장된 뒤 지난 시간. 기다리는 이벤트가 없으면 0이다.
+    @Transactional(readOnly = true)
+    public long getLagMillis(OutboxEventType type) {
+        return outboxEventRepository.findOldestCreatedAtMillis(type, OutboxEventStatus.PENDING)
+                .map(createdAtMillis -> Math.max(System.currentTimeMillis() - createdAtMillis, 0))
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.dnd.modutime.core.outbox.application;
+
+// 단계별로 처리한 이벤트 수와 걸린 시간을 모은다.
+class OutboxStageStats {
+
+    private long processedCount;
+    private long failureCount;
+    private long totalLatencyMillis;
+    private long maxLatencyMillis;
+    private long totalHandlingMillis;
+    private long handlingCount;
+
+    // latency는 이벤트가 저장된 뒤 처리가 끝날 때까지 걸린 시간이다.
+    synchronized void recordSuccess(int eventCount, long totalLatencyMillis, long maxLatencyMillis, long handlingMillis) {
+        processedCount += eventCount;
+        this.totalLatencyMillis += totalLatencyMillis;
+        this.maxLatencyMillis = Math.max(this.maxLatencyMillis, maxLatencyMillis);
+        recordHandling(handlingMillis);
+    }
+
+    synchronized void recordFailure(int eventCount, long handlingMillis) {
+        failureCount += eventCount;
+        recordHandling(handlingMillis);
+    }
+
+    private void recordHandling(long handlingMillis) {
+        totalHandlingMillis += handlingMillis;
+        handlingCount++;
+    }
+
+    synchronized long getProcessedCount() {
+        return processedCount;
+    }
+
+    synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    synchronized long getAverageLatencyMillis() {
+        if (processedCount == 0) {
+            return 0;
+        }
+        return totalLatencyMillis / processedCount;
+    }
+
+    synchronized long getMaxLatencyMillis() {
+        return maxLatencyMillis;
+    }
+
+    synchronized long getAverageHandlingMillis() {
+        if (handlingCount == 0) {
+            return 0;
+        }
+        return totalHandlingMillis / handlingCount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.dnd.modutime.core.outbox.application.response;
+
+import com.dnd.modutime.core.outbox.domain.OutboxEventType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OutboxStageStatsResponse {
+
+    private OutboxEventType type;
+    private long pendingCount;
+    private long lagMillis;
+    private long processedCount;
+    private long failureCount;
+
+    // 이벤트를 가져오거나 나누다가 실패한 조회 수. 단계를 알 수 없으므로 모든 단계에 같은 값이 들어간다.
+    private long pollFailureCount;
+
+    private long averageLatencyMillis;
+    private long maxLatencyMillis;
+    private long averageHandlingMillis;
+}
@@ -0,0 +1,142 @@
+package com.dnd.modutime.core.outbox.domain;
+
+import static javax.persistence.GenerationType.IDENTITY;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 변경과 같은 트랜잭션에서 저장하고 OutboxEventProcessor가 커밋된 뒤에 처리한다.
+// 처리하다 서버가 죽으면 availableAtMillis가 지난 뒤 다시 가져가므로 한 번 이상 처리된다.
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbox_status_available_at", columnList = "status, available_at_millis"))
+public class OutboxEvent {
+
+    private static final String DATE_DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType type;
+
+    @Column(nullable = false)
+    private String roomUuid;
+
+    @Lob
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private long createdAtMillis;
+
+    // 이 시각 이후에 가져갈 수 있다. 가져가면 lease 만큼, 실패하면 재시도 대기 시간만큼 미룬다.
+    @Column(nullable = false)
+    private long availableAtMillis;
+
+    private Long processedAtMillis;
+
+    public OutboxEvent(OutboxEventType type, String roomUuid, String payload, long createdAtMillis) {
+        validateType(type);
+        validateRoomUuid(roomUuid);
+        this.type = type;
+        this.roomUuid = roomUuid;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.createdAtMillis = createdAtMillis;
+        this.availableAtMillis = createdAtMillis;
+    }
+
+    private void validateType(OutboxEventType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type은 null일 수 없습니다.");
+        }
+    }
+
+    private void validateRoomUuid(String roomUuid) {
+        if (roomUuid == null) {
+            throw new IllegalArgumentException("roomUuid는 null일 수 없습니다.");
+        }
+    }
+
+    public static OutboxEvent timeBlockReplaced(String roomUuid, String participantName, long createdAtMillis) {
+        return new OutboxEvent(OutboxEventType.TIME_BLOCK_REPLACED, roomUuid, participantName, createdAtMillis);
+    }
+
+    // changedDatesOrNull이 null이면 전체가 바뀐 것으로 본다.
+    public static OutboxEvent timeTableReplaced(String roomUuid, List<LocalDate> changedDatesOrNull, long createdAtMillis) {
+        String payload = null;
+        if (changedDatesOrNull != null) {
+            payload = changedDatesOrNull.stream()
+                    .map(LocalDate::toString)
+                    .collect(Collectors.joining(DATE_DELIMITER));
+        }
+        return new OutboxEvent(OutboxEventType.TIME_TABLE_REPLACED, roomUuid, payload, createdAtMillis);
+    }
+
+    public void lease(long nowMillis, long leaseMillis) {
+        attemptCount++;
+        availableAtMillis = nowMillis + leaseMillis;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getType() {
+        return type;
+    }
+
+    public String getRoomUuid() {
+        return roomUuid;
+    }
+
+    public String getParticipantName() {
+        return payload;
+    }
+
+    public List<LocalDate> getChangedDatesOrNull() {
+        if (payload == null) {
+            return null;
+        }
+        if (payload.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(payload.split(DATE_DELIMITER))
+                .map(LocalDate::parse)
+                .collect(Collectors.toList());
+    }
+
+    public OutboxEventStatus getStatus() {
+        return status;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+}
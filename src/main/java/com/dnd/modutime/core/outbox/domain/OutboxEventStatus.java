@@ -0,0 +1,6 @@
+package com.dnd.modutime.core.outbox.domain;
+
+public enum OutboxEventStatus {
+    PENDING,
+    DONE
+}
@@ -0,0 +1,10 @@
+package com.dnd.modutime.core.outbox.domain;
+
+public enum OutboxEventType {
+
+    // TimeBlock이 바뀌어 TimeTable에 반영해야 한다. payload는 참여자 이름이다.
+    TIME_BLOCK_REPLACED,
+
+    // TimeTable이 바뀌어 조율 결과를 다시 계산해야 한다. payload는 바뀐 날짜이고 null이면 전체가 바뀐 것이다.
+    TIME_TABLE_REPLACED
+}
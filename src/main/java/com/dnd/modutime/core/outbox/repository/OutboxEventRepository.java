@@ -0,0 +1,50 @@
+package com.dnd.modutime.core.outbox.repository;
+
+import com.dnd.modutime.core.outbox.domain.OutboxEvent;
+import com.dnd.modutime.core.outbox.domain.OutboxEventStatus;
+import com.dnd.modutime.core.outbox.domain.OutboxEventType;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 여러 서버가 같은 이벤트를 가져가지 않도록 잠긴 행은 건너뛴다. (lock.timeout = -2 는 SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.status = :status and o.availableAtMillis <= :nowMillis order by o.id")
+    List<OutboxEvent> findAllAvailable(@Param("status") OutboxEventStatus status,
+                                       @Param("nowMillis") long nowMillis,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent o set o.status = :status, o.processedAtMillis = :processedAtMillis where o.id in :ids")
+    void updateStatusByIds(@Param("ids") List<Long> ids,
+                           @Param("status") OutboxEventStatus status,
+                           @Param("processedAtMillis") long processedAtMillis);
+
+    @Modifying
+    @Query("update OutboxEvent o set o.availableAtMillis = :availableAtMillis where o.id in :ids")
+    void updateAvailableAtByIds(@Param("ids") List<Long> ids, @Param("availableAtMillis") long availableAtMillis);
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.status = :status and o.processedAtMillis < :processedAtMillis")
+    void deleteAllByStatusAndProcessedAtBefore(@Param("status") OutboxEventStatus status,
+                                               @Param("processedAtMillis") long processedAtMillis);
+
+    long countByStatus(OutboxEventStatus status);
+
+    long countByTypeAndStatus(OutboxEventType type, OutboxEventStatus status);
+
+    @Query("select min(o.createdAtMillis) from OutboxEvent o where o.type = :type and o.status = :status")
+    Optional<Long> findOldestCreatedAtMillis(@Param("type") OutboxEventType type,
+                                             @Param("status") OutboxEventStatus status);
+}
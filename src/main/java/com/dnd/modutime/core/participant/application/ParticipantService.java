@@ -5,8 +5,15 @@ import com.dnd.modutime.core.participant.domain.Participant;
 import com.dnd.modutime.core.participant.repository.ParticipantRepository;
 import com.dnd.modutime.core.participant.application.request.EmailCreationRequest;
 import com.dnd.modutime.core.participant.application.response.EmailResponse;
+import com.dnd.modutime.core.timeblock.application.ParticipantsCreationEvent;
+import com.dnd.modutime.exception.InvalidPasswordException;
 import com.dnd.modutime.exception.NotFoundException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +23,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class ParticipantService {
 
     private final ParticipantRepository participantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void create(String roomUuid, String name, String password) {
         Participant participant = new Participant(roomUuid, name, password);
         participantRepository.save(participant);
     }
 
+    // 없는 참여자는 한 번에 만들고 만든 수를 반환한다. 이미 있는 참여자는 비밀번호가 같아야 한다.
+    // TimeBlock은 일괄 등록에서 함께 만들므로 참여자마다 이벤트를 발행하지 않고 방 단위 이벤트 하나만 발행한다.
+    public int createAllIfAbsent(String roomUuid, Map<String, String> passwordsByName) {
+        Map<String, Participant> participantsByName = participantRepository.findByRoomUuid(roomUuid).stream()
+                .collect(Collectors.toMap(Participant::getName, Function.identity()));
+        List<Participant> newParticipants = passwordsByName.entrySet().stream()
+                .filter(entry -> !participantsByName.containsKey(entry.getKey()))
+                .map(entry -> Participant.withoutCreationEvent(roomUuid, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        passwordsByName.forEach((name, password) -> validatePassword(participantsByName.get(name), password));
+        if (newParticipants.isEmpty()) {
+            return 0;
+        }
+        participantRepository.saveAll(newParticipants);
+        eventPublisher.publishEvent(new ParticipantsCreationEvent(roomUuid, newParticipants.stream()
+                .map(Participant::getName)
+                .collect(Collectors.toList())));
+        return newParticipants.size();
+    }
+
+    private void validatePassword(Participant participant, String password) {
+        if (participant != null && !participant.matchPassword(password)) {
+            throw new InvalidPasswordException();
+        }
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByName(String roomUuid, String name) {
         return participantRepository.existsByRoomUuidAndName(roomUuid, name);
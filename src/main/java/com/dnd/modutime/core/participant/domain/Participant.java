@@ -14,6 +14,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -44,6 +45,10 @@ public class Participant extends AbstractAggregateRoot<Participant> implements A
     @Embedded
     private Email email;
 
+    // 일괄 등록은 TimeBlock을 함께 만들고 ParticipantsCreationEvent 하나로 알리므로 참여자마다 이벤트를 발행하지 않는다.
+    @Transient
+    private boolean creationEventSkipped;
+
     private String createdBy;
     private LocalDateTime createdAt;
     private String modifiedBy;
@@ -78,8 +83,17 @@ public class Participant extends AbstractAggregateRoot<Participant> implements A
         }
     }
 
+    public static Participant withoutCreationEvent(String roomUuid, String name, String password) {
+        Participant participant = new Participant(roomUuid, name, password);
+        participant.creationEventSkipped = true;
+        return participant;
+    }
+
     @PostPersist
     private void registerCreateEvent() {
+        if (creationEventSkipped) {
+            return;
+        }
         registerEvent(new ParticipantCreationEvent(roomUuid, name));
     }
 
@@ -0,0 +1,86 @@
+package com.dnd.modutime.core.room.application;
+
+import com.dnd.modutime.core.room.domain.Room;
+import com.dnd.modutime.core.room.domain.RoomMetadata;
+import com.dnd.modutime.core.room.repository.RoomRepository;
+import com.dnd.modutime.exception.NotFoundException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// roomUuid별 RoomMetadata를 최대 maxSize개까지 LRU로 보관한다.
+// 방의 날짜, 시간 범위, 인원은 만들어진 뒤 바뀌지 않으므로 무효화 없이 밀려날 때까지 그대로 쓴다.
+@Component
+public class RoomMetadataCache {
+
+    private final RoomRepository roomRepository;
+    private final int maxSize;
+    private final Map<String, RoomMetadata> metadataByRoomUuid;
+
+    public RoomMetadataCache(RoomRepository roomRepository,
+                             @Value("${modutime.room-metadata-cache.max-size:1000}") int maxSize) {
+        validateMaxSize(maxSize);
+        this.roomRepository = roomRepository;
+        this.maxSize = maxSize;
+        this.metadataByRoomUuid = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RoomMetadata> eldest) {
+                return size() > RoomMetadataCache.this.maxSize;
+            }
+        };
+    }
+
+    private void validateMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    public RoomMetadata get(String roomUuid) {
+        synchronized (this) {
+            RoomMetadata metadata = metadataByRoomUuid.get(roomUuid);
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+        Room room = roomRepository.findByUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 방이 없습니다."));
+        return put(room);
+    }
+
+    public RoomMetadata put(Room room) {
+        return put(RoomMetadata.from(room));
+    }
+
+    private synchronized RoomMetadata put(RoomMetadata metadata) {
+        metadataByRoomUuid.put(metadata.getUuid(), metadata);
+        return metadata;
+    }
+
+    // 방을 만든 직후 넣어 두면 첫 시간 등록에서도 다시 읽지 않는다.
+    // 롤백된 방이 캐시에 남지 않도록 커밋한 뒤에 넣는다.
+    public void putAfterCommit(Room room) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(room);
+            return;
+        }
+        RoomMetadata metadata = RoomMetadata.from(room);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(metadata);
+            }
+        });
+    }
+
+    public synchronized void evict(String roomUuid) {
+        metadataByRoomUuid.remove(roomUuid);
+    }
+
+    public synchronized int size() {
+        return metadataByRoomUuid.size();
+    }
+}
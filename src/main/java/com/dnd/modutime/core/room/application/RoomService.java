@@ -4,15 +4,14 @@ import com.dnd.modutime.core.room.repository.RoomRepository;
 import com.dnd.modutime.core.participant.domain.Participant;
 import com.dnd.modutime.core.room.domain.Room;
 import com.dnd.modutime.core.room.domain.RoomDate;
+import com.dnd.modutime.core.room.domain.RoomMetadata;
 import com.dnd.modutime.core.room.application.request.RoomRequest;
 import com.dnd.modutime.core.room.application.request.TimerRequest;
 import com.dnd.modutime.core.room.application.response.RoomCreationResponse;
 import com.dnd.modutime.core.room.application.response.RoomInfoResponse;
-import com.dnd.modutime.exception.NotFoundException;
 import com.dnd.modutime.core.participant.repository.ParticipantRepository;
 import com.dnd.modutime.util.TimeProvider;
 import com.dnd.modutime.util.Timer;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +24,7 @@ public class RoomService {
 
     private final TimeProvider timeProvider;
     private final RoomRepository roomRepository;
+    private final RoomMetadataCache roomMetadataCache;
     private final ParticipantRepository participantRepository;
 
     public RoomCreationResponse create(RoomRequest roomRequest) {
@@ -40,6 +40,7 @@ public class RoomService {
                 findDeadLineOrNull(timerRequest),
                 timeProvider);
         roomRepository.save(room);
+        roomMetadataCache.putAfterCommit(room);
 
         return new RoomCreationResponse(room.getUuid());
     }
@@ -63,31 +64,20 @@ public class RoomService {
     }
 
     public String getTitleByUuid(String roomUuid) {
-        Room room = getByUuid(roomUuid);
-        return room.getTitle();
+        return roomMetadataCache.get(roomUuid).getTitle();
     }
 
     public RoomInfoResponse getInfo(String roomUuid) {
-        Room room = getByUuid(roomUuid);
+        RoomMetadata room = roomMetadataCache.get(roomUuid);
         List<Participant> participants = participantRepository.findByRoomUuid(roomUuid);
-        List<LocalDate> roomDates = room.getRoomDates().stream()
-                .map(RoomDate::getDate)
-                .collect(Collectors.toList());
         return new RoomInfoResponse(room.getTitle(),
                 room.getDeadLineOrNull(),
                 room.getHeadCountOrNull(),
                 participants.stream()
                         .map(Participant::getName)
                         .collect(Collectors.toList()),
-                roomDates.stream()
-                        .sorted()
-                        .collect(Collectors.toList()),
+                room.getDates(),
                 room.getStartTimeOrNull(),
                 room.getEndTimeOrNull());
     }
-
-    private Room getByUuid(String roomUuid) {
-        return roomRepository.findByUuid(roomUuid)
-                .orElseThrow(() -> new NotFoundException("해당하는 방이 없습니다."));
-    }
 }
@@ -4,18 +4,14 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
-import com.dnd.modutime.core.room.domain.Room;
-import com.dnd.modutime.core.room.domain.RoomDate;
-import com.dnd.modutime.core.room.repository.RoomRepository;
+import com.dnd.modutime.core.room.domain.RoomMetadata;
 import com.dnd.modutime.core.timetable.application.TimeTableInitializer;
 import com.dnd.modutime.core.timetable.domain.DateInfo;
 import com.dnd.modutime.core.timetable.domain.TimeInfo;
 import com.dnd.modutime.core.timetable.domain.TimeTable;
-import com.dnd.modutime.exception.NotFoundException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,59 +19,33 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RoomTimeTableInitializer implements TimeTableInitializer {
 
-    private static final int INITIAL_TIME_INFOS_CAPACITY = 50;
-    private static final LocalTime ZERO_TIME = LocalTime.of(0, 0);
-
-    private final RoomRepository roomRepository;
+    private final RoomMetadataCache roomMetadataCache;
 
     @Override
     public void initialize(String roomUuid, TimeTable timeTable) {
-        Room room = getRoomByRoomUuid(roomUuid);
-        List<LocalDate> dates = room.getRoomDates().stream()
-                .map(RoomDate::getDate)
-                .collect(Collectors.toList());
+        RoomMetadata room = roomMetadataCache.get(roomUuid);
+        List<LocalDate> dates = room.getDates();
+        List<LocalTime> times = room.getTimes();
         List<DateInfo> dateInfos = new ArrayList<>(dates.size());
 
         for (LocalDate date : dates) {
-            List<TimeInfo> timeInfos = new ArrayList<>(INITIAL_TIME_INFOS_CAPACITY);
-            addTimeInfos(room, timeInfos);
-            DateInfo dateInfo = new DateInfo(timeTable, date, timeInfos);
+            DateInfo dateInfo = new DateInfo(timeTable, date, getTimeInfos(room, times));
             dateInfos.add(dateInfo);
         }
         timeTable.replaceDateInfos(dateInfos);
     }
 
-    private void addTimeInfos(Room room,
-                              List<TimeInfo> timeInfos) {
-        LocalTime startTime = room.getStartTimeOrNull();
-        LocalTime endTime = room.getEndTimeOrNull();
+    // 자정을 넘는 방도 슬롯 순서대로 00:00 ~ 끝 시간, 시작 시간 ~ 24:00이 된다.
+    private List<TimeInfo> getTimeInfos(RoomMetadata room, List<LocalTime> times) {
         if (!room.hasStartAndEndTime()) {
+            List<TimeInfo> timeInfos = new ArrayList<>(1);
             timeInfos.add(new TimeInfo(null, new ArrayList<>()));
-            return;
-        }
-
-        if (startTime.isAfter(endTime)) {
-            addTimeInfosWhenStartTimeIsAfterEndTime(timeInfos, startTime, endTime);
-            return;
+            return timeInfos;
         }
-        for (LocalTime time = startTime; time.isBefore(endTime); time = time.plusMinutes(30)) {
+        List<TimeInfo> timeInfos = new ArrayList<>(times.size());
+        for (LocalTime time : times) {
             timeInfos.add(new TimeInfo(time, new ArrayList<>()));
         }
-    }
-
-    private static void addTimeInfosWhenStartTimeIsAfterEndTime(List<TimeInfo> timeInfos, LocalTime startTime, LocalTime endTime) {
-
-        for (LocalTime time = ZERO_TIME; time.isBefore(endTime); time = time.plusMinutes(30)) {
-            timeInfos.add(new TimeInfo(time, new ArrayList<>()));
-        }
-
-        for (LocalTime time = startTime; !time.equals(ZERO_TIME); time = time.plusMinutes(30)) {
-            timeInfos.add(new TimeInfo(time, new ArrayList<>()));
-        }
-    }
-
-    private Room getRoomByRoomUuid(String roomUuid) {
-        return roomRepository.findByUuid(roomUuid)
-                .orElseThrow(() -> new NotFoundException("해당하는 방이 없습니다."));
+        return timeInfos;
     }
 }
@@ -1,13 +1,9 @@
 package com.dnd.modutime.core.room.application;
 
-import com.dnd.modutime.core.room.domain.Room;
-import com.dnd.modutime.core.room.domain.RoomDate;
-import com.dnd.modutime.core.room.repository.RoomRepository;
+import com.dnd.modutime.core.room.domain.RoomMetadata;
 import com.dnd.modutime.core.timeblock.application.TimeReplaceValidator;
 import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
-import com.dnd.modutime.core.timeblock.domain.AvailableTime;
-import com.dnd.modutime.exception.NotFoundException;
-import java.time.LocalTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -17,25 +13,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RoomTimeValidator implements TimeReplaceValidator {
 
-    private final RoomRepository roomRepository;
+    private final RoomMetadataCache roomMetadataCache;
 
     @Override
     public void validate(String roomUuid, List<AvailableDateTime> availableDateTimes) {
-        Room room = getRoomByRoomUuid(roomUuid);
+        RoomMetadata room = roomMetadataCache.get(roomUuid);
         validateContainsAllDates(room, availableDateTimes);
         validateStartAndEndTime(room, availableDateTimes);
     }
 
-    private void validateContainsAllDates(Room room, List<AvailableDateTime> availableDateTimes) {
-        List<RoomDate> roomDates = availableDateTimes.stream()
-                .map(availableDateTime -> new RoomDate(availableDateTime.getDate()))
+    private void validateContainsAllDates(RoomMetadata room, List<AvailableDateTime> availableDateTimes) {
+        List<LocalDate> dates = availableDateTimes.stream()
+                .map(AvailableDateTime::getDate)
                 .collect(Collectors.toList());
-        if (!room.containsAllDates(roomDates)) {
+        if (!room.containsAllDates(dates)) {
             throw new IllegalArgumentException();
         }
     }
 
-    private void validateStartAndEndTime(Room room, List<AvailableDateTime> availableDateTimes) {
+    private void validateStartAndEndTime(RoomMetadata room, List<AvailableDateTime> availableDateTimes) {
         if (availableDateTimes.isEmpty()) {
             return;
         }
@@ -48,15 +44,11 @@ public class RoomTimeValidator implements TimeReplaceValidator {
         if (!room.hasStartAndEndTime() && !hasTime(availableDateTimes)) {
             return;
         }
-        availableDateTimes.forEach(it -> validateIncludeTimes(room, it.getTimesOrNull()));
+        availableDateTimes.forEach(it -> validateIncludeTimes(room, it.getTimeSlotsOrNull()));
     }
 
-    private void validateIncludeTimes(Room room, List<AvailableTime> availableTimes) {
-        availableTimes.forEach(it -> validateIncludeTime(room, it.getTime()));
-    }
-
-    private void validateIncludeTime(Room room, LocalTime time) {
-        if (!room.includeTime(time)) {
+    private void validateIncludeTimes(RoomMetadata room, long timeSlots) {
+        if (!room.includeTimeSlots(timeSlots)) {
             throw new IllegalArgumentException("방의 범위 밖의 시간입니다.");
         }
     }
@@ -65,9 +57,4 @@ public class RoomTimeValidator implements TimeReplaceValidator {
         return availableDateTimes.stream()
                 .allMatch(AvailableDateTime::hasTime);
     }
-
-    private Room getRoomByRoomUuid(String roomUuid) {
-        return roomRepository.findByUuid(roomUuid)
-                .orElseThrow(() -> new NotFoundException("해당하는 방이 없습니다."));
-    }
 }
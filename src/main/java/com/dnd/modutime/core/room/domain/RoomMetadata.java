@@ -0,0 +1,125 @@
+package com.dnd.modutime.core.room.domain;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+// 방이 만들어진 뒤 바뀌지 않는 값만 담은 스냅샷이다.
+// 날짜는 첫 날짜로부터의 일수 비트로, 시간 범위는 AvailableDateTime과 같은 30분 슬롯 비트로 들고 있다.
+public final class RoomMetadata {
+
+    private final String uuid;
+    private final String title;
+    private final Integer headCount;
+    private final LocalDateTime deadLine;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final long timeSlots;
+    private final LocalDate firstDate;
+    private final BitSet dateOffsets;
+
+    private RoomMetadata(Room room, LocalDate firstDate, BitSet dateOffsets, long timeSlots) {
+        this.uuid = room.getUuid();
+        this.title = room.getTitle();
+        this.headCount = room.getHeadCountOrNull();
+        this.deadLine = room.getDeadLineOrNull();
+        this.startTime = room.getStartTimeOrNull();
+        this.endTime = room.getEndTimeOrNull();
+        this.timeSlots = timeSlots;
+        this.firstDate = firstDate;
+        this.dateOffsets = dateOffsets;
+    }
+
+    public static RoomMetadata from(Room room) {
+        LocalDate firstDate = room.getRoomDates().stream()
+                .map(RoomDate::getDate)
+                .min(LocalDate::compareTo)
+                .orElseThrow(() -> new IllegalArgumentException("날짜는 최소 1개이상 존재해야 합니다."));
+        BitSet dateOffsets = new BitSet();
+        for (RoomDate roomDate : room.getRoomDates()) {
+            dateOffsets.set(Math.toIntExact(roomDate.getDate().toEpochDay() - firstDate.toEpochDay()));
+        }
+        return new RoomMetadata(room, firstDate, dateOffsets, getTimeSlots(room));
+    }
+
+    private static long getTimeSlots(Room room) {
+        if (!room.hasStartAndEndTime()) {
+            return 0L;
+        }
+        long timeSlots = 0L;
+        for (int slot = 0; slot < AvailableDateTime.SLOTS_PER_DAY; slot++) {
+            if (room.includeTime(LocalTime.ofSecondOfDay((long) slot * AvailableDateTime.SLOT_SECONDS))) {
+                timeSlots |= 1L << slot;
+            }
+        }
+        return timeSlots;
+    }
+
+    public boolean containsAllDates(Collection<LocalDate> dates) {
+        return dates.stream()
+                .allMatch(this::containsDate);
+    }
+
+    public boolean containsDate(LocalDate date) {
+        long offset = date.toEpochDay() - firstDate.toEpochDay();
+        return offset >= 0 && offset < dateOffsets.length() && dateOffsets.get((int) offset);
+    }
+
+    public boolean hasStartAndEndTime() {
+        return startTime != null;
+    }
+
+    // 방의 시간 범위 밖의 슬롯이 하나라도 있으면 false를 반환한다.
+    public boolean includeTimeSlots(long timeSlots) {
+        return (timeSlots & ~this.timeSlots) == 0;
+    }
+
+    public List<LocalDate> getDates() {
+        List<LocalDate> dates = new ArrayList<>(dateOffsets.cardinality());
+        for (int offset = dateOffsets.nextSetBit(0); offset >= 0; offset = dateOffsets.nextSetBit(offset + 1)) {
+            dates.add(firstDate.plusDays(offset));
+        }
+        return dates;
+    }
+
+    public List<LocalTime> getTimes() {
+        List<LocalTime> times = new ArrayList<>(Long.bitCount(timeSlots));
+        for (long slots = timeSlots; slots != 0; slots &= slots - 1) {
+            times.add(LocalTime.ofSecondOfDay((long) Long.numberOfTrailingZeros(slots) * AvailableDateTime.SLOT_SECONDS));
+        }
+        return times;
+    }
+
+    public long getTimeSlots() {
+        return timeSlots;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Integer getHeadCountOrNull() {
+        return headCount;
+    }
+
+    public LocalDateTime getDeadLineOrNull() {
+        return deadLine;
+    }
+
+    public LocalTime getStartTimeOrNull() {
+        return startTime;
+    }
+
+    public LocalTime getEndTimeOrNull() {
+        return endTime;
+    }
+}
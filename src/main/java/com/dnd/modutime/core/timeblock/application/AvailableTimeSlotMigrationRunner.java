@@ -0,0 +1,74 @@
+package com.dnd.modutime.core.timeblock.application;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 기존 available_time 행을 available_date_time.time_slots 비트로 옮기고 옮긴 행은 지운다.
+// available_date_time 단위로 비트를 다시 계산해서 덮어쓰므로 중간에 멈춰도 다시 실행하면 된다. 테이블이 비면 drop 해도 된다.
+// 옮기기 전의 행은 날짜만 있는 것으로 읽히고, 남은 available_time 행의 FK 때문에 available_date_time을 지울 수 없으므로 항상 실행한다.
+// 웹 서버가 요청을 받거나 outbox와 다른 ApplicationRunner가 시작되기 전에 끝나도록 빈을 초기화할 때 실행한다.
+@Component
+@RequiredArgsConstructor
+public class AvailableTimeSlotMigrationRunner implements InitializingBean {
+
+    private static final String LEGACY_TABLE_NAME = "available_time";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        // 모든 행을 옮겼으면 쿼리 한두 번만 하고 끝난다.
+        if (!existsLegacyTable() || !existsLegacyRow()) {
+            return;
+        }
+        List<Long> availableDateTimeIds = findNextAvailableDateTimeIds();
+        while (!availableDateTimeIds.isEmpty()) {
+            migrate(availableDateTimeIds);
+            availableDateTimeIds = findNextAvailableDateTimeIds();
+        }
+    }
+
+    private boolean existsLegacyTable() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from information_schema.tables"
+                + " where table_schema = database() and lower(table_name) = ?", Integer.class, LEGACY_TABLE_NAME);
+        return count != null && count > 0;
+    }
+
+    private boolean existsLegacyRow() {
+        return !jdbcTemplate.queryForList("select 1 from " + LEGACY_TABLE_NAME + " limit 1", Integer.class).isEmpty();
+    }
+
+    private List<Long> findNextAvailableDateTimeIds() {
+        return jdbcTemplate.queryForList("select distinct available_date_time_id from " + LEGACY_TABLE_NAME
+                + " order by available_date_time_id limit " + BATCH_SIZE, Long.class);
+    }
+
+    private void migrate(List<Long> availableDateTimeIds) {
+        String placeholders = String.join(",", Collections.nCopies(availableDateTimeIds.size(), "?"));
+        Map<Long, Long> timeSlotsById = new LinkedHashMap<>();
+        jdbcTemplate.query("select available_date_time_id, time from " + LEGACY_TABLE_NAME
+                        + " where available_date_time_id in (" + placeholders + ")",
+                resultSet -> {
+                    Time time = resultSet.getTime("time");
+                    long slot = time == null ? 0L : 1L << AvailableDateTime.toSlot(time.toLocalTime());
+                    timeSlotsById.merge(resultSet.getLong("available_date_time_id"), slot, (a, b) -> a | b);
+                },
+                availableDateTimeIds.toArray());
+
+        List<Object[]> updates = new ArrayList<>(timeSlotsById.size());
+        timeSlotsById.forEach((id, timeSlots) -> updates.add(new Object[]{timeSlots, id}));
+        jdbcTemplate.batchUpdate("update available_date_time set time_slots = ? where id = ?", updates);
+        jdbcTemplate.update("delete from " + LEGACY_TABLE_NAME + " where available_date_time_id in (" + placeholders + ")",
+                availableDateTimeIds.toArray());
+    }
+}
@@ -0,0 +1,89 @@
+package com.dnd.modutime.core.timeblock.application;
+
+import com.dnd.modutime.core.room.application.RoomMetadataCache;
+import com.dnd.modutime.core.room.domain.RoomMetadata;
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.util.BusyTimeSlots;
+import com.dnd.modutime.core.timeblock.util.IcsBusyTimeReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 캘린더의 바쁜 시간을 방의 날짜와 시간 범위에서 빼고 남은 시간을 참여자의 가능한 시간으로 바꾼다.
+// 일정은 읽는 대로 BusyTimeSlots에 접으므로 방의 날짜 수만큼의 메모리만 쓴다.
+// 파일을 다 읽은 뒤에 TimeBlockService.replace를 부르므로 업로드를 받는 동안에는 트랜잭션을 열지 않는다.
+@Service
+public class CalendarImportService {
+
+    private final RoomMetadataCache roomMetadataCache;
+    private final TimeBlockService timeBlockService;
+    private final IcsBusyTimeReader icsBusyTimeReader;
+    private final ZoneId zoneId;
+
+    public CalendarImportService(RoomMetadataCache roomMetadataCache,
+                                 TimeBlockService timeBlockService,
+                                 IcsBusyTimeReader icsBusyTimeReader,
+                                 @Value("${modutime.calendar-import.zone-id:Asia/Seoul}") String zoneId) {
+        this.roomMetadataCache = roomMetadataCache;
+        this.timeBlockService = timeBlockService;
+        this.icsBusyTimeReader = icsBusyTimeReader;
+        this.zoneId = ZoneId.of(zoneId);
+    }
+
+    public void importIcs(String roomUuid, String name, InputStream inputStream) throws IOException {
+        if (name == null) {
+            throw new IllegalArgumentException("이름은 null일 수 없습니다");
+        }
+        RoomMetadata roomMetadata = roomMetadataCache.get(roomUuid);
+        List<LocalDate> dates = roomMetadata.getDates();
+        BusyTimeSlots busyTimeSlots = new BusyTimeSlots(dates.get(0), dates.get(dates.size() - 1));
+        icsBusyTimeReader.read(inputStream, zoneId, busyTimeSlots.getStart(), busyTimeSlots.getEnd(), busyTimeSlots::add);
+
+        List<AvailableTimeRangeRequest> availableTimeRanges = roomMetadata.hasStartAndEndTime()
+                ? getAvailableTimeRanges(dates, roomMetadata.getTimeSlots(), busyTimeSlots)
+                : getAvailableDates(dates, busyTimeSlots);
+        timeBlockService.replace(roomUuid,
+                new TimeReplaceRequest(name, roomMetadata.hasStartAndEndTime(), null, availableTimeRanges));
+    }
+
+    // 방의 슬롯 중 바쁘지 않은 슬롯을 이어진 구간끼리 묶는다.
+    private List<AvailableTimeRangeRequest> getAvailableTimeRanges(List<LocalDate> dates,
+                                                                   long roomTimeSlots,
+                                                                   BusyTimeSlots busyTimeSlots) {
+        List<AvailableTimeRangeRequest> availableTimeRanges = new ArrayList<>();
+        for (LocalDate date : dates) {
+            long timeSlots = roomTimeSlots & ~busyTimeSlots.get(date);
+            while (timeSlots != 0) {
+                int startSlot = Long.numberOfTrailingZeros(timeSlots);
+                int endSlot = startSlot + Long.numberOfTrailingZeros(~(timeSlots >>> startSlot));
+                availableTimeRanges.add(new AvailableTimeRangeRequest(date, toTime(startSlot), toTime(endSlot)));
+                timeSlots &= ~AvailableDateTime.toTimeSlots(startSlot, endSlot);
+            }
+        }
+        return availableTimeRanges;
+    }
+
+    // 날짜만 있는 방은 하루 내내 바쁜 날만 뺀다.
+    private List<AvailableTimeRangeRequest> getAvailableDates(List<LocalDate> dates, BusyTimeSlots busyTimeSlots) {
+        List<AvailableTimeRangeRequest> availableDates = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            if (!busyTimeSlots.isBusyAllDay(date)) {
+                availableDates.add(new AvailableTimeRangeRequest(date, null, null));
+            }
+        }
+        return availableDates;
+    }
+
+    // 마지막 슬롯의 끝은 다음 날 00:00이다.
+    private LocalTime toTime(int slot) {
+        return LocalTime.ofSecondOfDay((long) (slot % AvailableDateTime.SLOTS_PER_DAY) * AvailableDateTime.SLOT_SECONDS);
+    }
+}
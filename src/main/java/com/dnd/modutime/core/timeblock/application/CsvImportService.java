@@ -0,0 +1,38 @@
+package com.dnd.modutime.core.timeblock.application;
+
+import com.dnd.modutime.core.timeblock.application.response.TimeImportResponse;
+import com.dnd.modutime.core.timeblock.util.TimeImportCsvReader;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// CSV를 다 읽은 뒤에 TimeImportService.importAll을 부르므로 업로드를 받는 동안에는 트랜잭션과 커넥션을 잡지 않는다.
+@Service
+public class CsvImportService {
+
+    private final TimeImportService timeImportService;
+    private final TimeImportCsvReader timeImportCsvReader;
+    private final int maxParticipants;
+    private final int maxRows;
+
+    public CsvImportService(TimeImportService timeImportService,
+                            TimeImportCsvReader timeImportCsvReader,
+                            @Value("${modutime.time-import.max-participants:1000}") int maxParticipants,
+                            @Value("${modutime.time-import.max-rows:50000}") int maxRows) {
+        if (maxParticipants <= 0) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 참여자 수는 1 이상이어야 합니다.");
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 CSV 줄 수는 1 이상이어야 합니다.");
+        }
+        this.timeImportService = timeImportService;
+        this.timeImportCsvReader = timeImportCsvReader;
+        this.maxParticipants = maxParticipants;
+        this.maxRows = maxRows;
+    }
+
+    public TimeImportResponse importCsv(String roomUuid, InputStream inputStream) throws IOException {
+        return timeImportService.importAll(roomUuid, timeImportCsvReader.read(inputStream, maxParticipants, maxRows));
+    }
+}
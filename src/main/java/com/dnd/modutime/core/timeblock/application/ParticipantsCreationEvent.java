@@ -0,0 +1,14 @@
+package com.dnd.modutime.core.timeblock.application;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록으로 한 방에 새로 만들어진 참여자들. 참여자마다 ParticipantCreationEvent를 발행하지 않고 이 이벤트 하나로 알린다.
+@Getter
+@AllArgsConstructor
+public class ParticipantsCreationEvent {
+
+    private String roomUuid;
+    private List<String> names;
+}
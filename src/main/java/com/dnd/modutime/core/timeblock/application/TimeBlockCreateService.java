@@ -17,6 +17,10 @@ public class TimeBlockCreateService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener
     public void create(ParticipantCreationEvent event) {
+        // 일괄 등록은 참여자와 TimeBlock을 같은 트랜잭션에서 함께 만든다.
+        if (timeBlockRepository.existsByRoomUuidAndParticipantName(event.getRoomUuid(), event.getName())) {
+            return;
+        }
         timeBlockRepository.save(new TimeBlock(event.getRoomUuid(), event.getName()));
     }
 }
@@ -3,14 +3,24 @@ package com.dnd.modutime.core.timeblock.application;
 import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
 import com.dnd.modutime.core.timeblock.application.response.TimeBlockResponse;
 import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTimes;
 import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import com.dnd.modutime.core.timeblock.domain.TimeBlocksImportEvent;
 import com.dnd.modutime.core.timeblock.repository.AvailableDateTimeRepository;
 import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
+import com.dnd.modutime.core.timeblock.util.AvailableTimeRangeConvertor;
 import com.dnd.modutime.core.timeblock.util.DateTimeToAvailableDateTimeConvertor;
 import com.dnd.modutime.core.timeblock.util.DateTimeToAvailableDateTimeConvertorFactory;
 import com.dnd.modutime.exception.NotFoundException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,21 +33,104 @@ public class TimeBlockService {
     private final TimeBlockRepository timeBlockRepository;
     private final AvailableDateTimeRepository availableDateTimeRepository;
     private final DateTimeToAvailableDateTimeConvertorFactory dateTimeToAvailableDateTimeConvertorFactory;
+    private final AvailableTimeRangeConvertor availableTimeRangeConvertor;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void replace(String roomUuid, TimeReplaceRequest timeReplaceRequest) {
         TimeBlock timeBlock = getTimeBlockByRoomUuidAndParticipantName(roomUuid, timeReplaceRequest.getName());
+        List<AvailableDateTime> availableDateTimes = toAvailableDateTimes(timeBlock, timeReplaceRequest);
+        timeReplaceValidator.validate(roomUuid, availableDateTimes);
+        replaceChangedDates(timeBlock, availableDateTimes);
+    }
+
+    // 여러 참여자의 시간을 한 번에 바꾸고 바뀐 참여자 수를 반환한다.
+    // TimeBlock과 가능한 시간은 방 단위로 한 번에 읽고, 지우기와 저장도 모아서 한 번씩 한다.
+    public int replaceAll(String roomUuid, List<TimeReplaceRequest> timeReplaceRequests) {
+        Map<String, TimeBlock> timeBlocksByName = getOrCreateTimeBlocks(roomUuid, timeReplaceRequests);
+        List<AvailableDateTime> removedAvailableDateTimes = new ArrayList<>();
+        List<AvailableDateTime> addedAvailableDateTimes = new ArrayList<>();
+        List<String> changedParticipantNames = new ArrayList<>();
+        for (TimeReplaceRequest timeReplaceRequest : timeReplaceRequests) {
+            TimeBlock timeBlock = timeBlocksByName.get(timeReplaceRequest.getName());
+            List<AvailableDateTime> availableDateTimes = toAvailableDateTimes(timeBlock, timeReplaceRequest);
+            timeReplaceValidator.validate(roomUuid, availableDateTimes);
+
+            AvailableDateTimes oldAvailableDateTimes = new AvailableDateTimes(timeBlock.getAvailableDateTimes());
+            AvailableDateTimes newAvailableDateTimes = new AvailableDateTimes(availableDateTimes);
+            Set<LocalDate> changedDates = newAvailableDateTimes.getChangedDates(oldAvailableDateTimes);
+            if (changedDates.isEmpty()) {
+                continue;
+            }
+            List<AvailableDateTime> removed = oldAvailableDateTimes.getByDates(changedDates);
+            List<AvailableDateTime> added = newAvailableDateTimes.getByDates(changedDates);
+            timeBlock.replaceChangedDatesWithoutEvent(removed, added);
+            removedAvailableDateTimes.addAll(removed);
+            addedAvailableDateTimes.addAll(added);
+            changedParticipantNames.add(timeBlock.getParticipantName());
+        }
+        if (changedParticipantNames.isEmpty()) {
+            return 0;
+        }
+        deleteAll(removedAvailableDateTimes);
+        availableDateTimeRepository.saveAll(addedAvailableDateTimes);
+        eventPublisher.publishEvent(new TimeBlocksImportEvent(roomUuid, changedParticipantNames));
+        return changedParticipantNames.size();
+    }
+
+    private Map<String, TimeBlock> getOrCreateTimeBlocks(String roomUuid, List<TimeReplaceRequest> timeReplaceRequests) {
+        Map<String, TimeBlock> timeBlocksByName = timeBlockRepository.findWithAvailableDateTimesByRoomUuid(roomUuid).stream()
+                .collect(Collectors.toMap(TimeBlock::getParticipantName, Function.identity()));
+        List<TimeBlock> newTimeBlocks = timeReplaceRequests.stream()
+                .map(TimeReplaceRequest::getName)
+                .filter(name -> !timeBlocksByName.containsKey(name))
+                .map(name -> new TimeBlock(roomUuid, name))
+                .collect(Collectors.toList());
+        timeBlockRepository.saveAll(newTimeBlocks)
+                .forEach(timeBlock -> timeBlocksByName.put(timeBlock.getParticipantName(), timeBlock));
+        return timeBlocksByName;
+    }
 
+    private List<AvailableDateTime> toAvailableDateTimes(TimeBlock timeBlock, TimeReplaceRequest timeReplaceRequest) {
+        if (timeReplaceRequest.hasAvailableTimeRanges()) {
+            if (timeReplaceRequest.getAvailableDateTimes() != null) {
+                throw new IllegalArgumentException("availableDateTimes와 availableTimeRanges는 함께 보낼 수 없습니다.");
+            }
+            return availableTimeRangeConvertor.convert(timeBlock, timeReplaceRequest.getHasTime(),
+                    timeReplaceRequest.getAvailableTimeRanges());
+        }
         DateTimeToAvailableDateTimeConvertor dateTimeToAvailableDateTimeConvertor = dateTimeToAvailableDateTimeConvertorFactory
                 .getInstance(timeReplaceRequest.getHasTime());
-        List<AvailableDateTime> availableDateTimes = dateTimeToAvailableDateTimeConvertor.convert(timeBlock, timeReplaceRequest.getAvailableDateTimes());
+        return dateTimeToAvailableDateTimeConvertor.convert(timeBlock, timeReplaceRequest.getAvailableDateTimes());
+    }
 
-        timeReplaceValidator.validate(roomUuid, availableDateTimes);
-        availableDateTimeRepository.deleteAllByTimeBlockId(timeBlock.getId());
-        availableDateTimeRepository.saveAll(availableDateTimes);
-        timeBlock.replace(availableDateTimes);
+    // 저장된 시간과 날짜별로 비교해 달라진 날짜만 지우고 다시 저장한다. 달라진 날짜가 없으면 이벤트도 발행하지 않는다.
+    private void replaceChangedDates(TimeBlock timeBlock, List<AvailableDateTime> availableDateTimes) {
+        AvailableDateTimes oldAvailableDateTimes = new AvailableDateTimes(
+                availableDateTimeRepository.findByTimeBlockId(timeBlock.getId()));
+        AvailableDateTimes newAvailableDateTimes = new AvailableDateTimes(availableDateTimes);
+        Set<LocalDate> changedDates = newAvailableDateTimes.getChangedDates(oldAvailableDateTimes);
+        if (changedDates.isEmpty()) {
+            return;
+        }
+
+        List<AvailableDateTime> removedAvailableDateTimes = oldAvailableDateTimes.getByDates(changedDates);
+        List<AvailableDateTime> addedAvailableDateTimes = newAvailableDateTimes.getByDates(changedDates);
+        deleteAll(removedAvailableDateTimes);
+        availableDateTimeRepository.saveAll(addedAvailableDateTimes);
+        timeBlock.replaceChangedDates(removedAvailableDateTimes, addedAvailableDateTimes);
         timeBlockRepository.save(timeBlock);
     }
 
+    // 행마다 delete 하지 않고 한 번에 지운다.
+    private void deleteAll(List<AvailableDateTime> availableDateTimes) {
+        if (availableDateTimes.isEmpty()) {
+            return;
+        }
+        availableDateTimeRepository.deleteAllByIds(availableDateTimes.stream()
+                .map(AvailableDateTime::getId)
+                .collect(Collectors.toList()));
+    }
+
     private TimeBlock getTimeBlockByRoomUuidAndParticipantName(String roomUuid, String participantName) {
         return timeBlockRepository.findByRoomUuidAndParticipantName(roomUuid, participantName)
                 .orElseThrow(() -> new NotFoundException("해당하는 TimeBlock을 찾을 수 없습니다."));
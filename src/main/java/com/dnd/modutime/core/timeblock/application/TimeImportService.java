@@ -0,0 +1,69 @@
+package com.dnd.modutime.core.timeblock.application;
+
+import com.dnd.modutime.core.participant.application.ParticipantService;
+import com.dnd.modutime.core.timeblock.application.request.ParticipantTimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
+import com.dnd.modutime.core.timeblock.application.response.TimeImportResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여러 참여자의 가능한 시간을 한 트랜잭션에서 등록한다.
+// 참여자와 TimeBlock은 모아서 만들고, TimeTable은 한 번에 맞추므로 조율 결과도 방마다 한 번만 다시 계산된다.
+@Service
+@Transactional
+public class TimeImportService {
+
+    private final ParticipantService participantService;
+    private final TimeBlockService timeBlockService;
+    private final int maxParticipants;
+
+    public TimeImportService(ParticipantService participantService,
+                             TimeBlockService timeBlockService,
+                             @Value("${modutime.time-import.max-participants:1000}") int maxParticipants) {
+        if (maxParticipants <= 0) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 참여자 수는 1 이상이어야 합니다.");
+        }
+        this.participantService = participantService;
+        this.timeBlockService = timeBlockService;
+        this.maxParticipants = maxParticipants;
+    }
+
+    public TimeImportResponse importAll(String roomUuid, TimeImportRequest timeImportRequest) {
+        List<ParticipantTimeImportRequest> participants = timeImportRequest.getParticipants();
+        Map<String, String> passwordsByName = getPasswordsByName(participants);
+        int createdParticipantCount = participantService.createAllIfAbsent(roomUuid, passwordsByName);
+        List<TimeReplaceRequest> timeReplaceRequests = participants.stream()
+                .map(participant -> participant.toTimeReplaceRequest(timeImportRequest.getHasTime()))
+                .collect(Collectors.toList());
+        int changedParticipantCount = timeBlockService.replaceAll(roomUuid, timeReplaceRequests);
+        return new TimeImportResponse(participants.size(), createdParticipantCount, changedParticipantCount);
+    }
+
+    private Map<String, String> getPasswordsByName(List<ParticipantTimeImportRequest> participants) {
+        if (participants == null || participants.isEmpty()) {
+            throw new IllegalArgumentException("등록할 참여자가 없습니다.");
+        }
+        if (participants.size() > maxParticipants) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 참여자는 최대 " + maxParticipants + "명입니다.");
+        }
+        Map<String, String> passwordsByName = new LinkedHashMap<>();
+        for (ParticipantTimeImportRequest participant : participants) {
+            if (participant.getName() == null) {
+                throw new IllegalArgumentException("이름은 null일 수 없습니다");
+            }
+            if (participant.getPassword() == null) {
+                throw new IllegalArgumentException("비밀번호는 4자리 숫자여야 합니다.");
+            }
+            if (passwordsByName.put(participant.getName(), participant.getPassword()) != null) {
+                throw new IllegalArgumentException("같은 이름의 참여자가 두 번 이상 있습니다.");
+            }
+        }
+        return passwordsByName;
+    }
+}
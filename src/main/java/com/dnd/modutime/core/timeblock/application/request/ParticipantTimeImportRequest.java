@@ -0,0 +1,31 @@
+package com.dnd.modutime.core.timeblock.application.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ParticipantTimeImportRequest {
+
+    private String name;
+    private String password;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+    private List<LocalDateTime> availableDateTimes;
+
+    private List<AvailableTimeRangeRequest> availableTimeRanges;
+
+    // 시간을 보내지 않은 참여자는 가능한 시간이 없는 것으로 본다.
+    public TimeReplaceRequest toTimeReplaceRequest(Boolean hasTime) {
+        if (availableDateTimes == null && availableTimeRanges == null) {
+            return new TimeReplaceRequest(name, hasTime, List.of());
+        }
+        return new TimeReplaceRequest(name, hasTime, availableDateTimes, availableTimeRanges);
+    }
+}
@@ -0,0 +1,16 @@
+package com.dnd.modutime.core.timeblock.application.request;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimeImportRequest {
+
+    private Boolean hasTime;
+    private List<ParticipantTimeImportRequest> participants;
+}
@@ -20,4 +20,15 @@ public class TimeReplaceRequest {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
     private List<LocalDateTime> availableDateTimes;
+
+    // 30분 칸마다 시각을 보내는 대신 날짜별 구간으로 보낼 수 있다.
+    private List<AvailableTimeRangeRequest> availableTimeRanges;
+
+    public TimeReplaceRequest(String name, Boolean hasTime, List<LocalDateTime> availableDateTimes) {
+        this(name, hasTime, availableDateTimes, null);
+    }
+
+    public boolean hasAvailableTimeRanges() {
+        return availableTimeRanges != null;
+    }
 }
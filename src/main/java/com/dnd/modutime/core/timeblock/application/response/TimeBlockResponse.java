@@ -35,14 +35,12 @@ public class TimeBlockResponse {
     private static void addDateTimes(List<LocalDateTime> dateTimes,
                                      AvailableDateTime availableDateTime) {
         LocalDate date = availableDateTime.getDate();
-        List<AvailableTime> timesOrNull = availableDateTime.getTimesOrNull();
-        if (timesOrNull.isEmpty()) {
+        if (!availableDateTime.hasTime()) {
             dateTimes.add(LocalDateTime.of(date, LocalTime.of(0, 0)));
             return;
         }
-        for (AvailableTime availableTime : timesOrNull) {
-            LocalTime time = availableTime.getTime();
-            dateTimes.add(LocalDateTime.of(date, time));
+        for (AvailableTime availableTime : availableDateTime.getTimesOrNull()) {
+            dateTimes.add(LocalDateTime.of(date, availableTime.getTime()));
         }
     }
 }
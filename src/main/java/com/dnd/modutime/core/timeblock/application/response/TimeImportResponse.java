@@ -0,0 +1,16 @@
+package com.dnd.modutime.core.timeblock.application.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimeImportResponse {
+
+    private int participantCount;
+    private int createdParticipantCount;
+    private int changedParticipantCount;
+}
@@ -1,13 +1,22 @@
 package com.dnd.modutime.core.timeblock.controller;
 
 
+import com.dnd.modutime.core.timeblock.application.CalendarImportService;
+import com.dnd.modutime.core.timeblock.application.CsvImportService;
 import com.dnd.modutime.core.timeblock.application.TimeBlockService;
+import com.dnd.modutime.core.timeblock.application.TimeImportService;
+import com.dnd.modutime.core.timeblock.application.request.TimeImportRequest;
 import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
 import com.dnd.modutime.core.timeblock.application.response.TimeBlockResponse;
+import com.dnd.modutime.core.timeblock.application.response.TimeImportResponse;
+import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,6 +29,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class TimeBlockController {
 
     private final TimeBlockService timeBlockService;
+    private final TimeImportService timeImportService;
+    private final CsvImportService csvImportService;
+    private final CalendarImportService calendarImportService;
 
     @PutMapping
     public ResponseEntity<Void> replace(@PathVariable String roomUuid,
@@ -34,4 +46,26 @@ public class TimeBlockController {
         TimeBlockResponse timeBlockResponse = timeBlockService.getTimeBlock(roomUuid, name);
         return ResponseEntity.ok(timeBlockResponse);
     }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TimeImportResponse> importAll(@PathVariable String roomUuid,
+                                                        @RequestBody TimeImportRequest timeImportRequest) {
+        return ResponseEntity.ok(timeImportService.importAll(roomUuid, timeImportRequest));
+    }
+
+    // 본문을 한 줄씩 읽으므로 큰 CSV도 문자열로 한 번에 받지 않는다.
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<TimeImportResponse> importCsv(@PathVariable String roomUuid,
+                                                        InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(csvImportService.importCsv(roomUuid, inputStream));
+    }
+
+    // 캘린더 파일도 한 줄씩 읽어서 바쁜 시간을 뺀 나머지를 가능한 시간으로 등록한다.
+    @PostMapping(value = "/calendar", consumes = "text/calendar")
+    public ResponseEntity<Void> importCalendar(@PathVariable String roomUuid,
+                                               @RequestParam String name,
+                                               InputStream inputStream) throws IOException {
+        calendarImportService.importIcs(roomUuid, name, inputStream);
+        return ResponseEntity.ok().build();
+    }
 }
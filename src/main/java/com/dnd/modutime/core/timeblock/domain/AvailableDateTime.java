@@ -2,18 +2,18 @@ package com.dnd.modutime.core.timeblock.domain;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
-import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
-import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
-import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -24,6 +24,10 @@ import com.dnd.modutime.core.entity.Auditable;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AvailableDateTime implements Auditable {
 
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOT_SECONDS = SLOT_MINUTES * 60;
+    public static final int SLOTS_PER_DAY = 24 * 60 * 60 / SLOT_SECONDS;
+
     @Id
     @GeneratedValue
     private Long id;
@@ -35,11 +39,11 @@ public class AvailableDateTime implements Auditable {
     @Column(nullable = false)
     private LocalDate date;
 
-    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.EAGER)
-    @JoinColumn(
-            name = "available_date_time_id", nullable = false, updatable = false,
-            foreignKey = @ForeignKey(name = "fk_at_adt_id_ref_adt_id")
-    )
+    // 하루 48개의 30분 슬롯을 00:00부터 한 비트씩 담는다. 날짜만 있는 방은 null이다.
+    @Column(name = "time_slots")
+    private Long timeSlots;
+
+    @Transient
     private List<AvailableTime> times;
 
     private String createdBy;
@@ -54,6 +58,47 @@ public class AvailableDateTime implements Auditable {
         this.timeBlock = timeBlock;
         this.date = date;
         this.times = times;
+        this.timeSlots = toTimeSlotsOrNull(times);
+    }
+
+    public AvailableDateTime(TimeBlock timeBlock,
+                             LocalDate date,
+                             long timeSlots) {
+        validateDate(date);
+        this.timeBlock = timeBlock;
+        this.date = date;
+        this.timeSlots = timeSlots;
+    }
+
+    // 30분 단위가 아닌 시간을 버리면 빈 시간으로 저장되므로 예외를 던진다.
+    private static Long toTimeSlotsOrNull(List<AvailableTime> times) {
+        if (times == null) {
+            return null;
+        }
+        long timeSlots = 0L;
+        for (AvailableTime availableTime : times) {
+            if (!isSlotTime(availableTime.getTime())) {
+                throw new IllegalArgumentException("가능한 시간은 30분 단위여야 합니다.");
+            }
+            timeSlots |= 1L << toSlot(availableTime.getTime());
+        }
+        return timeSlots;
+    }
+
+    public static boolean isSlotTime(LocalTime time) {
+        return time.getNano() == 0 && time.toSecondOfDay() % SLOT_SECONDS == 0;
+    }
+
+    public static int toSlot(LocalTime time) {
+        return time.toSecondOfDay() / SLOT_SECONDS;
+    }
+
+    // startSlot부터 endSlot 전까지의 슬롯 비트를 만든다. endSlot이 0이면 시프트가 64가 되어 모든 비트가 켜지므로 범위를 확인한다.
+    public static long toTimeSlots(int startSlot, int endSlot) {
+        if (startSlot < 0 || startSlot >= endSlot || endSlot > SLOTS_PER_DAY) {
+            throw new IllegalArgumentException("슬롯 구간은 0 이상 " + SLOTS_PER_DAY + " 이하이고 시작이 끝보다 작아야 합니다.");
+        }
+        return (-1L >>> (Long.SIZE - endSlot)) & (-1L << startSlot);
     }
 
     private void validateDate(LocalDate date) {
@@ -63,7 +108,7 @@ public class AvailableDateTime implements Auditable {
     }
 
     public boolean hasTime() {
-        return times != null;
+        return timeSlots != null;
     }
 
     public Long getId() {
@@ -75,9 +120,25 @@ public class AvailableDateTime implements Auditable {
     }
 
     public List<AvailableTime> getTimesOrNull() {
+        if (times == null && timeSlots != null) {
+            times = toTimes(timeSlots);
+        }
         return times;
     }
 
+    private static List<AvailableTime> toTimes(long timeSlots) {
+        List<AvailableTime> times = new ArrayList<>(Long.bitCount(timeSlots));
+        for (long slots = timeSlots; slots != 0; slots &= slots - 1) {
+            int slot = Long.numberOfTrailingZeros(slots);
+            times.add(new AvailableTime(LocalTime.ofSecondOfDay((long) slot * SLOT_SECONDS)));
+        }
+        return times;
+    }
+
+    public Long getTimeSlotsOrNull() {
+        return timeSlots;
+    }
+
     @Override
     public void setCreatedBy(String createdBy) {
         this.createdBy = createdBy;
@@ -0,0 +1,91 @@
+package com.dnd.modutime.core.timeblock.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class AvailableDateTimes {
+
+    private final List<AvailableDateTime> availableDateTimes;
+
+    public AvailableDateTimes(List<AvailableDateTime> availableDateTimes) {
+        validateAvailableDateTimesNull(availableDateTimes);
+        this.availableDateTimes = availableDateTimes;
+    }
+
+    private void validateAvailableDateTimesNull(List<AvailableDateTime> availableDateTimes) {
+        if (availableDateTimes == null) {
+            throw new IllegalArgumentException("availableDateTimes는 null일 수 없습니다.");
+        }
+    }
+
+    // 날짜만 있는 슬롯은 시간을 null로 두고 비교한다.
+    public List<AvailableDateTime> subtract(AvailableDateTimes other) {
+        Map<LocalDate, Set<LocalTime>> otherSlots = other.getSlots();
+        List<AvailableDateTime> difference = new ArrayList<>();
+        for (Map.Entry<LocalDate, Set<LocalTime>> entry : getSlots().entrySet()) {
+            Set<LocalTime> times = new HashSet<>(entry.getValue());
+            times.removeAll(otherSlots.getOrDefault(entry.getKey(), Collections.emptySet()));
+            addAvailableDateTimes(difference, entry.getKey(), times);
+        }
+        return difference;
+    }
+
+    // 어느 한쪽에만 있거나 가능한 시간이 달라진 날짜
+    public Set<LocalDate> getChangedDates(AvailableDateTimes other) {
+        Map<LocalDate, Set<LocalTime>> slots = getSlots();
+        Map<LocalDate, Set<LocalTime>> otherSlots = other.getSlots();
+        Set<LocalDate> changedDates = new HashSet<>();
+        for (Map.Entry<LocalDate, Set<LocalTime>> entry : slots.entrySet()) {
+            if (!entry.getValue().equals(otherSlots.get(entry.getKey()))) {
+                changedDates.add(entry.getKey());
+            }
+        }
+        for (LocalDate date : otherSlots.keySet()) {
+            if (!slots.containsKey(date)) {
+                changedDates.add(date);
+            }
+        }
+        return changedDates;
+    }
+
+    public List<AvailableDateTime> getByDates(Set<LocalDate> dates) {
+        return availableDateTimes.stream()
+                .filter(availableDateTime -> dates.contains(availableDateTime.getDate()))
+                .collect(Collectors.toList());
+    }
+
+    private void addAvailableDateTimes(List<AvailableDateTime> availableDateTimes, LocalDate date, Set<LocalTime> times) {
+        if (times.remove(null)) {
+            availableDateTimes.add(new AvailableDateTime(null, date, null));
+        }
+        if (times.isEmpty()) {
+            return;
+        }
+        availableDateTimes.add(new AvailableDateTime(null, date, times.stream()
+                .sorted()
+                .map(AvailableTime::new)
+                .collect(Collectors.toList())));
+    }
+
+    private Map<LocalDate, Set<LocalTime>> getSlots() {
+        Map<LocalDate, Set<LocalTime>> slots = new LinkedHashMap<>();
+        for (AvailableDateTime availableDateTime : availableDateTimes) {
+            Set<LocalTime> times = slots.computeIfAbsent(availableDateTime.getDate(), date -> new HashSet<>());
+            List<AvailableTime> timesOrNull = availableDateTime.getTimesOrNull();
+            if (timesOrNull == null || timesOrNull.isEmpty()) {
+                times.add(null);
+                continue;
+            }
+            timesOrNull.forEach(availableTime -> times.add(availableTime.getTime()));
+        }
+        return slots;
+    }
+}
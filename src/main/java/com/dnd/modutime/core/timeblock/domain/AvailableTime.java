@@ -1,35 +1,11 @@
 package com.dnd.modutime.core.timeblock.domain;
 
 import java.time.LocalTime;
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.EntityListeners;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import com.dnd.modutime.core.entity.Auditable;
-import java.time.LocalDateTime;
+// AvailableDateTime의 time_slots 비트 하나에 해당하는 시간. 따로 저장하지 않는다.
+public class AvailableTime {
 
-@Entity
-@EntityListeners(AuditingEntityListener.class)
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class AvailableTime implements Auditable {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column
-    private LocalTime time;
-
-    private String createdBy;
-    private LocalDateTime createdAt;
-    private String modifiedBy;
-    private LocalDateTime modifiedAt;
+    private final LocalTime time;
 
     public AvailableTime(LocalTime time) {
         this.time = time;
@@ -38,24 +14,4 @@ public class AvailableTime implements Auditable {
     public LocalTime getTime() {
         return time;
     }
-
-    @Override
-    public void setCreatedBy(String createdBy) {
-        this.createdBy = createdBy;
-    }
-
-    @Override
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    @Override
-    public void setModifiedBy(String modifiedBy) {
-        this.modifiedBy = modifiedBy;
-    }
-
-    @Override
-    public void setModifiedAt(LocalDateTime modifiedAt) {
-        this.modifiedAt = modifiedAt;
-    }
 }
@@ -3,6 +3,7 @@ package com.dnd.modutime.core.timeblock.domain;
 import static javax.persistence.GenerationType.IDENTITY;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -71,6 +72,22 @@ public class TimeBlock extends AbstractAggregateRoot<TimeBlock> implements Audit
         registerEvent(new TimeBlockReplaceEvent(roomUuid, oldAvailableDateTimes, availableDateTimes, participantName));
     }
 
+    // 달라진 날짜의 가능한 시간만 교체하고, 이벤트에도 그 날짜들의 이전/이후 시간만 담는다.
+    public void replaceChangedDates(List<AvailableDateTime> removedAvailableDateTimes,
+                                    List<AvailableDateTime> addedAvailableDateTimes) {
+        replaceChangedDatesWithoutEvent(removedAvailableDateTimes, addedAvailableDateTimes);
+        registerEvent(new TimeBlockReplaceEvent(roomUuid, removedAvailableDateTimes, addedAvailableDateTimes, participantName));
+    }
+
+    // 일괄 등록은 참여자마다 이벤트를 발행하지 않고 TimeBlocksImportEvent 하나로 TimeTable에 알린다.
+    public void replaceChangedDatesWithoutEvent(List<AvailableDateTime> removedAvailableDateTimes,
+                                                List<AvailableDateTime> addedAvailableDateTimes) {
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>(this.availableDateTimes);
+        availableDateTimes.removeAll(removedAvailableDateTimes);
+        availableDateTimes.addAll(addedAvailableDateTimes);
+        this.availableDateTimes = availableDateTimes;
+    }
+
     public Long getId() {
         return id;
     }
@@ -12,4 +12,12 @@ public class TimeBlockReplaceEvent {
     private List<AvailableDateTime> oldAvailableDateTimes;
     private List<AvailableDateTime> newAvailableDateTimes;
     private String participantName;
+
+    public List<AvailableDateTime> getRemovedAvailableDateTimes() {
+        return new AvailableDateTimes(oldAvailableDateTimes).subtract(new AvailableDateTimes(newAvailableDateTimes));
+    }
+
+    public List<AvailableDateTime> getAddedAvailableDateTimes() {
+        return new AvailableDateTimes(newAvailableDateTimes).subtract(new AvailableDateTimes(oldAvailableDateTimes));
+    }
 }
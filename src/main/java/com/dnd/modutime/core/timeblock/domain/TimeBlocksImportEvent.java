@@ -0,0 +1,14 @@
+package com.dnd.modutime.core.timeblock.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록으로 가능한 시간이 바뀐 참여자들. 등록과 같은 트랜잭션에서 outbox에 남기고 TimeTable은 커밋된 뒤에 한 번에 맞춘다.
+@Getter
+@AllArgsConstructor
+public class TimeBlocksImportEvent {
+
+    private String roomUuid;
+    private List<String> participantNames;
+}
@@ -3,10 +3,15 @@ package com.dnd.modutime.core.timeblock.repository;
 import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AvailableDateTimeRepository extends JpaRepository<AvailableDateTime, Long> {
 
-    void deleteAllByTimeBlockId(Long timeBlockId);
-
     List<AvailableDateTime> findByTimeBlockId(Long timeBlockId);
+
+    @Modifying
+    @Query("delete from AvailableDateTime a where a.id in :ids")
+    void deleteAllByIds(@Param("ids") List<Long> ids);
 }
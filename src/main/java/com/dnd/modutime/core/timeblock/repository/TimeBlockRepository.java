@@ -4,6 +4,8 @@ import com.dnd.modutime.core.timeblock.domain.TimeBlock;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
 
@@ -11,5 +13,11 @@ public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
 
     List<TimeBlock> findByRoomUuid(String roomUuid);
 
+    // 참여자마다 가능한 시간을 따로 읽지 않도록 한 번에 가져온다.
+    @Query("select distinct t from TimeBlock t left join fetch t.availableDateTimes where t.roomUuid = :roomUuid")
+    List<TimeBlock> findWithAvailableDateTimesByRoomUuid(@Param("roomUuid") String roomUuid);
+
     boolean existsByRoomUuid(String roomUuid);
+
+    boolean existsByRoomUuidAndParticipantName(String roomUuid, String participantName);
 }
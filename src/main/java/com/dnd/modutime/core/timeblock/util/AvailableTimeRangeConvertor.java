@@ -0,0 +1,60 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+// 구간을 칸 단위 시각으로 펼치지 않고 바로 AvailableDateTime의 슬롯 비트로 만든다. 같은 날짜의 구간은 합친다.
+@Component
+public class AvailableTimeRangeConvertor {
+
+    public List<AvailableDateTime> convert(TimeBlock timeBlock,
+                                           boolean hasTime,
+                                           List<AvailableTimeRangeRequest> availableTimeRanges) {
+        Map<LocalDate, Long> dates = new HashMap<>();
+        for (AvailableTimeRangeRequest availableTimeRange : availableTimeRanges) {
+            validateDate(availableTimeRange.getDate());
+            long timeSlots = hasTime ? toTimeSlots(availableTimeRange.getStart(), availableTimeRange.getEnd()) : 0L;
+            dates.merge(availableTimeRange.getDate(), timeSlots, (a, b) -> a | b);
+        }
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>(dates.size());
+        for (Map.Entry<LocalDate, Long> entry : dates.entrySet()) {
+            if (!hasTime) {
+                availableDateTimes.add(new AvailableDateTime(timeBlock, entry.getKey(), null));
+                continue;
+            }
+            availableDateTimes.add(new AvailableDateTime(timeBlock, entry.getKey(), entry.getValue()));
+        }
+        return availableDateTimes;
+    }
+
+    private void validateDate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("구간의 날짜는 null일 수 없습니다.");
+        }
+    }
+
+    private long toTimeSlots(LocalTime start, LocalTime end) {
+        validateTime(start);
+        validateTime(end);
+        int startSlot = AvailableDateTime.toSlot(start);
+        int endSlot = end.equals(LocalTime.MIDNIGHT) ? AvailableDateTime.SLOTS_PER_DAY : AvailableDateTime.toSlot(end);
+        if (startSlot >= endSlot) {
+            throw new IllegalArgumentException("구간의 시작 시간은 끝 시간보다 빨라야 합니다.");
+        }
+        return AvailableDateTime.toTimeSlots(startSlot, endSlot);
+    }
+
+    private void validateTime(LocalTime time) {
+        if (time == null || !AvailableDateTime.isSlotTime(time)) {
+            throw new IllegalArgumentException("구간의 시간은 30분 단위여야 합니다.");
+        }
+    }
+}
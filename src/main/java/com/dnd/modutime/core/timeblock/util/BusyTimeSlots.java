@@ -0,0 +1,72 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 첫 날짜부터 마지막 날짜까지 날짜마다 바쁜 30분 슬롯을 비트로 모은다.
+// 일정이 몇 개든 날짜 수만큼의 long만 들고 있다.
+public class BusyTimeSlots {
+
+    private static final long ALL_DAY = AvailableDateTime.toTimeSlots(0, AvailableDateTime.SLOTS_PER_DAY);
+
+    private final LocalDate firstDate;
+    private final long[] busyTimeSlots;
+
+    public BusyTimeSlots(LocalDate firstDate, LocalDate lastDate) {
+        if (lastDate.isBefore(firstDate)) {
+            throw new IllegalArgumentException("마지막 날짜는 첫 날짜보다 빠를 수 없습니다.");
+        }
+        this.firstDate = firstDate;
+        this.busyTimeSlots = new long[Math.toIntExact(lastDate.toEpochDay() - firstDate.toEpochDay() + 1)];
+    }
+
+    public LocalDateTime getStart() {
+        return firstDate.atStartOfDay();
+    }
+
+    public LocalDateTime getEnd() {
+        return firstDate.plusDays(busyTimeSlots.length).atStartOfDay();
+    }
+
+    // [start, end)에 조금이라도 걸친 슬롯은 바쁜 슬롯이 된다. 범위 밖은 버린다.
+    public void add(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime from = start.isBefore(getStart()) ? getStart() : start;
+        LocalDateTime to = end.isAfter(getEnd()) ? getEnd() : end;
+        if (!to.isAfter(from)) {
+            return;
+        }
+        LocalDate date = from.toLocalDate();
+        int startSlot = AvailableDateTime.toSlot(from.toLocalTime());
+        while (date.atStartOfDay().isBefore(to)) {
+            LocalDate nextDate = date.plusDays(1);
+            int endSlot = to.isBefore(nextDate.atStartOfDay())
+                    ? toEndSlot(to.toLocalTime().toSecondOfDay(), to.getNano())
+                    : AvailableDateTime.SLOTS_PER_DAY;
+            busyTimeSlots[getOffset(date)] |= AvailableDateTime.toTimeSlots(startSlot, endSlot);
+            date = nextDate;
+            startSlot = 0;
+        }
+    }
+
+    private int toEndSlot(int secondOfDay, int nano) {
+        int seconds = nano > 0 ? secondOfDay + 1 : secondOfDay;
+        return (seconds + AvailableDateTime.SLOT_SECONDS - 1) / AvailableDateTime.SLOT_SECONDS;
+    }
+
+    public long get(LocalDate date) {
+        long offset = date.toEpochDay() - firstDate.toEpochDay();
+        if (offset < 0 || offset >= busyTimeSlots.length) {
+            return 0L;
+        }
+        return busyTimeSlots[(int) offset];
+    }
+
+    public boolean isBusyAllDay(LocalDate date) {
+        return get(date) == ALL_DAY;
+    }
+
+    private int getOffset(LocalDate date) {
+        return (int) (date.toEpochDay() - firstDate.toEpochDay());
+    }
+}
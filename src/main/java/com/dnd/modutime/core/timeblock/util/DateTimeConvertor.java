@@ -1,7 +1,6 @@
 package com.dnd.modutime.core.timeblock.util;
 
 import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
-import com.dnd.modutime.core.timeblock.domain.AvailableTime;
 import com.dnd.modutime.core.timeblock.domain.TimeBlock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -9,7 +8,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 // TODO: test
@@ -19,22 +18,19 @@ public class DateTimeConvertor implements DateTimeToAvailableDateTimeConvertor {
     @Override
     public List<AvailableDateTime> convert(TimeBlock timeBlock,
                                            List<LocalDateTime> dateTimes) {
-        List<AvailableDateTime> availableDateTimes = new ArrayList<>();
-        HashMap<LocalDate, List<LocalTime>> dates = new HashMap<>();
+        Map<LocalDate, Long> dates = new HashMap<>();
         dateTimes.forEach(dateTime -> addTime(dates, dateTime.toLocalDate(), dateTime.toLocalTime()));
-        for (LocalDate localDate : dates.keySet()) {
-            availableDateTimes.add(new AvailableDateTime(timeBlock, localDate, dates.get(localDate).stream()
-                    .map(AvailableTime::new)
-                    .collect(Collectors.toList())));
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>(dates.size());
+        for (Map.Entry<LocalDate, Long> entry : dates.entrySet()) {
+            availableDateTimes.add(new AvailableDateTime(timeBlock, entry.getKey(), entry.getValue()));
         }
         return availableDateTimes;
     }
 
-    private void addTime(HashMap<LocalDate, List<LocalTime>> dates, LocalDate date, LocalTime time) {
-        if (!dates.containsKey(date)) {
-            dates.put(date, new ArrayList<>(List.of(time)));
-            return;
+    private void addTime(Map<LocalDate, Long> dates, LocalDate date, LocalTime time) {
+        if (!AvailableDateTime.isSlotTime(time)) {
+            throw new IllegalArgumentException("가능한 시간은 30분 단위여야 합니다.");
         }
-        dates.get(date).add(time);
+        dates.merge(date, 1L << AvailableDateTime.toSlot(time), (timeSlots, slot) -> timeSlots | slot);
     }
 }
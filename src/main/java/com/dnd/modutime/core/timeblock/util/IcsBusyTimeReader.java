@@ -0,0 +1,430 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.springframework.stereotype.Component;
+
+// ICS를 한 줄씩 읽으면서 VEVENT가 끝날 때마다 바쁜 구간을 zoneId의 시각으로 넘긴다.
+// 지금 읽고 있는 VEVENT 하나의 값만 들고 있으므로 파일 크기와 상관없이 메모리를 일정하게 쓴다.
+// TRANSP:TRANSPARENT와 STATUS:CANCELLED인 일정은 바쁜 시간으로 보지 않는다.
+// RECURRENCE-ID로 옮긴 반복 일정은 원래 자리도 바쁜 시간으로 남는다. 원래 일정을 기억해 두지 않기 때문이다.
+// IcsRecurrenceRule이 다루지 못하는 RRULE이 있으면 빈 시간을 잘못 만들지 않도록 파일을 읽지 않는다.
+@Component
+public class IcsBusyTimeReader {
+
+    private static final int MAX_LINE_LENGTH = 16 * 1024;
+    private static final int MAX_EXCLUDED_DATES = 10_000;
+    private static final Set<String> PROPERTY_NAMES = Set.of(
+            "BEGIN", "END", "DTSTART", "DTEND", "DURATION", "RRULE", "EXDATE", "TRANSP", "STATUS");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    // [from, to)에 걸친 바쁜 구간만 넘긴다.
+    public void read(InputStream inputStream,
+                     ZoneId zoneId,
+                     LocalDateTime from,
+                     LocalDateTime to,
+                     BiConsumer<LocalDateTime, LocalDateTime> busyTimeConsumer) throws IOException {
+        LineReader reader = new LineReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Event event = null;
+        int nestedDepth = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            ContentLine contentLine = ContentLine.parseOrNull(line, PROPERTY_NAMES);
+            if (contentLine == null) {
+                continue;
+            }
+            if (reader.isTruncated()) {
+                throw new IllegalArgumentException("ICS " + reader.getLineNumber() + "번째 줄이 너무 깁니다.");
+            }
+            if (contentLine.is("BEGIN")) {
+                if (event != null) {
+                    nestedDepth++;
+                } else if (contentLine.valueIs("VEVENT")) {
+                    event = new Event(zoneId);
+                }
+                continue;
+            }
+            if (contentLine.is("END") && event != null) {
+                if (nestedDepth > 0) {
+                    nestedDepth--;
+                    continue;
+                }
+                event.forEachBusyTime(from, to, busyTimeConsumer);
+                event = null;
+                continue;
+            }
+            if (event == null || nestedDepth > 0) {
+                continue;
+            }
+            try {
+                event.set(contentLine);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("ICS " + reader.getLineNumber() + "번째 줄의 날짜 형식이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    // 값에 붙은 TZID, 끝의 Z(UTC) 순으로 시간대를 정하고 둘 다 없으면 zoneId의 시각으로 본다.
+    private static LocalDateTime toLocalDateTime(String value, String tzid, ZoneId zoneId) {
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMATTER)
+                    .atOffset(ZoneOffset.UTC)
+                    .atZoneSameInstant(zoneId)
+                    .toLocalDateTime();
+        }
+        LocalDateTime localDateTime = LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+        ZoneId sourceZoneId = toZoneIdOrNull(tzid);
+        if (sourceZoneId == null) {
+            return localDateTime;
+        }
+        return localDateTime.atZone(sourceZoneId)
+                .withZoneSameInstant(zoneId)
+                .toLocalDateTime();
+    }
+
+    // Windows 이름처럼 Java가 모르는 TZID는 zoneId의 시각으로 본다.
+    private static ZoneId toZoneIdOrNull(String tzid) {
+        if (tzid == null) {
+            return null;
+        }
+        try {
+            return ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isDate(String value, ContentLine contentLine) {
+        return "DATE".equalsIgnoreCase(contentLine.valueType) || value.indexOf('T') < 0;
+    }
+
+    private static final class Event {
+
+        private final ZoneId zoneId;
+        private LocalDateTime start;
+        private ZoneId startZoneId;
+        private boolean allDay;
+        private LocalDateTime end;
+        private Duration duration;
+        private String recurrenceRule;
+        private final Set<LocalDateTime> excludedStarts = new HashSet<>();
+        private boolean free;
+
+        private Event(ZoneId zoneId) {
+            this.zoneId = zoneId;
+        }
+
+        private void set(ContentLine contentLine) {
+            String value = contentLine.value;
+            switch (contentLine.name) {
+                case "DTSTART":
+                    allDay = isDate(value, contentLine);
+                    startZoneId = allDay ? zoneId : getStartZoneId(value, contentLine.tzid);
+                    start = allDay ? LocalDate.parse(value, DATE_FORMATTER).atStartOfDay()
+                            : toLocalDateTime(value, contentLine.tzid, startZoneId);
+                    break;
+                case "DTEND":
+                    end = isDate(value, contentLine) ? LocalDate.parse(value, DATE_FORMATTER).atStartOfDay()
+                            : toLocalDateTime(value, contentLine.tzid, zoneId);
+                    break;
+                case "DURATION":
+                    duration = parseDuration(value);
+                    break;
+                case "RRULE":
+                    recurrenceRule = value;
+                    break;
+                case "EXDATE":
+                    addExcludedStarts(contentLine);
+                    break;
+                case "TRANSP":
+                    free = free || value.equalsIgnoreCase("TRANSPARENT");
+                    break;
+                case "STATUS":
+                    free = free || value.equalsIgnoreCase("CANCELLED");
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        // 반복은 원래 시간대의 벽시계 시각으로 펼쳐야 서머타임이 바뀌어도 같은 시각에 반복된다.
+        private ZoneId getStartZoneId(String value, String tzid) {
+            if (value.endsWith("Z")) {
+                return ZoneOffset.UTC;
+            }
+            ZoneId sourceZoneId = toZoneIdOrNull(tzid);
+            return sourceZoneId == null ? zoneId : sourceZoneId;
+        }
+
+        private Duration parseDuration(String value) {
+            if (value.startsWith("-")) {
+                return Duration.ZERO;
+            }
+            String duration = value.startsWith("+") ? value.substring(1) : value;
+            try {
+                if (duration.length() > 2 && duration.endsWith("W")) {
+                    return Duration.ofDays(7L * Long.parseLong(duration.substring(1, duration.length() - 1)));
+                }
+                return Duration.parse(duration);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new DateTimeException("DURATION 형식이 올바르지 않습니다.", e);
+            }
+        }
+
+        private void addExcludedStarts(ContentLine contentLine) {
+            for (String value : contentLine.value.split(",")) {
+                if (excludedStarts.size() >= MAX_EXCLUDED_DATES) {
+                    throw new IllegalArgumentException("한 일정의 EXDATE는 최대 " + MAX_EXCLUDED_DATES + "개입니다.");
+                }
+                excludedStarts.add(isDate(value, contentLine) ? LocalDate.parse(value, DATE_FORMATTER).atStartOfDay()
+                        : toLocalDateTime(value, contentLine.tzid, zoneId));
+            }
+        }
+
+        private void forEachBusyTime(LocalDateTime from, LocalDateTime to,
+                                     BiConsumer<LocalDateTime, LocalDateTime> busyTimeConsumer) {
+            if (start == null || free) {
+                return;
+            }
+            Duration length = getLength();
+            if (length.isNegative() || length.isZero()) {
+                return;
+            }
+            if (recurrenceRule == null) {
+                accept(start, length, from, to, busyTimeConsumer);
+                return;
+            }
+            IcsRecurrenceRule rule = IcsRecurrenceRule.parse(recurrenceRule, startZoneId);
+            // 시간대가 달라도 빠지지 않도록 앞뒤로 하루씩 더 넓혀서 펼치고, 구간에 걸치는지는 바꾼 뒤에 다시 본다.
+            LocalDateTime sourceFrom = toSourceZone(from).minus(length).minusDays(1);
+            LocalDateTime sourceTo = toSourceZone(to).plusDays(1);
+            rule.forEach(start, sourceFrom, sourceTo, occurrence -> accept(occurrence, length, from, to, busyTimeConsumer));
+        }
+
+        // DTEND는 zoneId의 시각이므로 길이도 zoneId의 시각 기준으로 잰다. 둘 다 없으면 종일 일정은 하루, 나머지는 길이가 없다.
+        private Duration getLength() {
+            if (duration != null) {
+                return duration;
+            }
+            if (end != null) {
+                return Duration.between(toZone(start), end);
+            }
+            return allDay ? Duration.ofDays(1) : Duration.ZERO;
+        }
+
+        private void accept(LocalDateTime occurrence, Duration length, LocalDateTime from, LocalDateTime to,
+                            BiConsumer<LocalDateTime, LocalDateTime> busyTimeConsumer) {
+            LocalDateTime occurrenceStart = toZone(occurrence);
+            if (excludedStarts.contains(occurrenceStart)) {
+                return;
+            }
+            LocalDateTime occurrenceEnd = occurrenceStart.plus(length);
+            if (occurrenceEnd.isAfter(from) && occurrenceStart.isBefore(to)) {
+                busyTimeConsumer.accept(occurrenceStart, occurrenceEnd);
+            }
+        }
+
+        private LocalDateTime toZone(LocalDateTime sourceDateTime) {
+            if (startZoneId.equals(zoneId)) {
+                return sourceDateTime;
+            }
+            return sourceDateTime.atZone(startZoneId)
+                    .withZoneSameInstant(zoneId)
+                    .toLocalDateTime();
+        }
+
+        private LocalDateTime toSourceZone(LocalDateTime dateTime) {
+            if (startZoneId.equals(zoneId)) {
+                return dateTime;
+            }
+            return dateTime.atZone(zoneId)
+                    .withZoneSameInstant(startZoneId)
+                    .toLocalDateTime();
+        }
+    }
+
+    // NAME;PARAM=VALUE;...:VALUE 형식의 한 줄에서 이름, TZID, VALUE 파라미터, 값만 꺼낸다.
+    // SUMMARY, DESCRIPTION처럼 쓰지 않는 줄은 이름만 보고 바로 버린다.
+    private static final class ContentLine {
+
+        private final String name;
+        private final String tzid;
+        private final String valueType;
+        private final String value;
+
+        private ContentLine(String name, String tzid, String valueType, String value) {
+            this.name = name;
+            this.tzid = tzid;
+            this.valueType = valueType;
+            this.value = value;
+        }
+
+        private static ContentLine parseOrNull(String line, Set<String> names) {
+            int nameEndIndex = findNameEndIndex(line);
+            if (nameEndIndex < 0 || !names.contains(line.substring(0, nameEndIndex).trim().toUpperCase())) {
+                return null;
+            }
+            int valueIndex = findValueIndex(line);
+            if (valueIndex < 0) {
+                return null;
+            }
+            String[] nameAndParameters = line.substring(0, valueIndex).split(";");
+            String tzid = null;
+            String valueType = null;
+            for (int i = 1; i < nameAndParameters.length; i++) {
+                String parameter = nameAndParameters[i];
+                int index = parameter.indexOf('=');
+                if (index < 0) {
+                    continue;
+                }
+                String parameterName = parameter.substring(0, index).toUpperCase();
+                String parameterValue = unquote(parameter.substring(index + 1));
+                if (parameterName.equals("TZID")) {
+                    tzid = parameterValue;
+                } else if (parameterName.equals("VALUE")) {
+                    valueType = parameterValue;
+                }
+            }
+            return new ContentLine(nameAndParameters[0].trim().toUpperCase(), tzid, valueType, line.substring(valueIndex + 1).trim());
+        }
+
+        private static int findNameEndIndex(String line) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == ';' || c == ':') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // 따옴표 안의 콜론은 값의 시작으로 보지 않는다.
+        private static int findValueIndex(String line) {
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ':' && !quoted) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String unquote(String value) {
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                return value.substring(1, value.length() - 1);
+            }
+            return value;
+        }
+
+        private boolean is(String name) {
+            return this.name.equals(name);
+        }
+
+        private boolean valueIs(String value) {
+            return this.value.equalsIgnoreCase(value);
+        }
+    }
+
+    // 공백이나 탭으로 시작하는 줄을 앞 줄에 이어 붙여 한 줄로 돌려준다.
+    // MAX_LINE_LENGTH를 넘는 부분은 버리고 isTruncated로 알린다. 긴 DESCRIPTION이 있어도 메모리를 더 쓰지 않는다.
+    private static final class LineReader {
+
+        private static final int BUFFER_SIZE = 8 * 1024;
+        private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private int lineNumber;
+        private int nextLineNumber = 1;
+        private boolean truncated;
+
+        private LineReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            lineNumber = nextLineNumber;
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (lineNumber == 1 && c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+            while (c != -1) {
+                if (c == '\r' || c == '\n') {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    nextLineNumber++;
+                    int next = peek();
+                    if (next != ' ' && next != '\t') {
+                        break;
+                    }
+                    read();
+                } else if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+                c = read();
+            }
+            return line.toString();
+        }
+
+        private int read() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position++];
+        }
+
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        private boolean fill() throws IOException {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+
+        private int getLineNumber() {
+            return lineNumber;
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
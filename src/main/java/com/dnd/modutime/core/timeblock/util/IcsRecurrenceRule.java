@@ -0,0 +1,320 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+// RRULE 중 FREQ(DAILY, WEEKLY, MONTHLY, YEARLY), INTERVAL, COUNT, UNTIL, BYDAY, BYMONTHDAY, BYMONTH를 다룬다. 주는 WKST와 상관없이 월요일에 시작한다.
+// 2TU, -1FR처럼 순번이 붙은 BYDAY와 BYMONTHDAY는 MONTHLY, BYMONTH가 있는 YEARLY에서 달 안의 날짜로 펼친다.
+// 그 밖의 규칙은 IllegalArgumentException을 던진다. 첫 일정만 바쁜 시간으로 보면 나머지 반복이 빈 시간으로 들어가기 때문이다.
+// 반복을 미리 펼쳐 두지 않고 필요한 구간의 시작 시각만 차례로 넘긴다.
+final class IcsRecurrenceRule {
+
+    private static final Set<String> SUPPORTED_PARTS = Set.of(
+            "FREQ", "INTERVAL", "COUNT", "UNTIL", "BYDAY", "BYMONTHDAY", "BYMONTH", "WKST");
+    private static final Map<String, ChronoUnit> FREQUENCIES = Map.of(
+            "DAILY", ChronoUnit.DAYS,
+            "WEEKLY", ChronoUnit.WEEKS,
+            "MONTHLY", ChronoUnit.MONTHS,
+            "YEARLY", ChronoUnit.YEARS);
+    private static final Map<String, DayOfWeek> DAYS_OF_WEEK = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY);
+    private static final int MAX_WEEKS_OF_MONTH = 5;
+    private static final int MAX_DAYS_OF_MONTH = 31;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ChronoUnit frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final List<WeekdayNum> byDays;
+    private final List<Integer> byMonthDays;
+    private final Set<Month> byMonths;
+
+    private IcsRecurrenceRule(ChronoUnit frequency,
+                              int interval,
+                              Integer count,
+                              LocalDateTime until,
+                              List<WeekdayNum> byDays,
+                              List<Integer> byMonthDays,
+                              Set<Month> byMonths) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDays = byDays;
+        this.byMonthDays = byMonthDays;
+        this.byMonths = byMonths;
+    }
+
+    // UNTIL은 zoneId의 벽시계 시각으로 바꾼다. X-로 시작하는 확장 항목은 무시한다.
+    static IcsRecurrenceRule parse(String value, ZoneId zoneId) {
+        ChronoUnit frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        List<WeekdayNum> byDays = new ArrayList<>();
+        List<Integer> byMonthDays = new ArrayList<>();
+        Set<Month> byMonths = EnumSet.noneOf(Month.class);
+        try {
+            for (String part : value.split(";")) {
+                int index = part.indexOf('=');
+                if (index < 0) {
+                    throw unsupported(value);
+                }
+                String name = part.substring(0, index).toUpperCase();
+                String partValue = part.substring(index + 1).toUpperCase();
+                if (name.startsWith("X-")) {
+                    continue;
+                }
+                if (!SUPPORTED_PARTS.contains(name)) {
+                    throw unsupported(value);
+                }
+                if (name.equals("FREQ")) {
+                    frequency = FREQUENCIES.get(partValue);
+                } else if (name.equals("INTERVAL")) {
+                    interval = Integer.parseInt(partValue);
+                } else if (name.equals("COUNT")) {
+                    count = Integer.parseInt(partValue);
+                } else if (name.equals("UNTIL")) {
+                    until = parseUntil(partValue, zoneId);
+                } else if (name.equals("BYDAY") && !addWeekdayNums(partValue, byDays)) {
+                    throw unsupported(value);
+                } else if (name.equals("BYMONTHDAY") && !addMonthDays(partValue, byMonthDays)) {
+                    throw unsupported(value);
+                } else if (name.equals("BYMONTH")) {
+                    for (String month : partValue.split(",")) {
+                        byMonths.add(Month.of(Integer.parseInt(month)));
+                    }
+                }
+            }
+        } catch (NumberFormatException | DateTimeException e) {
+            throw unsupported(value);
+        }
+        if (frequency == null || interval < 1 || (count != null && count < 1)) {
+            throw unsupported(value);
+        }
+        boolean hasOrdinal = byDays.stream().anyMatch(WeekdayNum::hasOrdinal);
+        boolean withinMonth = frequency == ChronoUnit.MONTHS || (frequency == ChronoUnit.YEARS && !byMonths.isEmpty());
+        if (!withinMonth && (hasOrdinal || !byMonthDays.isEmpty() || (frequency == ChronoUnit.YEARS && !byDays.isEmpty()))) {
+            throw unsupported(value);
+        }
+        return new IcsRecurrenceRule(frequency, interval, count, until, byDays, byMonthDays, byMonths);
+    }
+
+    private static IllegalArgumentException unsupported(String value) {
+        return new IllegalArgumentException("ICS의 반복 규칙을 읽을 수 없습니다. RRULE:" + value);
+    }
+
+    private static LocalDateTime parseUntil(String value, ZoneId zoneId) {
+        if (value.length() == 8) {
+            return LocalDate.parse(value, DATE_FORMATTER).atTime(LocalTime.MAX);
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMATTER)
+                    .atOffset(ZoneOffset.UTC)
+                    .atZoneSameInstant(zoneId)
+                    .toLocalDateTime();
+        }
+        return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+    }
+
+    // 요일 앞의 순번은 달 안에서의 순번만 다루므로 -5부터 5까지다.
+    private static boolean addWeekdayNums(String value, List<WeekdayNum> byDays) {
+        for (String day : value.split(",")) {
+            DayOfWeek dayOfWeek = day.length() < 2 ? null : DAYS_OF_WEEK.get(day.substring(day.length() - 2));
+            if (dayOfWeek == null) {
+                return false;
+            }
+            String ordinal = day.substring(0, day.length() - 2);
+            int weekOfMonth = ordinal.isEmpty() ? 0 : Integer.parseInt(ordinal);
+            if (!ordinal.isEmpty() && (weekOfMonth == 0 || Math.abs(weekOfMonth) > MAX_WEEKS_OF_MONTH)) {
+                return false;
+            }
+            byDays.add(new WeekdayNum(weekOfMonth, dayOfWeek));
+        }
+        return true;
+    }
+
+    private static boolean addMonthDays(String value, List<Integer> byMonthDays) {
+        for (String day : value.split(",")) {
+            int dayOfMonth = Integer.parseInt(day);
+            if (dayOfMonth == 0 || Math.abs(dayOfMonth) > MAX_DAYS_OF_MONTH) {
+                return false;
+            }
+            byMonthDays.add(dayOfMonth);
+        }
+        return true;
+    }
+
+    // start부터 반복되는 시작 시각 중 [from, to]에 있는 것만 차례로 넘긴다. DTSTART는 규칙에 맞지 않아도 첫 번째로 센다.
+    // COUNT가 없으면 from 근처까지 바로 건너뛰므로 오래전에 시작한 반복도 구간 길이만큼만 돈다.
+    void forEach(LocalDateTime start, LocalDateTime from, LocalDateTime to, Consumer<LocalDateTime> consumer) {
+        if (start.isAfter(to)) {
+            return;
+        }
+        if (!start.isBefore(from)) {
+            consumer.accept(start);
+        }
+        int occurrenceCount = 1;
+        for (long period = getFirstPeriod(start, from); ; period += interval) {
+            if (getPeriodStart(start, period).isAfter(to)) {
+                return;
+            }
+            for (LocalDateTime occurrence : getCandidates(start, period)) {
+                if (!occurrence.isAfter(start)) {
+                    continue;
+                }
+                if (occurrence.isAfter(to) || (until != null && occurrence.isAfter(until))) {
+                    return;
+                }
+                occurrenceCount++;
+                if (count != null && occurrenceCount > count) {
+                    return;
+                }
+                if (!occurrence.isBefore(from)) {
+                    consumer.accept(occurrence);
+                }
+            }
+        }
+    }
+
+    private long getFirstPeriod(LocalDateTime start, LocalDateTime from) {
+        if (count != null || !from.isAfter(start)) {
+            return 0L;
+        }
+        long period = Math.max(0L, frequency.between(start, from) - 1);
+        return period - period % interval;
+    }
+
+    // 주기의 첫날 00:00이다. 이 시각이 to보다 늦으면 그 주기부터는 후보가 모두 to보다 늦다.
+    private LocalDateTime getPeriodStart(LocalDateTime start, long period) {
+        LocalDate date = start.toLocalDate().plus(period, frequency);
+        if (frequency == ChronoUnit.WEEKS) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        }
+        if (frequency == ChronoUnit.MONTHS) {
+            return date.withDayOfMonth(1).atStartOfDay();
+        }
+        if (frequency == ChronoUnit.YEARS) {
+            return date.withDayOfYear(1).atStartOfDay();
+        }
+        return date.atStartOfDay();
+    }
+
+    // 한 주기 안의 후보를 시간 순으로 만든다. YEARLY가 아니면 BYMONTH는 후보를 거르기만 한다.
+    private List<LocalDateTime> getCandidates(LocalDateTime start, long period) {
+        LocalDate periodDate = start.toLocalDate().plus(period, frequency);
+        Set<LocalDate> dates = new TreeSet<>();
+        if (frequency == ChronoUnit.YEARS) {
+            for (Month month : byMonths.isEmpty() ? EnumSet.of(start.getMonth()) : byMonths) {
+                addDatesOfMonth(YearMonth.of(periodDate.getYear(), month), start.getDayOfMonth(), dates);
+            }
+        } else if (frequency == ChronoUnit.MONTHS) {
+            addDatesOfMonth(YearMonth.from(periodDate), start.getDayOfMonth(), dates);
+        } else if (frequency == ChronoUnit.WEEKS && !byDays.isEmpty()) {
+            LocalDate weekStart = periodDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            for (WeekdayNum byDay : byDays) {
+                dates.add(weekStart.with(TemporalAdjusters.nextOrSame(byDay.dayOfWeek)));
+            }
+        } else if (matchesByDays(periodDate)) {
+            dates.add(periodDate);
+        }
+        List<LocalDateTime> candidates = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            if (frequency == ChronoUnit.YEARS || byMonths.isEmpty() || byMonths.contains(date.getMonth())) {
+                candidates.add(date.atTime(start.toLocalTime()));
+            }
+        }
+        return candidates;
+    }
+
+    // BYMONTHDAY가 있으면 그 날짜 중 BYDAY에 맞는 날을, BYDAY만 있으면 그 요일들을 모은다.
+    // 둘 다 없으면 DTSTART와 같은 날이고, 그런 날이 없는 달(2월 30일 등)은 건너뛴다.
+    private void addDatesOfMonth(YearMonth yearMonth, int startDayOfMonth, Set<LocalDate> dates) {
+        if (!byMonthDays.isEmpty()) {
+            for (int byMonthDay : byMonthDays) {
+                int dayOfMonth = byMonthDay > 0 ? byMonthDay : yearMonth.lengthOfMonth() + 1 + byMonthDay;
+                if (yearMonth.isValidDay(dayOfMonth) && matchesByDays(yearMonth.atDay(dayOfMonth))) {
+                    dates.add(yearMonth.atDay(dayOfMonth));
+                }
+            }
+            return;
+        }
+        if (!byDays.isEmpty()) {
+            for (WeekdayNum byDay : byDays) {
+                byDay.addDates(yearMonth, dates);
+            }
+            return;
+        }
+        if (yearMonth.isValidDay(startDayOfMonth)) {
+            dates.add(yearMonth.atDay(startDayOfMonth));
+        }
+    }
+
+    private boolean matchesByDays(LocalDate date) {
+        return byDays.isEmpty() || byDays.stream().anyMatch(byDay -> byDay.matches(date));
+    }
+
+    // BYDAY의 한 항목이다. weekOfMonth가 0이면 달 안의 모든 그 요일이고, 음수면 달의 끝에서부터 센다.
+    private static final class WeekdayNum {
+
+        private final int weekOfMonth;
+        private final DayOfWeek dayOfWeek;
+
+        private WeekdayNum(int weekOfMonth, DayOfWeek dayOfWeek) {
+            this.weekOfMonth = weekOfMonth;
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        private boolean hasOrdinal() {
+            return weekOfMonth != 0;
+        }
+
+        private boolean matches(LocalDate date) {
+            if (date.getDayOfWeek() != dayOfWeek) {
+                return false;
+            }
+            return !hasOrdinal() || date.equals(date.with(TemporalAdjusters.dayOfWeekInMonth(weekOfMonth, dayOfWeek)));
+        }
+
+        // 다섯째 요일이 없는 달처럼 다른 달로 넘어간 날짜는 넣지 않는다.
+        private void addDates(YearMonth yearMonth, Set<LocalDate> dates) {
+            LocalDate firstDate = yearMonth.atDay(1);
+            if (hasOrdinal()) {
+                LocalDate date = firstDate.with(TemporalAdjusters.dayOfWeekInMonth(weekOfMonth, dayOfWeek));
+                if (YearMonth.from(date).equals(yearMonth)) {
+                    dates.add(date);
+                }
+                return;
+            }
+            for (LocalDate date = firstDate.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+                 YearMonth.from(date).equals(yearMonth); date = date.plusWeeks(1)) {
+                dates.add(date);
+            }
+        }
+    }
+}
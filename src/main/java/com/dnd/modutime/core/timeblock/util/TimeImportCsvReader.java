@@ -0,0 +1,119 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.application.request.ParticipantTimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeImportRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+// name,password,date,start,end 형식의 CSV를 한 줄씩 읽어 참여자별 구간으로 모은다.
+// 본문 문자열은 들고 있지 않지만 모은 구간은 메모리에 남으므로 참여자 수와 함께 줄 수도 제한한다.
+// 날짜만 있는 방은 start, end를 비우고, 가능한 시간이 없는 참여자는 date까지 비운다. 첫 줄이 name으로 시작하면 헤더로 보고 건너뛴다.
+@Component
+public class TimeImportCsvReader {
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final String HEADER_PREFIX = "name,";
+    private static final String DELIMITER = ",";
+    private static final int MIN_COLUMN_SIZE = 3;
+    private static final int MAX_COLUMN_SIZE = 5;
+
+    public TimeImportRequest read(InputStream inputStream, int maxParticipants, int maxRows) throws IOException {
+        Map<String, String> passwordsByName = new LinkedHashMap<>();
+        Map<String, List<AvailableTimeRangeRequest>> rangesByName = new LinkedHashMap<>();
+        Boolean hasTime = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        int rowCount = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith(BYTE_ORDER_MARK)) {
+                line = line.substring(BYTE_ORDER_MARK.length());
+            }
+            if (line.isBlank() || (lineNumber == 1 && line.startsWith(HEADER_PREFIX))) {
+                continue;
+            }
+            if (++rowCount > maxRows) {
+                throw new IllegalArgumentException("CSV는 한 번에 최대 " + maxRows + "줄까지 등록할 수 있습니다.");
+            }
+            String[] columns = toColumns(line, lineNumber);
+            String name = columns[0];
+            String password = columns[1];
+            if (!passwordsByName.containsKey(name)) {
+                validateParticipantSize(passwordsByName.size() + 1, maxParticipants);
+                passwordsByName.put(name, password);
+                rangesByName.put(name, new ArrayList<>());
+            }
+            if (!passwordsByName.get(name).equals(password)) {
+                throw new IllegalArgumentException("CSV " + lineNumber + "번째 줄의 비밀번호가 같은 참여자의 다른 줄과 다릅니다.");
+            }
+            if (columns[2].isEmpty()) {
+                continue;
+            }
+            boolean rowHasTime = hasTime(columns, lineNumber);
+            if (hasTime != null && hasTime != rowHasTime) {
+                throw new IllegalArgumentException("CSV에 시간이 있는 줄과 없는 줄이 섞여 있습니다.");
+            }
+            hasTime = rowHasTime;
+            rangesByName.get(name).add(toRange(columns, rowHasTime, lineNumber));
+        }
+
+        List<ParticipantTimeImportRequest> participants = new ArrayList<>(passwordsByName.size());
+        passwordsByName.forEach((name, password) ->
+                participants.add(new ParticipantTimeImportRequest(name, password, null, rangesByName.get(name))));
+        return new TimeImportRequest(hasTime == null || hasTime, participants);
+    }
+
+    private String[] toColumns(String line, int lineNumber) {
+        String[] values = line.split(DELIMITER, -1);
+        if (values.length < MIN_COLUMN_SIZE || values.length > MAX_COLUMN_SIZE) {
+            throw new IllegalArgumentException("CSV " + lineNumber + "번째 줄의 형식이 올바르지 않습니다.");
+        }
+        String[] columns = new String[MAX_COLUMN_SIZE];
+        for (int i = 0; i < MAX_COLUMN_SIZE; i++) {
+            columns[i] = i < values.length ? values[i].trim() : "";
+        }
+        if (columns[0].isEmpty()) {
+            throw new IllegalArgumentException("CSV " + lineNumber + "번째 줄의 이름이 비어 있습니다.");
+        }
+        return columns;
+    }
+
+    private void validateParticipantSize(int participantSize, int maxParticipants) {
+        if (participantSize > maxParticipants) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 참여자는 최대 " + maxParticipants + "명입니다.");
+        }
+    }
+
+    private boolean hasTime(String[] columns, int lineNumber) {
+        if (columns[3].isEmpty() != columns[4].isEmpty()) {
+            throw new IllegalArgumentException("CSV " + lineNumber + "번째 줄의 시작 시간과 끝 시간은 함께 있어야 합니다.");
+        }
+        return !columns[3].isEmpty();
+    }
+
+    private AvailableTimeRangeRequest toRange(String[] columns, boolean hasTime, int lineNumber) {
+        try {
+            LocalDate date = LocalDate.parse(columns[2]);
+            if (!hasTime) {
+                return new AvailableTimeRangeRequest(date, null, null);
+            }
+            return new AvailableTimeRangeRequest(date, LocalTime.parse(columns[3]), LocalTime.parse(columns[4]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("CSV " + lineNumber + "번째 줄의 날짜나 시간 형식이 올바르지 않습니다.");
+        }
+    }
+}
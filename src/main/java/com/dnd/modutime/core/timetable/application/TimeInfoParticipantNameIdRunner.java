@@ -0,0 +1,48 @@
+package com.dnd.modutime.core.timetable.application;
+
+import static com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName.ID_ALLOCATION_SIZE;
+import static com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName.ID_TABLE_NAME;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// IDENTITY로 저장된 기존 행과 id가 겹치지 않도록 시퀀스 테이블을 최대 id 이후로 맞춘다.
+// 기존 행이 있는 DB에 처음 배포할 때만 modutime.time-info-participant-name.align-ids=true 로 켜서 실행한다.
+// 여러 서버가 같이 실행해도 시퀀스 행은 하나만 만들고 값은 올리기만 하므로 몇 번 실행해도 결과가 같다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "modutime.time-info-participant-name.align-ids", havingValue = "true")
+public class TimeInfoParticipantNameIdRunner implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "select coalesce(max(id), 0) from time_info_participant_name", Long.class);
+        long nextValue = maxId + ID_ALLOCATION_SIZE + 1;
+        insertIfAbsent(nextValue);
+        jdbcTemplate.update("update " + ID_TABLE_NAME + " set next_val = ? where next_val < ?", nextValue, nextValue);
+    }
+
+    // 행이 없을 때만 한 문장으로 넣는다. 동시에 넣다가 한쪽이 실패해도 다른 서버가 넣었으면 그대로 진행한다.
+    private void insertIfAbsent(long nextValue) {
+        try {
+            jdbcTemplate.update("insert into " + ID_TABLE_NAME + " (next_val) select ? from dual"
+                    + " where not exists (select 1 from " + ID_TABLE_NAME + ")", nextValue);
+        } catch (DataAccessException e) {
+            if (!existsRow()) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean existsRow() {
+        return !jdbcTemplate.queryForList("select 1 from " + ID_TABLE_NAME + " limit 1", Integer.class).isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.dnd.modutime.core.timetable.application;
+
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 DateInfo/TimeInfo/TimeInfoParticipantName 테이블로부터 TimeTableMatrix를 채운다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "modutime.timetable-matrix.migrate", havingValue = "true")
+public class TimeTableMatrixMigrationRunner implements ApplicationRunner {
+
+    private final TimeTableRepository timeTableRepository;
+    private final TimeTableService timeTableService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String roomUuid : timeTableRepository.findAllRoomUuids()) {
+            timeTableService.migrateMatrix(roomUuid);
+        }
+    }
+}
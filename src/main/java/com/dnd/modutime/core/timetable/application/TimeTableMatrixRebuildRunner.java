@@ -0,0 +1,32 @@
+package com.dnd.modutime.core.timetable.application;
+
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// TimeBlock 데이터로부터 TimeTableMatrix를 다시 만든다. --room=<uuid>를 주면 해당 방만 다시 만든다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "modutime.timetable-matrix.rebuild", havingValue = "true")
+public class TimeTableMatrixRebuildRunner implements ApplicationRunner {
+
+    private static final String ROOM_OPTION = "room";
+
+    private final TimeTableRepository timeTableRepository;
+    private final TimeTableService timeTableService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> roomUuids = args.getOptionValues(ROOM_OPTION);
+        if (roomUuids == null) {
+            roomUuids = timeTableRepository.findAllRoomUuids();
+        }
+        for (String roomUuid : roomUuids) {
+            timeTableService.rebuildMatrix(roomUuid);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.dnd.modutime.core.timetable.application;
+
+import com.dnd.modutime.core.timetable.application.response.TimeTableCacheStatsResponse;
+import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
+import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// roomUuid별 TimeTableResponse를 최대 maxSize개까지 LRU로 보관한다.
+// 무효화 이벤트는 TimeTable을 바꾼 서버에서만 받으므로, 조회할 때마다 DB의 version과 비교해서 오래된 응답은 다시 읽는다.
+@Component
+public class TimeTableResponseCache {
+
+    private final int maxSize;
+    private final Map<String, TimeTableResponse> responses;
+
+    // 무효화가 일어날 때마다 증가한다. 조회 도중 무효화가 있었다면 조회 결과를 캐시에 넣지 않는다.
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public TimeTableResponseCache(@Value("${modutime.timetable-cache.max-size:1000}") int maxSize) {
+        validateMaxSize(maxSize);
+        this.maxSize = maxSize;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TimeTableResponse> eldest) {
+                if (size() > TimeTableResponseCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private void validateMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    // 캐시된 응답의 version이 version보다 낮으면 없는 것으로 보고 다시 읽는다.
+    public TimeTableResponse getOrLoad(String roomUuid, long version, Supplier<TimeTableResponse> loader) {
+        long loadingGeneration;
+        synchronized (this) {
+            TimeTableResponse response = responses.get(roomUuid);
+            if (response != null && response.getVersion() >= version) {
+                hitCount++;
+                return response;
+            }
+            missCount++;
+            loadingGeneration = generation;
+        }
+        TimeTableResponse response = loader.get();
+        synchronized (this) {
+            TimeTableResponse cached = responses.get(roomUuid);
+            if (loadingGeneration == generation && (cached == null || cached.getVersion() < response.getVersion())) {
+                responses.put(roomUuid, response);
+            }
+        }
+        return response;
+    }
+
+    public synchronized void evict(String roomUuid) {
+        generation++;
+        responses.remove(roomUuid);
+    }
+
+    // 커밋 전에 지우면 그 사이의 조회가 이전 응답을 다시 넣을 수 있으므로 커밋한 뒤에 지운다.
+    public void evictAfterCommit(String roomUuid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(roomUuid);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(roomUuid);
+            }
+        });
+    }
+
+    // 같은 서버의 변경은 version을 비교하기 전에 바로 지운다.
+    @TransactionalEventListener
+    public void invalidate(TimeTableReplaceEvent event) {
+        evict(event.getRoomUuid());
+    }
+
+    public synchronized TimeTableCacheStatsResponse getStats() {
+        return new TimeTableCacheStatsResponse(hitCount, missCount, evictionCount, responses.size(), maxSize);
+    }
+}
@@ -1,28 +1,85 @@
 package com.dnd.modutime.core.timetable.application;
 
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
 import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
 import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
 import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
 import com.dnd.modutime.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class TimeTableService {
 
     private final TimeTableRepository timeTableRepository;
+    private final TimeTableMatrixRepository timeTableMatrixRepository;
     private final TimeTableInitializer timeTableInitializer;
+    private final TimeBlockRepository timeBlockRepository;
+    private final TimeTableResponseCache timeTableResponseCache;
 
     // TODO: test
+    @Transactional
     public void create(String roomUuid) {
         TimeTable timeTable = timeTableRepository.save(new TimeTable(roomUuid));
         timeTableInitializer.initialize(roomUuid, timeTable);
+        timeTableMatrixRepository.save(TimeTableMatrix.from(timeTable));
     }
 
+    // version 한 컬럼만 읽어서 캐시된 응답이 최신이면 TimeTableMatrix를 읽지 않는다.
+    // 다른 서버에서 바뀐 TimeTable은 무효화 이벤트가 오지 않으므로 캐시를 믿지 않고 version을 확인한다.
     public TimeTableResponse getTimeTable(String roomUuid) {
+        long version = getVersionByRoomUuid(roomUuid);
+        return timeTableResponseCache.getOrLoad(roomUuid, version, () -> loadTimeTable(roomUuid, version));
+    }
+
+    public long getVersion(String roomUuid) {
+        return getVersionByRoomUuid(roomUuid);
+    }
+
+    // 응답보다 새로운 version이 붙지 않도록 먼저 읽은 version을 붙인다.
+    private TimeTableResponse loadTimeTable(String roomUuid, long version) {
+        return timeTableMatrixRepository.findByRoomUuid(roomUuid)
+                .map(timeTableMatrix -> TimeTableResponse.from(timeTableMatrix, version))
+                .orElseGet(() -> TimeTableResponse.from(getTimeTableByRoomUuid(roomUuid)));
+    }
+
+    @Transactional
+    public void migrateMatrix(String roomUuid) {
+        if (timeTableMatrixRepository.existsByRoomUuid(roomUuid)) {
+            return;
+        }
         TimeTable timeTable = getTimeTableByRoomUuid(roomUuid);
-        return TimeTableResponse.from(timeTable);
+        timeTableMatrixRepository.save(TimeTableMatrix.from(timeTable));
+    }
+
+    // 방의 날짜/시간 구성과 참여자들의 TimeBlock만으로 TimeTableMatrix를 다시 만든다.
+    @Transactional
+    public void rebuildMatrix(String roomUuid) {
+        timeTableRepository.findForUpdateByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+        TimeTable timeTable = new TimeTable(roomUuid);
+        timeTableInitializer.initialize(roomUuid, timeTable);
+        TimeTableMatrix rebuiltMatrix = TimeTableMatrix.from(timeTable);
+        for (TimeBlock timeBlock : timeBlockRepository.findByRoomUuid(roomUuid)) {
+            rebuiltMatrix.replaceParticipantName(timeBlock.getAvailableDateTimes(), timeBlock.getParticipantName());
+        }
+        timeTableMatrixRepository.findByRoomUuid(roomUuid)
+                .ifPresentOrElse(
+                        timeTableMatrix -> timeTableMatrix.replace(rebuiltMatrix),
+                        () -> timeTableMatrixRepository.save(rebuiltMatrix)
+                );
+        timeTableRepository.increaseVersionByRoomUuid(roomUuid);
+        timeTableResponseCache.evictAfterCommit(roomUuid);
+    }
+
+    private long getVersionByRoomUuid(String roomUuid) {
+        return timeTableRepository.findVersionByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
     }
 
     private TimeTable getTimeTableByRoomUuid(String roomUuid) {
@@ -0,0 +1,209 @@
+package com.dnd.modutime.core.timetable.application;
+
+import com.dnd.modutime.core.timetable.application.response.TimeTableChangeResponse;
+import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
+import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 방별 SSE 구독자를 관리하고 바뀐 슬롯의 참여자 수를 보낸다.
+// TimeTableReplaceEvent는 변경을 커밋한 서버에서만 발생하므로, 구독자가 있는 방의 version을 주기적으로 읽어
+// 다른 서버에서 커밋된 변경도 스냅샷으로 보낸다. 구독자가 이미 받은 참여자 수는 다시 보내지 않는다.
+@Service
+public class TimeTableStreamService {
+
+    private final TimeTableService timeTableService;
+    private final int maxSubscribersPerRoom;
+    private final long timeoutMillis;
+    private final Map<String, Set<TimeTableSubscriber>> subscribersByRoomUuid = new ConcurrentHashMap<>();
+    // 방별로 구독자에게 마지막으로 보낸 스냅샷의 version이다.
+    private final Map<String, Long> snapshotVersionsByRoomUuid = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final ScheduledExecutorService pollExecutor;
+
+    public TimeTableStreamService(TimeTableService timeTableService,
+                                  @Value("${modutime.timetable-stream.max-subscribers-per-room:100}") int maxSubscribersPerRoom,
+                                  @Value("${modutime.timetable-stream.timeout-seconds:1800}") long timeoutSeconds,
+                                  @Value("${modutime.timetable-stream.heartbeat-seconds:15}") long heartbeatSeconds,
+                                  @Value("${modutime.timetable-stream.poll-millis:1000}") long pollMillis,
+                                  @Value("${modutime.timetable-stream.send-threads:4}") int sendThreads) {
+        validatePositive(maxSubscribersPerRoom, "방별 최대 구독자 수는 1 이상이어야 합니다.");
+        validatePositive(timeoutSeconds, "구독 만료 시간은 1초 이상이어야 합니다.");
+        validatePositive(heartbeatSeconds, "heartbeat 주기는 1초 이상이어야 합니다.");
+        validatePositive(pollMillis, "version 확인 주기는 1ms 이상이어야 합니다.");
+        validatePositive(sendThreads, "전송 스레드 수는 1 이상이어야 합니다.");
+        this.timeTableService = timeTableService;
+        this.maxSubscribersPerRoom = maxSubscribersPerRoom;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.sendExecutor = Executors.newFixedThreadPool(sendThreads);
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor();
+        this.heartbeatExecutor.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        this.pollExecutor = Executors.newSingleThreadScheduledExecutor();
+        this.pollExecutor.scheduleWithFixedDelay(this::pollVersions, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void validatePositive(long value, String message) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    // 방의 구독자 수가 가득 찼으면 빈 값을 반환한다. 구독하면 현재 참여자 수 전체를 먼저 보낸다.
+    // 스냅샷을 읽는 사이에 커밋된 변경을 놓치지 않도록 구독자를 먼저 등록한 뒤에 스냅샷을 읽는다.
+    public Optional<SseEmitter> subscribe(String roomUuid) {
+        TimeTableSubscriber subscriber = new TimeTableSubscriber(new SseEmitter(timeoutMillis));
+        if (!register(roomUuid, subscriber)) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = subscriber.getEmitter();
+        emitter.onCompletion(() -> unregister(roomUuid, subscriber));
+        emitter.onTimeout(() -> unregister(roomUuid, subscriber));
+        emitter.onError(throwable -> unregister(roomUuid, subscriber));
+        TimeTableResponse timeTableResponse;
+        try {
+            timeTableResponse = timeTableService.getTimeTable(roomUuid);
+        } catch (RuntimeException e) {
+            unregister(roomUuid, subscriber);
+            throw e;
+        }
+        offer(roomUuid, subscriber, TimeTableChangeResponse.getCountsByDate(timeTableResponse),
+                timeTableResponse.getVersion());
+        snapshotVersionsByRoomUuid.merge(roomUuid, timeTableResponse.getVersion(), Math::max);
+        return Optional.of(emitter);
+    }
+
+    private boolean register(String roomUuid, TimeTableSubscriber subscriber) {
+        boolean[] registered = new boolean[1];
+        subscribersByRoomUuid.compute(roomUuid, (key, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = ConcurrentHashMap.newKeySet();
+            }
+            if (subscribers.size() < maxSubscribersPerRoom) {
+                registered[0] = subscribers.add(subscriber);
+            }
+            return subscribers;
+        });
+        return registered[0];
+    }
+
+    private void unregister(String roomUuid, TimeTableSubscriber subscriber) {
+        subscriber.close();
+        subscribersByRoomUuid.computeIfPresent(roomUuid, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            if (subscribers.isEmpty()) {
+                snapshotVersionsByRoomUuid.remove(roomUuid);
+                return null;
+            }
+            return subscribers;
+        });
+    }
+
+    @TransactionalEventListener
+    public void publish(TimeTableReplaceEvent event) {
+        Set<TimeTableSubscriber> subscribers = subscribersByRoomUuid.get(event.getRoomUuid());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, Map<LocalTime, Integer>> countsByDate = TimeTableChangeResponse.getCountsByDate(event);
+        if (countsByDate.isEmpty()) {
+            return;
+        }
+        for (TimeTableSubscriber subscriber : subscribers) {
+            offer(event.getRoomUuid(), subscriber, countsByDate, event.getVersion());
+        }
+    }
+
+    // 방마다 version 한 컬럼만 읽고, 마지막으로 보낸 스냅샷보다 새로울 때만 스냅샷을 읽어 모든 구독자에게 넘긴다.
+    // 한 방에서 실패해도 다른 방과 다음 주기는 계속 확인한다.
+    void pollVersions() {
+        for (String roomUuid : subscribersByRoomUuid.keySet()) {
+            try {
+                pollVersion(roomUuid);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 확인한다.
+            }
+        }
+    }
+
+    private void pollVersion(String roomUuid) {
+        Long snapshotVersion = snapshotVersionsByRoomUuid.get(roomUuid);
+        if (snapshotVersion != null && timeTableService.getVersion(roomUuid) <= snapshotVersion) {
+            return;
+        }
+        TimeTableResponse timeTableResponse = timeTableService.getTimeTable(roomUuid);
+        Set<TimeTableSubscriber> subscribers = subscribersByRoomUuid.get(roomUuid);
+        if (subscribers == null) {
+            return;
+        }
+        Map<LocalDate, Map<LocalTime, Integer>> countsByDate = TimeTableChangeResponse.getCountsByDate(timeTableResponse);
+        for (TimeTableSubscriber subscriber : subscribers) {
+            offer(roomUuid, subscriber, countsByDate, timeTableResponse.getVersion());
+        }
+        snapshotVersionsByRoomUuid.merge(roomUuid, timeTableResponse.getVersion(), Math::max);
+    }
+
+    private void offer(String roomUuid,
+                       TimeTableSubscriber subscriber,
+                       Map<LocalDate, Map<LocalTime, Integer>> countsByDate,
+                       Long version) {
+        if (subscriber.offer(countsByDate, version)) {
+            sendExecutor.execute(() -> flush(roomUuid, subscriber));
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribersByRoomUuid.forEach((roomUuid, subscribers) -> {
+            for (TimeTableSubscriber subscriber : subscribers) {
+                if (subscriber.offerHeartbeat()) {
+                    sendExecutor.execute(() -> flush(roomUuid, subscriber));
+                }
+            }
+        });
+    }
+
+    private void flush(String roomUuid, TimeTableSubscriber subscriber) {
+        try {
+            subscriber.flush();
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 정리한다.
+            unregister(roomUuid, subscriber);
+            subscriber.getEmitter().completeWithError(e);
+        }
+    }
+
+    public int getSubscriberSize(String roomUuid) {
+        Set<TimeTableSubscriber> subscribers = subscribersByRoomUuid.get(roomUuid);
+        if (subscribers == null) {
+            return 0;
+        }
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+        pollExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+        subscribersByRoomUuid.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.getEmitter().complete();
+        }));
+        subscribersByRoomUuid.clear();
+        snapshotVersionsByRoomUuid.clear();
+    }
+}
@@ -0,0 +1,123 @@
+package com.dnd.modutime.core.timetable.application;
+
+import com.dnd.modutime.core.timetable.application.response.TimeTableChangeResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// SSE 구독자 하나. 아직 보내지 못한 변경은 슬롯별 최신 참여자 수로 합쳐 두므로 쌓이는 양은 방의 슬롯 수를 넘지 않는다.
+// 슬롯마다 마지막 version과 참여자 수를 기억해서, 늦게 온 변경은 버리고 이미 보낸 참여자 수는 다시 보내지 않는다.
+class TimeTableSubscriber {
+
+    static final String CHANGE_EVENT_NAME = "change";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final SseEmitter emitter;
+    private Map<LocalDate, Map<LocalTime, Integer>> pendingCountsByDate = new TreeMap<>();
+    private Map<LocalDate, Map<LocalTime, Long>> versionsByDate = new TreeMap<>();
+    private Map<LocalDate, Map<LocalTime, Integer>> lastCountsByDate = new TreeMap<>();
+    private boolean heartbeatPending;
+    private boolean flushing;
+    private boolean closed;
+
+    TimeTableSubscriber(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    // flush를 새로 시작해야 하면 true를 반환한다. version이 null이면 순서를 따지지 않고 반영한다.
+    synchronized boolean offer(Map<LocalDate, Map<LocalTime, Integer>> countsByDate, Long version) {
+        if (closed) {
+            return false;
+        }
+        countsByDate.forEach((date, counts) -> counts.forEach((time, count) -> offer(date, time, count, version)));
+        if (pendingCountsByDate.isEmpty()) {
+            return false;
+        }
+        return startFlush();
+    }
+
+    private void offer(LocalDate date, LocalTime time, Integer count, Long version) {
+        if (version != null) {
+            Map<LocalTime, Long> versions = versionsByDate.computeIfAbsent(date, key -> newVersions());
+            Long lastVersion = versions.get(time);
+            if (lastVersion != null && lastVersion > version) {
+                return;
+            }
+            versions.put(time, version);
+        }
+        Map<LocalTime, Integer> lastCounts = lastCountsByDate.computeIfAbsent(date, key -> TimeTableChangeResponse.newCounts());
+        if (Objects.equals(lastCounts.put(time, count), count)) {
+            return;
+        }
+        pendingCountsByDate.computeIfAbsent(date, key -> TimeTableChangeResponse.newCounts()).put(time, count);
+    }
+
+    // 날짜만 있는 방은 시간이 null 이므로 null을 허용하는 순서로 정렬한다.
+    private static Map<LocalTime, Long> newVersions() {
+        return new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    // 보낼 변경이나 flush가 있으면 그 자체로 연결이 살아있으므로 heartbeat를 보내지 않는다.
+    synchronized boolean offerHeartbeat() {
+        if (flushing || !pendingCountsByDate.isEmpty()) {
+            return false;
+        }
+        heartbeatPending = true;
+        return startFlush();
+    }
+
+    private boolean startFlush() {
+        if (flushing || closed) {
+            return false;
+        }
+        flushing = true;
+        return true;
+    }
+
+    void flush() throws IOException {
+        while (true) {
+            Map<LocalDate, Map<LocalTime, Integer>> countsByDate;
+            boolean heartbeat;
+            synchronized (this) {
+                if (closed || (pendingCountsByDate.isEmpty() && !heartbeatPending)) {
+                    flushing = false;
+                    return;
+                }
+                countsByDate = pendingCountsByDate;
+                heartbeat = heartbeatPending;
+                pendingCountsByDate = new TreeMap<>();
+                heartbeatPending = false;
+            }
+            send(countsByDate, heartbeat);
+        }
+    }
+
+    private void send(Map<LocalDate, Map<LocalTime, Integer>> countsByDate, boolean heartbeat) throws IOException {
+        if (!countsByDate.isEmpty()) {
+            emitter.send(SseEmitter.event()
+                    .name(CHANGE_EVENT_NAME)
+                    .data(TimeTableChangeResponse.from(countsByDate)));
+            return;
+        }
+        if (heartbeat) {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        }
+    }
+
+    synchronized void close() {
+        closed = true;
+        flushing = false;
+        pendingCountsByDate = new TreeMap<>();
+        versionsByDate = new TreeMap<>();
+        lastCountsByDate = new TreeMap<>();
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+}
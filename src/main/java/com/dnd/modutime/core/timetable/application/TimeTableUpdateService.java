@@ -1,17 +1,24 @@
 package com.dnd.modutime.core.timetable.application;
 
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
 import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
 import com.dnd.modutime.core.timeblock.domain.TimeBlockReplaceEvent;
+import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
 import com.dnd.modutime.core.timetable.domain.TimeTable;
 import com.dnd.modutime.core.timetable.repository.TimeInfoParticipantNameRepository;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
 import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
 import com.dnd.modutime.exception.NotFoundException;
 
@@ -22,27 +29,105 @@ import lombok.RequiredArgsConstructor;
 public class TimeTableUpdateService {
 
     private final TimeTableRepository timeTableRepository;
+    private final TimeTableMatrixRepository timeTableMatrixRepository;
     private final TimeInfoParticipantNameRepository timeInfoParticipantNameRepository;
+    private final TimeBlockRepository timeBlockRepository;
     private final ApplicationEventPublisher eventPublisher;
 
-    // TODO: test
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @TransactionalEventListener
-    public void update(TimeBlockReplaceEvent event) {
-        TimeTable timeTable = getTimeTableByRoomUuid(event.getRoomUuid());
-        List<Long> timeInfoIds = timeTable.getTimeInfoIdsByAvailableDateTimes(event.getOldAvailableDateTimes());
+    // outbox에서 같은 변경을 여러 번 전달해도 되도록 TimeBlock의 현재 시간과 TimeTableMatrix에 반영된 시간을 비교해서 맞춘다.
+    @Transactional
+    public void reconcile(String roomUuid, String participantName) {
+        TimeTable timeTable = getTimeTableByRoomUuid(roomUuid);
+        TimeTableMatrix timeTableMatrix = getTimeTableMatrix(timeTable);
+        List<AvailableDateTime> availableDateTimes = timeBlockRepository.findByRoomUuidAndParticipantName(roomUuid, participantName)
+                .map(TimeBlock::getAvailableDateTimes)
+                .orElse(List.of());
+        TimeBlockReplaceEvent event = new TimeBlockReplaceEvent(roomUuid,
+                timeTableMatrix.getAvailableDateTimesByParticipantName(participantName), availableDateTimes, participantName);
+        List<AvailableDateTime> removedAvailableDateTimes = event.getRemovedAvailableDateTimes();
+        List<AvailableDateTime> addedAvailableDateTimes = event.getAddedAvailableDateTimes();
+        if (removedAvailableDateTimes.isEmpty() && addedAvailableDateTimes.isEmpty()) {
+            return;
+        }
+        update(timeTable, timeTableMatrix, event, removedAvailableDateTimes, addedAvailableDateTimes);
+    }
+
+    // outbox에 쌓인 한 방의 여러 참여자를 한 번에 맞춘다. TimeTable은 한 번만 저장하고 이벤트도 한 번만 발행한다.
+    @Transactional
+    public void reconcileAll(String roomUuid, Collection<String> participantNames) {
+        TimeTable timeTable = getTimeTableByRoomUuid(roomUuid);
+        TimeTableMatrix timeTableMatrix = getTimeTableMatrix(timeTable);
+        Map<String, List<AvailableDateTime>> availableDateTimesByName = timeBlockRepository
+                .findWithAvailableDateTimesByRoomUuid(roomUuid).stream()
+                .collect(Collectors.toMap(TimeBlock::getParticipantName, TimeBlock::getAvailableDateTimes));
+        List<AvailableDateTime> changedAvailableDateTimes = new ArrayList<>();
+        for (String participantName : participantNames) {
+            TimeBlockReplaceEvent timeBlockReplaceEvent = new TimeBlockReplaceEvent(roomUuid,
+                    timeTableMatrix.getAvailableDateTimesByParticipantName(participantName),
+                    availableDateTimesByName.getOrDefault(participantName, List.of()), participantName);
+            changedAvailableDateTimes.addAll(apply(timeTable, timeTableMatrix, participantName,
+                    timeBlockReplaceEvent.getRemovedAvailableDateTimes(), timeBlockReplaceEvent.getAddedAvailableDateTimes()));
+        }
+        if (changedAvailableDateTimes.isEmpty()) {
+            return;
+        }
+        save(timeTable, timeTableMatrix, changedAvailableDateTimes);
+    }
+
+    private void update(TimeTable timeTable,
+                        TimeTableMatrix timeTableMatrix,
+                        TimeBlockReplaceEvent event,
+                        List<AvailableDateTime> removedAvailableDateTimes,
+                        List<AvailableDateTime> addedAvailableDateTimes) {
+        save(timeTable, timeTableMatrix, apply(timeTable, timeTableMatrix, event.getParticipantName(),
+                removedAvailableDateTimes, addedAvailableDateTimes));
+    }
 
-        timeTable.removeParticipantName(event.getOldAvailableDateTimes(), event.getParticipantName());
-        for (Long timeInfoId : timeInfoIds) {
-            timeInfoParticipantNameRepository.deleteByTimeInfoIdAndName(timeInfoId, event.getParticipantName());
+    // 한 참여자의 변경을 TimeTable과 TimeTableMatrix에 반영하고 바뀐 시간을 반환한다.
+    private List<AvailableDateTime> apply(TimeTable timeTable,
+                                          TimeTableMatrix timeTableMatrix,
+                                          String participantName,
+                                          List<AvailableDateTime> removedAvailableDateTimes,
+                                          List<AvailableDateTime> addedAvailableDateTimes) {
+        if (removedAvailableDateTimes.isEmpty() && addedAvailableDateTimes.isEmpty()) {
+            return List.of();
         }
+        List<Long> timeInfoIds = timeTable.getTimeInfoIdsByAvailableDateTimes(removedAvailableDateTimes);
 
-        timeTable.addParticipantName(event.getNewAvailableDateTimes(), event.getParticipantName());
+        timeTable.removeParticipantName(removedAvailableDateTimes, participantName);
+        if (!timeInfoIds.isEmpty()) {
+            timeInfoParticipantNameRepository.deleteAllByTimeInfoIdsAndName(timeInfoIds, participantName);
+        }
+
+        timeTable.addParticipantName(addedAvailableDateTimes, participantName);
+        timeTableMatrix.updateParticipantName(removedAvailableDateTimes, addedAvailableDateTimes, participantName);
+        List<AvailableDateTime> changedAvailableDateTimes = new ArrayList<>(removedAvailableDateTimes);
+        changedAvailableDateTimes.addAll(addedAvailableDateTimes);
+        return changedAvailableDateTimes;
+    }
+
+    private void save(TimeTable timeTable,
+                      TimeTableMatrix timeTableMatrix,
+                      List<AvailableDateTime> changedAvailableDateTimes) {
         timeTableRepository.save(timeTable);
-        eventPublisher.publishEvent(new TimeTableReplaceEvent(event.getRoomUuid(), timeTable.getDateInfos()));
+        timeTableMatrixRepository.save(timeTableMatrix);
+        timeTableRepository.increaseVersionByRoomUuid(timeTable.getRoomUuid());
+        // 갱신한 행은 커밋할 때까지 잠겨 있으므로 다시 읽은 version이 이 변경의 version이다.
+        long version = timeTableRepository.findVersionByRoomUuid(timeTable.getRoomUuid())
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+        eventPublisher.publishEvent(new TimeTableReplaceEvent(timeTable.getRoomUuid(), timeTable.getDateInfos(),
+                changedAvailableDateTimes, version));
+    }
+
+    private TimeTableMatrix getTimeTableMatrix(TimeTable timeTable) {
+        return timeTableMatrixRepository.findByRoomUuid(timeTable.getRoomUuid())
+                .orElseGet(() -> TimeTableMatrix.from(timeTable));
     }
 
+    // 다른 서버의 작업자가 같은 방을 고치고 있으면 커밋할 때까지 기다린 뒤에 읽는다.
     private TimeTable getTimeTableByRoomUuid(String roomUuid) {
+        timeTableRepository.findForUpdateByRoomUuid(roomUuid)
+                .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
         return timeTableRepository.findByRoomUuid(roomUuid)
                 .orElseThrow(() -> new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
     }
@@ -0,0 +1,18 @@
+package com.dnd.modutime.core.timetable.application.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimeTableCacheStatsResponse {
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private int size;
+    private int maxSize;
+}
@@ -0,0 +1,81 @@
+package com.dnd.modutime.core.timetable.application.response;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
+import com.dnd.modutime.core.timetable.domain.TimeTableReplaceEvent;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// TimeTableResponse와 같은 형식으로 참여자 수가 바뀐 슬롯만 담는다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TimeTableChangeResponse {
+
+    @JsonProperty(value = "availableDateTimes")
+    private List<TimeAndCountPerDate> timeAndCountPerDates;
+
+    public static TimeTableChangeResponse from(Map<LocalDate, Map<LocalTime, Integer>> countsByDate) {
+        List<TimeAndCountPerDate> timeAndCountPerDates = new ArrayList<>();
+        for (Map.Entry<LocalDate, Map<LocalTime, Integer>> entry : countsByDate.entrySet()) {
+            List<AvailableTimeInfo> availableTimeInfos = new ArrayList<>();
+            entry.getValue().forEach((time, count) -> availableTimeInfos.add(new AvailableTimeInfo(time, count)));
+            timeAndCountPerDates.add(new TimeAndCountPerDate(entry.getKey(), availableTimeInfos));
+        }
+        return new TimeTableChangeResponse(timeAndCountPerDates);
+    }
+
+    public static Map<LocalDate, Map<LocalTime, Integer>> getCountsByDate(TimeTableResponse timeTableResponse) {
+        Map<LocalDate, Map<LocalTime, Integer>> countsByDate = new TreeMap<>();
+        for (TimeAndCountPerDate timeAndCountPerDate : timeTableResponse.getTimeAndCountPerDates()) {
+            Map<LocalTime, Integer> counts = countsByDate.computeIfAbsent(timeAndCountPerDate.getAvailableDate(),
+                    date -> newCounts());
+            for (AvailableTimeInfo availableTimeInfo : timeAndCountPerDate.getAvailableTimeInfos()) {
+                counts.put(availableTimeInfo.getTime(), availableTimeInfo.getCount());
+            }
+        }
+        return countsByDate;
+    }
+
+    public static Map<LocalDate, Map<LocalTime, Integer>> getCountsByDate(TimeTableReplaceEvent event) {
+        Map<LocalDate, Map<LocalTime, Integer>> countsByDate = new TreeMap<>();
+        for (DateInfo dateInfo : event.getDateInfos()) {
+            if (event.isAllChanged()) {
+                putCounts(countsByDate, dateInfo.getDate(), dateInfo.getTimeInfos());
+                continue;
+            }
+            for (AvailableDateTime availableDateTime : event.getChangedAvailableDateTimes()) {
+                putCounts(countsByDate, dateInfo.getDate(), dateInfo.getTimeInfosByAvailableDateTime(availableDateTime));
+            }
+        }
+        return countsByDate;
+    }
+
+    // 날짜만 있는 방은 시간이 null 이므로 null을 허용하는 순서로 정렬한다.
+    public static Map<LocalTime, Integer> newCounts() {
+        return new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    private static void putCounts(Map<LocalDate, Map<LocalTime, Integer>> countsByDate,
+                                  LocalDate date,
+                                  List<TimeInfo> timeInfos) {
+        if (timeInfos.isEmpty()) {
+            return;
+        }
+        Map<LocalTime, Integer> counts = countsByDate.computeIfAbsent(date, key -> newCounts());
+        for (TimeInfo timeInfo : timeInfos) {
+            counts.put(timeInfo.getTime(), timeInfo.getParticipantsSize());
+        }
+    }
+}
@@ -2,7 +2,11 @@ package com.dnd.modutime.core.timetable.application.response;
 
 import com.dnd.modutime.core.timetable.domain.DateInfo;
 import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +23,9 @@ public class TimeTableResponse {
     @JsonProperty(value = "availableDateTimes")
     private List<TimeAndCountPerDate> timeAndCountPerDates;
 
+    @JsonIgnore
+    private long version;
+
     public static TimeTableResponse from(TimeTable timeTable) {
         List<TimeAndCountPerDate> timeAndCountPerDates = new ArrayList<>();
         List<DateInfo> dateInfos = timeTable.getDateInfos();
@@ -29,6 +36,30 @@ public class TimeTableResponse {
             TimeAndCountPerDate timeAndCountPerDate = new TimeAndCountPerDate(dateInfo.getDate(), availableTimeInfos);
             timeAndCountPerDates.add(timeAndCountPerDate);
         }
-        return new TimeTableResponse(timeAndCountPerDates);
+        return new TimeTableResponse(timeAndCountPerDates, timeTable.getVersion());
+    }
+
+    public static TimeTableResponse from(TimeTableMatrix timeTableMatrix, long version) {
+        List<TimeAndCountPerDate> timeAndCountPerDates = new ArrayList<>();
+        List<LocalDate> dates = timeTableMatrix.getDates();
+        for (int dateIndex = 0; dateIndex < dates.size(); dateIndex++) {
+            List<AvailableTimeInfo> availableTimeInfos = getAvailableTimeInfos(timeTableMatrix, dateIndex);
+            timeAndCountPerDates.add(new TimeAndCountPerDate(dates.get(dateIndex), availableTimeInfos));
+        }
+        return new TimeTableResponse(timeAndCountPerDates, version);
+    }
+
+    private static List<AvailableTimeInfo> getAvailableTimeInfos(TimeTableMatrix timeTableMatrix, int dateIndex) {
+        List<AvailableTimeInfo> availableTimeInfos = new ArrayList<>();
+        if (!timeTableMatrix.hasTime()) {
+            availableTimeInfos.add(new AvailableTimeInfo(null, timeTableMatrix.getParticipantsSize(dateIndex, 0)));
+            return availableTimeInfos;
+        }
+        List<LocalTime> times = timeTableMatrix.getTimes();
+        for (int timeIndex = 0; timeIndex < times.size(); timeIndex++) {
+            availableTimeInfos.add(new AvailableTimeInfo(times.get(timeIndex),
+                    timeTableMatrix.getParticipantsSize(dateIndex, timeIndex)));
+        }
+        return availableTimeInfos;
     }
 }
@@ -2,13 +2,19 @@ package com.dnd.modutime.core.timetable.controller;
 
 
 import com.dnd.modutime.core.timetable.application.TimeTableService;
+import com.dnd.modutime.core.timetable.application.TimeTableStreamService;
 import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/room/{roomUuid}/available-time")
@@ -16,10 +22,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class TimeTableController {
 
     private final TimeTableService timeTableService;
+    private final TimeTableStreamService timeTableStreamService;
 
     @GetMapping("/group")
-    public ResponseEntity<TimeTableResponse> getTimeTable(@PathVariable String roomUuid) {
+    public ResponseEntity<TimeTableResponse> getTimeTable(@PathVariable String roomUuid, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(String.valueOf(timeTableService.getVersion(roomUuid)))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         TimeTableResponse timeTableResponse = timeTableService.getTimeTable(roomUuid);
-        return ResponseEntity.ok(timeTableResponse);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(timeTableResponse.getVersion()))
+                .body(timeTableResponse);
+    }
+
+    @GetMapping(value = "/group/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTimeTable(@PathVariable String roomUuid) {
+        return timeTableStreamService.subscribe(roomUuid)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
     }
 }
@@ -2,6 +2,7 @@ package com.dnd.modutime.core.timetable.domain;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,6 +19,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -33,6 +35,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DateInfo implements Auditable {
 
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,13 +47,17 @@ public class DateInfo implements Auditable {
     @Column(nullable = false)
     private LocalDate date;
 
-    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.EAGER)
+    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.LAZY)
     @JoinColumn(
             name = "date_info_id", nullable = false, updatable = false,
             foreignKey = @ForeignKey(name = "fk_time_info_date_info_id_ref_date_info_id")
     )
     private List<TimeInfo> timeInfos;
 
+    // 30분 단위 슬롯 번호(하루 중 초 / 1800)로 TimeInfo를 찾는 인덱스
+    @Transient
+    private TimeInfo[] timeInfosBySlot;
+
     private String createdBy;
     private LocalDateTime createdAt;
     private String modifiedBy;
@@ -73,17 +80,34 @@ public class DateInfo implements Auditable {
         if (timesOrNull == null || timesOrNull.isEmpty()) {
             return List.of(timeInfos.get(0).getId());
         }
-        List<Long> timeInfoIds = new ArrayList<>();
-        for (TimeInfo timeInfo : timeInfos) {
-            for (AvailableTime availableTime : timesOrNull) {
-                if (timeInfo.isSameTime(availableTime.getTime())) {
-                    timeInfoIds.add(timeInfo.getId());
-                }
+        List<Long> timeInfoIds = new ArrayList<>(timesOrNull.size());
+        for (AvailableTime availableTime : timesOrNull) {
+            TimeInfo timeInfo = getTimeInfoOrNull(availableTime.getTime());
+            if (timeInfo != null) {
+                timeInfoIds.add(timeInfo.getId());
             }
         }
         return timeInfoIds;
     }
 
+    public List<TimeInfo> getTimeInfosByAvailableDateTime(AvailableDateTime availableDateTime) {
+        if (!date.isEqual(availableDateTime.getDate())) {
+            return List.of();
+        }
+        List<AvailableTime> timesOrNull = availableDateTime.getTimesOrNull();
+        if (timesOrNull == null || timesOrNull.isEmpty()) {
+            return List.of(timeInfos.get(0));
+        }
+        List<TimeInfo> timeInfos = new ArrayList<>(timesOrNull.size());
+        for (AvailableTime availableTime : timesOrNull) {
+            TimeInfo timeInfo = getTimeInfoOrNull(availableTime.getTime());
+            if (timeInfo != null) {
+                timeInfos.add(timeInfo);
+            }
+        }
+        return timeInfos;
+    }
+
     public void removeParticipantNameIfSameDate(AvailableDateTime availableDateTime, String participantName) {
         if (!date.isEqual(availableDateTime.getDate())) {
             return;
@@ -95,11 +119,12 @@ public class DateInfo implements Auditable {
             timeInfo.removeParticipantName(participantName);
             return;
         }
-        timeInfos.forEach(
-                timeInfo -> timesOrNull.forEach(
-                        availableTime -> timeInfo.removeParticipantNameIfSameTime(availableTime.getTime(), participantName)
-                )
-        );
+        for (AvailableTime availableTime : timesOrNull) {
+            TimeInfo timeInfo = getTimeInfoOrNull(availableTime.getTime());
+            if (timeInfo != null) {
+                timeInfo.removeParticipantName(participantName);
+            }
+        }
     }
 
     public void removeParticipantNameByTimeInfoId(List<Long> timeInfoIds, String participantName) {
@@ -126,10 +151,36 @@ public class DateInfo implements Auditable {
             timeInfo.addParticipantName(participantName);
             return;
         }
-        timeInfos.forEach(
-                timeInfo -> timesOrNull.forEach(
-                        availableTime -> timeInfo.addParticipantNameIfSameTime(availableTime.getTime(), participantName))
-        );
+        for (AvailableTime availableTime : timesOrNull) {
+            TimeInfo timeInfo = getTimeInfoOrNull(availableTime.getTime());
+            if (timeInfo != null) {
+                timeInfo.addParticipantName(participantName);
+            }
+        }
+    }
+
+    private TimeInfo getTimeInfoOrNull(LocalTime time) {
+        if (time == null) {
+            return null;
+        }
+        TimeInfo timeInfo = getTimeInfosBySlot()[AvailableDateTime.toSlot(time)];
+        if (timeInfo == null || !timeInfo.isSameTime(time)) {
+            return null;
+        }
+        return timeInfo;
+    }
+
+    private TimeInfo[] getTimeInfosBySlot() {
+        if (timeInfosBySlot == null) {
+            TimeInfo[] index = new TimeInfo[AvailableDateTime.SLOTS_PER_DAY];
+            for (TimeInfo timeInfo : timeInfos) {
+                if (timeInfo.hasTime()) {
+                    index[AvailableDateTime.toSlot(timeInfo.getTime())] = timeInfo;
+                }
+            }
+            timeInfosBySlot = index;
+        }
+        return timeInfosBySlot;
     }
 
     private void validateTimeInfoIsEmpty() {
@@ -1,8 +1,9 @@
 package com.dnd.modutime.core.timetable.domain;
 
 import java.time.LocalTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -12,6 +13,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -30,9 +32,13 @@ public class TimeInfo implements Auditable {
     @Column
     private LocalTime time;
 
-    @OneToMany(mappedBy = "timeInfo", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "timeInfo", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.LAZY)
     private List<TimeInfoParticipantName> timeInfoParticipantNames;
 
+    // timeInfoParticipantNames와 함께 갱신되는 참여자 이름 집합
+    @Transient
+    private Set<String> participantNames;
+
     private String createdBy;
     private LocalDateTime createdAt;
     private String modifiedBy;
@@ -51,6 +57,9 @@ public class TimeInfo implements Auditable {
     }
 
     public void removeParticipantName(String participantName) {
+        if (!getParticipantNames().remove(participantName)) {
+            return;
+        }
         timeInfoParticipantNames.removeIf(
                 timeTableParticipantName -> timeTableParticipantName.isSameName(participantName));
     }
@@ -69,7 +78,7 @@ public class TimeInfo implements Auditable {
     }
 
     public void addParticipantName(String participantName) {
-        if (!containsParticipantName(participantName)) {
+        if (getParticipantNames().add(participantName)) {
             timeInfoParticipantNames.add(new TimeInfoParticipantName(this, participantName));
         }
     }
@@ -80,17 +89,25 @@ public class TimeInfo implements Auditable {
         }
     }
 
-    private boolean containsParticipantName(String participantName) {
-        return timeInfoParticipantNames.stream()
-                .anyMatch(timeTableParticipantName -> timeTableParticipantName.isSameName(participantName));
+    public boolean containsAllParticipantName(List<String> participantNames) {
+        Set<String> names = getParticipantNames();
+        for (String participantName : participantNames) {
+            if (!names.contains(participantName)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    // TODO: test
-    public boolean containsAllParticipantName(List<String> participantNames) {
-        return timeInfoParticipantNames.stream()
-                .map(TimeInfoParticipantName::getName)
-                .collect(Collectors.toList())
-                .containsAll(participantNames);
+    private Set<String> getParticipantNames() {
+        if (participantNames == null) {
+            Set<String> names = new HashSet<>();
+            for (TimeInfoParticipantName timeInfoParticipantName : timeInfoParticipantNames) {
+                names.add(timeInfoParticipantName.getName());
+            }
+            participantNames = names;
+        }
+        return participantNames;
     }
 
     public Long getId() {
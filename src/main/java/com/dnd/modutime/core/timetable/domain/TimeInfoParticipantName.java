@@ -5,10 +5,11 @@ import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import com.dnd.modutime.core.entity.Auditable;
@@ -20,8 +21,22 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TimeInfoParticipantName implements Auditable {
 
+    public static final String ID_TABLE_NAME = "time_info_participant_name_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 insert를 배치로 묶을 수 없으므로 pooled 테이블 시퀀스로 id를 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ID_TABLE_NAME)
+    @GenericGenerator(
+            name = ID_TABLE_NAME,
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = ID_TABLE_NAME),
+                    @Parameter(name = "force_table_use", value = "true"),
+                    @Parameter(name = "increment_size", value = "" + ID_ALLOCATION_SIZE),
+                    @Parameter(name = "optimizer", value = "pooled")
+            }
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
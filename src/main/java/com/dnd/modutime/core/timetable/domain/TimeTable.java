@@ -1,8 +1,11 @@
 package com.dnd.modutime.core.timetable.domain;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -13,6 +16,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -36,9 +40,17 @@ public class TimeTable extends AbstractAggregateRoot<TimeTable> implements Audit
     @Column(nullable = false, unique = true)
     private String roomUuid;
 
-    @OneToMany(mappedBy = "timeTable", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "timeTable", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.LAZY)
     private List<DateInfo> dateInfos = List.of();
 
+    @Transient
+    private Map<LocalDate, DateInfo> dateInfosByDate;
+
+    // TimeTableReplaceEvent가 발생할 때마다 1씩 증가한다.
+    // 동시에 고쳐도 같은 값이 나오지 않도록 TimeTableRepository.increaseVersionByRoomUuid로만 올리고 엔티티로는 쓰지 않는다.
+    @Column(nullable = false, updatable = false)
+    private long version;
+
     private String createdBy;
     private LocalDateTime createdAt;
     private String modifiedBy;
@@ -50,6 +62,7 @@ public class TimeTable extends AbstractAggregateRoot<TimeTable> implements Audit
 
     public void replaceDateInfos(List<DateInfo> dateInfos) {
         this.dateInfos = dateInfos;
+        this.dateInfosByDate = null;
     }
 
     // TODO: id 사용하는걸로 교체
@@ -63,8 +76,9 @@ public class TimeTable extends AbstractAggregateRoot<TimeTable> implements Audit
 
     public List<Long> getTimeInfoIdsByAvailableDateTimes(List<AvailableDateTime> availableDateTimes) {
         List<Long> timeInfoIds = new ArrayList<>();
-        for (DateInfo dateInfo : dateInfos) {
-            for (AvailableDateTime availableDateTime : availableDateTimes) {
+        for (AvailableDateTime availableDateTime : availableDateTimes) {
+            DateInfo dateInfo = getDateInfosByDate().get(availableDateTime.getDate());
+            if (dateInfo != null) {
                 timeInfoIds.addAll(dateInfo.getTimeInfoIdsByAvailableDateTime(availableDateTime));
             }
         }
@@ -84,19 +98,21 @@ public class TimeTable extends AbstractAggregateRoot<TimeTable> implements Audit
     }
 
     public void removeParticipantName(List<AvailableDateTime> availableDateTimes, String participantName) {
-        availableDateTimes.forEach(
-                availableDateTime -> dateInfos.forEach(
-                        dateInfo -> dateInfo.removeParticipantNameIfSameDate(availableDateTime, participantName)
-                )
-        );
+        for (AvailableDateTime availableDateTime : availableDateTimes) {
+            DateInfo dateInfo = getDateInfosByDate().get(availableDateTime.getDate());
+            if (dateInfo != null) {
+                dateInfo.removeParticipantNameIfSameDate(availableDateTime, participantName);
+            }
+        }
     }
 
     public void addParticipantName(List<AvailableDateTime> availableDateTimes, String participantName) {
-        availableDateTimes.forEach(
-                availableDateTime -> dateInfos.forEach(
-                        dateInfo -> dateInfo.addParticipantNameIfSameDate(availableDateTime, participantName)
-                )
-        );
+        for (AvailableDateTime availableDateTime : availableDateTimes) {
+            DateInfo dateInfo = getDateInfosByDate().get(availableDateTime.getDate());
+            if (dateInfo != null) {
+                dateInfo.addParticipantNameIfSameDate(availableDateTime, participantName);
+            }
+        }
     }
 
     public List<DateTimeInfoDto> getDateTimeInfosDtoByParticipantNames(List<String> participantNames) {
@@ -110,6 +126,25 @@ public class TimeTable extends AbstractAggregateRoot<TimeTable> implements Audit
         return dateTimeInfosDto;
     }
 
+    private Map<LocalDate, DateInfo> getDateInfosByDate() {
+        if (dateInfosByDate == null) {
+            Map<LocalDate, DateInfo> index = new HashMap<>();
+            for (DateInfo dateInfo : dateInfos) {
+                index.put(dateInfo.getDate(), dateInfo);
+            }
+            dateInfosByDate = index;
+        }
+        return dateInfosByDate;
+    }
+
+    public String getRoomUuid() {
+        return roomUuid;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
     public List<DateInfo> getDateInfos() {
         return dateInfos;
     }
@@ -0,0 +1,436 @@
+package com.dnd.modutime.core.timetable.domain;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Transient;
+
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.dnd.modutime.config.persistence.converter.LocalDatesConverter;
+import com.dnd.modutime.config.persistence.converter.LocalTimesConverter;
+import com.dnd.modutime.config.persistence.converter.StringsConverter;
+import com.dnd.modutime.core.adjustresult.application.DateTimeInfoDto;
+import com.dnd.modutime.core.entity.Auditable;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 방 하나의 TimeTable을 (슬롯 x 참여자) 비트 행렬로 저장한다. 슬롯은 날짜, 시간 순서로 번호를 매기고
+// 슬롯마다 참여자 비트를 담은 long stride개가 이어진다. 날짜만 있는 방은 날짜마다 슬롯이 하나다.
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimeTableMatrix implements Auditable {
+
+    private static final LocalTime ZERO_TIME = LocalTime.of(0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String roomUuid;
+
+    @Convert(converter = LocalDatesConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private List<LocalDate> dates;
+
+    @Convert(converter = LocalTimesConverter.class)
+    @Column(nullable = false, length = 1000)
+    private List<LocalTime> times;
+
+    @Convert(converter = StringsConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private List<String> participantNames;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] slots;
+
+    @Transient
+    private long[] words;
+
+    @Transient
+    private Map<LocalDate, Integer> dateIndexes;
+
+    @Transient
+    private Map<LocalTime, Integer> timeIndexes;
+
+    @Transient
+    private Map<String, Integer> participantIndexes;
+
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private String modifiedBy;
+    private LocalDateTime modifiedAt;
+
+    public TimeTableMatrix(String roomUuid,
+                           List<LocalDate> dates,
+                           List<LocalTime> times) {
+        validateDates(dates);
+        this.roomUuid = roomUuid;
+        this.dates = new ArrayList<>(dates);
+        this.times = new ArrayList<>(times);
+        this.participantNames = new ArrayList<>();
+        this.words = new long[0];
+        this.slots = toBytes(words);
+    }
+
+    private void validateDates(List<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            throw new IllegalArgumentException("날짜는 최소 1개이상 존재해야 합니다.");
+        }
+    }
+
+    public static TimeTableMatrix from(TimeTable timeTable) {
+        List<DateInfo> dateInfos = timeTable.getDateInfos();
+        List<LocalDate> dates = dateInfos.stream()
+                .map(DateInfo::getDate)
+                .collect(Collectors.toList());
+        List<LocalTime> times = dateInfos.get(0).getTimeInfos().stream()
+                .filter(TimeInfo::hasTime)
+                .map(TimeInfo::getTime)
+                .collect(Collectors.toList());
+        TimeTableMatrix timeTableMatrix = new TimeTableMatrix(timeTable.getRoomUuid(), dates, times);
+        for (int dateIndex = 0; dateIndex < dateInfos.size(); dateIndex++) {
+            for (TimeInfo timeInfo : dateInfos.get(dateIndex).getTimeInfos()) {
+                timeTableMatrix.addParticipantNames(dateIndex, timeInfo);
+            }
+        }
+        timeTableMatrix.flush();
+        return timeTableMatrix;
+    }
+
+    private void addParticipantNames(int dateIndex, TimeInfo timeInfo) {
+        int slot = getSlot(dateIndex, timeInfo.getTime());
+        if (slot < 0) {
+            return;
+        }
+        for (TimeInfoParticipantName timeInfoParticipantName : timeInfo.getTimeInfoParticipantNames()) {
+            set(slot, getOrAddParticipantIndex(timeInfoParticipantName.getName()));
+        }
+    }
+
+    public void replaceParticipantName(List<AvailableDateTime> availableDateTimes, String participantName) {
+        int participantIndex = getOrAddParticipantIndex(participantName);
+        clear(participantIndex);
+        for (AvailableDateTime availableDateTime : availableDateTimes) {
+            forEachSlot(availableDateTime, slot -> set(slot, participantIndex));
+        }
+        flush();
+    }
+
+    // 빠진 시간과 추가된 시간만 반영한다.
+    public void updateParticipantName(List<AvailableDateTime> removedAvailableDateTimes,
+                                      List<AvailableDateTime> addedAvailableDateTimes,
+                                      String participantName) {
+        int participantIndex = getOrAddParticipantIndex(participantName);
+        for (AvailableDateTime availableDateTime : removedAvailableDateTimes) {
+            forEachSlot(availableDateTime, slot -> unset(slot, participantIndex));
+        }
+        for (AvailableDateTime availableDateTime : addedAvailableDateTimes) {
+            forEachSlot(availableDateTime, slot -> set(slot, participantIndex));
+        }
+        flush();
+    }
+
+    private void forEachSlot(AvailableDateTime availableDateTime, IntConsumer action) {
+        Integer dateIndex = getDateIndexes().get(availableDateTime.getDate());
+        if (dateIndex == null) {
+            return;
+        }
+        List<AvailableTime> timesOrNull = availableDateTime.getTimesOrNull();
+        if (!hasTime()) {
+            action.accept(getSlot(dateIndex, null));
+            return;
+        }
+        if (timesOrNull == null) {
+            return;
+        }
+        for (AvailableTime availableTime : timesOrNull) {
+            int slot = getSlot(dateIndex, availableTime.getTime());
+            if (slot >= 0) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    public void replace(TimeTableMatrix timeTableMatrix) {
+        this.dates = new ArrayList<>(timeTableMatrix.dates);
+        this.times = new ArrayList<>(timeTableMatrix.times);
+        this.participantNames = new ArrayList<>(timeTableMatrix.participantNames);
+        this.words = timeTableMatrix.getWords().clone();
+        this.dateIndexes = null;
+        this.timeIndexes = null;
+        this.participantIndexes = null;
+        flush();
+    }
+
+    // 참여자 이름들을 한 번만 비트마스크로 바꾼 뒤 슬롯마다 AND 연산으로 모두 포함하는지 확인한다.
+    public List<DateTimeInfoDto> getDateTimeInfosDtoByParticipantNames(List<String> participantNames) {
+        List<DateTimeInfoDto> dateTimeInfosDto = new ArrayList<>();
+        long[] mask = toMask(participantNames);
+        if (mask == null) {
+            return dateTimeInfosDto;
+        }
+        long[] words = getWords();
+        int slotsPerDate = getSlotsPerDate();
+        for (int slot = 0; slot < getSlotCount(); slot++) {
+            if (containsAll(words, slot, mask)) {
+                int dateIndex = slot / slotsPerDate;
+                dateTimeInfosDto.add(new DateTimeInfoDto(
+                        LocalDateTime.of(dates.get(dateIndex), getTimeOrZeroTime(slot % slotsPerDate)), participantNames));
+            }
+        }
+        return dateTimeInfosDto;
+    }
+
+    // 등록되지 않은 참여자 이름이 있으면 null을 반환한다.
+    private long[] toMask(List<String> participantNames) {
+        long[] mask = new long[getStride()];
+        for (String participantName : participantNames) {
+            Integer participantIndex = getParticipantIndexes().get(participantName);
+            if (participantIndex == null) {
+                return null;
+            }
+            mask[participantIndex / Long.SIZE] |= 1L << (participantIndex % Long.SIZE);
+        }
+        return mask;
+    }
+
+    private boolean containsAll(long[] words, int slot, long[] mask) {
+        int offset = slot * mask.length;
+        for (int i = 0; i < mask.length; i++) {
+            if ((words[offset + i] & mask[i]) != mask[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 참여자가 등록한 슬롯을 날짜별로 모은다. 시간이 없는 방은 시간을 null로 둔다.
+    public List<AvailableDateTime> getAvailableDateTimesByParticipantName(String participantName) {
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>();
+        Integer participantIndex = getParticipantIndexes().get(participantName);
+        if (participantIndex == null) {
+            return availableDateTimes;
+        }
+        long[] words = getWords();
+        int stride = getStride();
+        long bit = 1L << (participantIndex % Long.SIZE);
+        int slotsPerDate = getSlotsPerDate();
+        for (int dateIndex = 0; dateIndex < dates.size(); dateIndex++) {
+            List<AvailableTime> availableTimes = new ArrayList<>();
+            for (int timeIndex = 0; timeIndex < slotsPerDate; timeIndex++) {
+                int slot = dateIndex * slotsPerDate + timeIndex;
+                if ((words[slot * stride + participantIndex / Long.SIZE] & bit) != 0) {
+                    availableTimes.add(new AvailableTime(getTimeOrZeroTime(timeIndex)));
+                }
+            }
+            if (availableTimes.isEmpty()) {
+                continue;
+            }
+            availableDateTimes.add(new AvailableDateTime(null, dates.get(dateIndex), hasTime() ? availableTimes : null));
+        }
+        return availableDateTimes;
+    }
+
+    public int getParticipantsSize(int dateIndex, int timeIndex) {
+        long[] words = getWords();
+        int stride = getStride();
+        int offset = (dateIndex * getSlotsPerDate() + timeIndex) * stride;
+        int count = 0;
+        for (int i = 0; i < stride; i++) {
+            count += Long.bitCount(words[offset + i]);
+        }
+        return count;
+    }
+
+    public boolean hasTime() {
+        return !times.isEmpty();
+    }
+
+    private LocalTime getTimeOrZeroTime(int timeIndex) {
+        if (!hasTime()) {
+            return ZERO_TIME;
+        }
+        return times.get(timeIndex);
+    }
+
+    private int getSlot(int dateIndex, LocalTime time) {
+        if (!hasTime()) {
+            return dateIndex;
+        }
+        Integer timeIndex = getTimeIndexes().get(time);
+        if (timeIndex == null) {
+            return -1;
+        }
+        return dateIndex * getSlotsPerDate() + timeIndex;
+    }
+
+    private int getOrAddParticipantIndex(String participantName) {
+        Integer existingIndex = getParticipantIndexes().get(participantName);
+        if (existingIndex != null) {
+            return existingIndex;
+        }
+        List<String> participantNames = new ArrayList<>(this.participantNames);
+        participantNames.add(participantName);
+        this.participantNames = participantNames;
+        int participantIndex = participantNames.size() - 1;
+        getParticipantIndexes().put(participantName, participantIndex);
+        if (participantIndex >= getStride() * Long.SIZE) {
+            grow(getStride() + 1);
+        }
+        return participantIndex;
+    }
+
+    private void grow(int newStride) {
+        long[] words = getWords();
+        int stride = getStride();
+        long[] grown = new long[getSlotCount() * newStride];
+        for (int slot = 0; slot < getSlotCount(); slot++) {
+            System.arraycopy(words, slot * stride, grown, slot * newStride, stride);
+        }
+        this.words = grown;
+    }
+
+    private void set(int slot, int participantIndex) {
+        getWords()[slot * getStride() + participantIndex / Long.SIZE] |= 1L << (participantIndex % Long.SIZE);
+    }
+
+    private void unset(int slot, int participantIndex) {
+        getWords()[slot * getStride() + participantIndex / Long.SIZE] &= ~(1L << (participantIndex % Long.SIZE));
+    }
+
+    private void clear(int participantIndex) {
+        long[] words = getWords();
+        int stride = getStride();
+        long bit = 1L << (participantIndex % Long.SIZE);
+        for (int slot = 0; slot < getSlotCount(); slot++) {
+            words[slot * stride + participantIndex / Long.SIZE] &= ~bit;
+        }
+    }
+
+    private void flush() {
+        this.slots = toBytes(getWords());
+    }
+
+    private int getSlotsPerDate() {
+        if (!hasTime()) {
+            return 1;
+        }
+        return times.size();
+    }
+
+    private int getSlotCount() {
+        return dates.size() * getSlotsPerDate();
+    }
+
+    private int getStride() {
+        return getWords().length / getSlotCount();
+    }
+
+    private long[] getWords() {
+        if (words == null) {
+            words = toLongs(slots);
+        }
+        return words;
+    }
+
+    private Map<LocalDate, Integer> getDateIndexes() {
+        if (dateIndexes == null) {
+            dateIndexes = new HashMap<>();
+            for (int dateIndex = 0; dateIndex < dates.size(); dateIndex++) {
+                dateIndexes.put(dates.get(dateIndex), dateIndex);
+            }
+        }
+        return dateIndexes;
+    }
+
+    private Map<LocalTime, Integer> getTimeIndexes() {
+        if (timeIndexes == null) {
+            timeIndexes = new HashMap<>();
+            for (int timeIndex = 0; timeIndex < times.size(); timeIndex++) {
+                timeIndexes.put(times.get(timeIndex), timeIndex);
+            }
+        }
+        return timeIndexes;
+    }
+
+    private Map<String, Integer> getParticipantIndexes() {
+        if (participantIndexes == null) {
+            participantIndexes = new HashMap<>();
+            for (int participantIndex = 0; participantIndex < participantNames.size(); participantIndex++) {
+                participantIndexes.put(participantNames.get(participantIndex), participantIndex);
+            }
+        }
+        return participantIndexes;
+    }
+
+    private static byte[] toBytes(long[] words) {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    private static long[] toLongs(byte[] bytes) {
+        long[] words = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(words);
+        return words;
+    }
+
+    public String getRoomUuid() {
+        return roomUuid;
+    }
+
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public List<LocalTime> getTimes() {
+        return times;
+    }
+
+    public List<String> getParticipantNames() {
+        return participantNames;
+    }
+
+    @Override
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    @Override
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public void setModifiedBy(String modifiedBy) {
+        this.modifiedBy = modifiedBy;
+    }
+
+    @Override
+    public void setModifiedAt(LocalDateTime modifiedAt) {
+        this.modifiedAt = modifiedAt;
+    }
+}
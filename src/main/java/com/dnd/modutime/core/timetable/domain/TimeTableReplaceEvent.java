@@ -1,13 +1,46 @@
 package com.dnd.modutime.core.timetable.domain;
 
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import java.time.LocalDate;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
-@AllArgsConstructor
 public class TimeTableReplaceEvent {
 
     private final String roomUuid;
     private final List<DateInfo> dateInfos;
+
+    // 참여자 수가 바뀐 날짜와 시간. null이면 모든 슬롯이 바뀐 것으로 본다.
+    private final List<AvailableDateTime> changedAvailableDateTimes;
+
+    // 이 변경으로 올라간 TimeTable version. 알 수 없으면 null이다.
+    private final Long version;
+
+    public TimeTableReplaceEvent(String roomUuid, List<DateInfo> dateInfos) {
+        this(roomUuid, dateInfos, null, null);
+    }
+
+    public TimeTableReplaceEvent(String roomUuid,
+                                 List<DateInfo> dateInfos,
+                                 List<AvailableDateTime> changedAvailableDateTimes,
+                                 Long version) {
+        this.roomUuid = roomUuid;
+        this.dateInfos = dateInfos;
+        this.changedAvailableDateTimes = changedAvailableDateTimes;
+        this.version = version;
+    }
+
+    public boolean isAllChanged() {
+        return changedAvailableDateTimes == null;
+    }
+
+    public List<LocalDate> getChangedDates() {
+        return changedAvailableDateTimes.stream()
+                .map(AvailableDateTime::getDate)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
 }
@@ -1,10 +1,16 @@
 package com.dnd.modutime.core.timetable.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TimeInfoParticipantNameRepository extends JpaRepository<TimeInfoParticipantName, Long> {
 
-    void deleteByTimeInfoIdAndName(Long timeInfoId, String name);
+    @Modifying
+    @Query("delete from TimeInfoParticipantName t where t.timeInfo.id in :timeInfoIds and t.name = :name")
+    void deleteAllByTimeInfoIdsAndName(@Param("timeInfoIds") List<Long> timeInfoIds, @Param("name") String name);
 }
@@ -0,0 +1,12 @@
+package com.dnd.modutime.core.timetable.repository;
+
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TimeTableMatrixRepository extends JpaRepository<TimeTableMatrix, Long> {
+
+    Optional<TimeTableMatrix> findByRoomUuid(String roomUuid);
+
+    boolean existsByRoomUuid(String roomUuid);
+}
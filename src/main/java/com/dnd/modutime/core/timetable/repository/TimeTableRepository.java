@@ -1,9 +1,54 @@
 package com.dnd.modutime.core.timetable.repository;
 
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
 import com.dnd.modutime.core.timetable.domain.TimeTable;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TimeTableRepository extends JpaRepository<TimeTable, Long> {
-    Optional<TimeTable> findByRoomUuid(String roomUuid);
+
+    // DateInfo, TimeInfo, 참여자 이름까지 단계별 fetch join 3번으로 모두 채운다.
+    @Transactional(readOnly = true)
+    default Optional<TimeTable> findByRoomUuid(String roomUuid) {
+        Optional<TimeTable> timeTable = findWithDateInfosByRoomUuid(roomUuid);
+        timeTable.ifPresent(it -> {
+            fetchTimeInfos(it);
+            fetchTimeInfoParticipantNames(it);
+        });
+        return timeTable;
+    }
+
+    // TimeInfo가 필요 없는 조회에서 사용한다.
+    @EntityGraph(attributePaths = "dateInfos")
+    Optional<TimeTable> findWithDateInfosByRoomUuid(String roomUuid);
+
+    @Query("select distinct d from DateInfo d left join fetch d.timeInfos where d.timeTable = :timeTable")
+    List<DateInfo> fetchTimeInfos(@Param("timeTable") TimeTable timeTable);
+
+    @Query("select distinct ti from DateInfo d join d.timeInfos ti left join fetch ti.timeInfoParticipantNames where d.timeTable = :timeTable")
+    List<TimeInfo> fetchTimeInfoParticipantNames(@Param("timeTable") TimeTable timeTable);
+
+    // 여러 서버가 같은 방의 TimeTable을 동시에 고치지 않도록 커밋할 때까지 행을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TimeTable t where t.roomUuid = :roomUuid")
+    Optional<TimeTable> findForUpdateByRoomUuid(@Param("roomUuid") String roomUuid);
+
+    @Query("select t.version from TimeTable t where t.roomUuid = :roomUuid")
+    Optional<Long> findVersionByRoomUuid(@Param("roomUuid") String roomUuid);
+
+    @Modifying
+    @Query("update TimeTable t set t.version = t.version + 1 where t.roomUuid = :roomUuid")
+    void increaseVersionByRoomUuid(@Param("roomUuid") String roomUuid);
+
+    @Query("select t.roomUuid from TimeTable t")
+    List<String> findAllRoomUuids();
 }
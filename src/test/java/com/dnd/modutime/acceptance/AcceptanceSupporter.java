@@ -2,18 +2,22 @@ package com.dnd.modutime.acceptance;
 
 import static com.dnd.modutime.fixture.RoomRequestFixture.*;
 import static com.dnd.modutime.fixture.TimeFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import com.dnd.modutime.config.TimeConfiguration;
+import com.dnd.modutime.core.outbox.application.OutboxEventProcessor;
 import com.dnd.modutime.core.auth.application.request.LoginRequest;
 import com.dnd.modutime.core.participant.application.response.EmailResponse;
 import com.dnd.modutime.core.room.application.request.RoomRequest;
@@ -28,9 +32,14 @@ import io.restassured.response.Response;
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 public class AcceptanceSupporter {
 
+    private static final long OUTBOX_TIMEOUT_MILLIS = 5_000;
+
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private OutboxEventProcessor outboxEventProcessor;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
@@ -44,6 +53,15 @@ public class AcceptanceSupporter {
                 .extract();
     }
 
+    protected ExtractableResponse<Response> getIfNoneMatch(String uri, String eTag) {
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get(uri)
+                .then().log().all()
+                .extract();
+    }
+
     protected ExtractableResponse<Response> post(String uri, Object body) {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -53,13 +71,25 @@ public class AcceptanceSupporter {
                 .extract();
     }
 
+    // TimeTable과 조율 결과는 outbox를 거쳐 비동기로 반영되므로 반영될 때까지 기다린다.
     protected ExtractableResponse<Response> put(String uri, Object body) {
-        return RestAssured.given().log().all()
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .body(body)
                 .when().put(uri)
                 .then().log().all()
                 .extract();
+        awaitOutbox();
+        return response;
+    }
+
+    protected void awaitOutbox() {
+        try {
+            assertThat(outboxEventProcessor.awaitIdle(OUTBOX_TIMEOUT_MILLIS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
     }
 
     protected RoomCreationResponse 방_생성(RoomRequest roomRequest) {
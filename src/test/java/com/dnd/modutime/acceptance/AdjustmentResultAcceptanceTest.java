@@ -2,6 +2,10 @@ package com.dnd.modutime.acceptance;
 
 import static com.dnd.modutime.fixture.RoomRequestFixture.getRoomRequest;
 import static com.dnd.modutime.fixture.RoomRequestFixture.getRoomRequestNoTime;
+import static com.dnd.modutime.fixture.TimeFixture._11_00;
+import static com.dnd.modutime.fixture.TimeFixture._11_30;
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
@@ -10,14 +14,33 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
 import com.dnd.modutime.core.adjustresult.application.response.CandidateDateTimeResponse;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import com.dnd.modutime.core.adjustresult.repository.AdjustmentResultRepository;
+import com.dnd.modutime.core.adjustresult.repository.CandidateDateTimeRepository;
+import com.dnd.modutime.core.adjustresult.util.sorter.FastFirstSorter;
+import com.dnd.modutime.core.adjustresult.util.sorter.LongFirstSorter;
 import com.dnd.modutime.core.room.application.response.RoomCreationResponse;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
 public class AdjustmentResultAcceptanceTest extends AcceptanceSupporter {
 
+    @Autowired
+    private AdjustmentResultRepository adjustmentResultRepository;
+
+    @Autowired
+    private CandidateDateTimeRepository candidateDateTimeRepository;
+
     @Test
     void 전체참여자의_조율결과를_조회한다() {
         RoomCreationResponse roomCreationResponse = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10)));
@@ -123,4 +146,184 @@ public class AdjustmentResultAcceptanceTest extends AcceptanceSupporter {
                 () -> assertThat(candidateDateTimeResponse.getIsConfirmed()).isNull()
         );
     }
+
+    @Test
+    void ETag가_같으면_304를_반환하고_참여자가_추가되면_새로운_ETag를_반환한다() {
+        RoomCreationResponse roomCreationResponse = 방_생성(getRoomRequestNoTime(List.of(_2023_02_08, _2023_02_09, _2023_02_10)));
+        String roomUuid = roomCreationResponse.getUuid();
+        두명의_날짜를_등록한다(roomUuid);
+        String eTag = get("/api/room/" + roomUuid + "/adjustment-result").header(HttpHeaders.ETAG);
+
+        ExtractableResponse<Response> notModifiedResponse = getIfNoneMatch("/api/room/" + roomUuid + "/adjustment-result", eTag);
+        로그인_참여자_1234(roomUuid, "이세희");
+        ExtractableResponse<Response> modifiedResponse = getIfNoneMatch("/api/room/" + roomUuid + "/adjustment-result", eTag);
+
+        assertAll(
+                () -> assertThat(eTag).isNotNull(),
+                () -> assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag)
+        );
+    }
+
+    @Test
+    void offset과_limit으로_다음_후보시간을_조회한다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+
+        AdjustmentResultResponse firstPage = get("/api/room/" + roomUuid + "/adjustment-result?limit=3")
+                .body().as(AdjustmentResultResponse.class);
+        AdjustmentResultResponse secondPage = get("/api/room/" + roomUuid + "/adjustment-result?offset=3&limit=3")
+                .body().as(AdjustmentResultResponse.class);
+        AdjustmentResultResponse allPage = get("/api/room/" + roomUuid + "/adjustment-result?limit=6")
+                .body().as(AdjustmentResultResponse.class);
+
+        List<Long> pagedIds = new ArrayList<>(getIds(firstPage));
+        pagedIds.addAll(getIds(secondPage));
+        assertAll(
+                () -> assertThat(firstPage.getCandidateDateTimeResponse()).hasSize(3),
+                () -> assertThat(firstPage.isHasNext()).isTrue(),
+                () -> assertThat(pagedIds).containsExactlyElementsOf(getIds(allPage))
+        );
+    }
+
+    @Test
+    void limit이_범위를_벗어나면_조회할_수_없다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+
+        ExtractableResponse<Response> response = get("/api/room/" + roomUuid + "/adjustment-result?limit=0");
+
+        assertThat(response.statusCode()).isNotEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void offset이_범위를_벗어나면_조회할_수_없다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+
+        ExtractableResponse<Response> response = get("/api/room/" + roomUuid + "/adjustment-result?offset=" + Integer.MAX_VALUE);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void 일부참여자의_시간이_수정되면_새로운_조율결과를_조회한다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+        get("/api/room/" + roomUuid + "/adjustment-result?name=김동호&name=이수진");
+
+        시간을_등록한다(roomUuid, "김동호", true, List.of(LocalDateTime.of(_2023_02_09, _13_00)));
+        AdjustmentResultResponse response = get("/api/room/" + roomUuid + "/adjustment-result?name=이수진&name=김동호")
+                .body().as(AdjustmentResultResponse.class);
+
+        assertAll(
+                () -> assertThat(response.getCandidateDateTimeResponse()).hasSize(1),
+                () -> assertThat(response.getCandidateDateTimeResponse().get(0).getDate()).isEqualTo(_2023_02_09),
+                () -> assertThat(response.getCandidateDateTimeResponse().get(0).getStartTime()).isEqualTo(_13_00)
+        );
+    }
+
+    @Test
+    void DB에서_정렬한_후보시간은_정렬기로_정렬한_결과와_같다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+        List<CandidateDateTime> candidateDateTimes = getCandidateDateTimes(roomUuid, _2023_02_08, _2023_02_10);
+
+        AdjustmentResultResponse fastFirst = get("/api/room/" + roomUuid + "/adjustment-result?sorted=fast&limit=10")
+                .body().as(AdjustmentResultResponse.class);
+        AdjustmentResultResponse longFirst = get("/api/room/" + roomUuid + "/adjustment-result?sorted=long&limit=10")
+                .body().as(AdjustmentResultResponse.class);
+
+        assertAll(
+                () -> assertThat(getIds(fastFirst)).containsExactlyElementsOf(
+                        getIds(new FastFirstSorter().select(candidateDateTimes, 0, 10))),
+                () -> assertThat(getIds(longFirst)).containsExactlyElementsOf(
+                        getIds(new LongFirstSorter().select(candidateDateTimes, 0, 10)))
+        );
+    }
+
+    private List<Long> getIds(List<CandidateDateTime> candidateDateTimes) {
+        return candidateDateTimes.stream()
+                .map(CandidateDateTime::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> getIds(AdjustmentResultResponse adjustmentResultResponse) {
+        return adjustmentResultResponse.getCandidateDateTimeResponse().stream()
+                .map(CandidateDateTimeResponse::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void 시간을_수정한_날짜의_후보시간만_다시_만든다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+        List<Long> untouchedIds = getCandidateDateTimeIds(roomUuid, _2023_02_08, _2023_02_09);
+
+        // 2023.02.10 13:00 의 시간만 제거
+        시간을_등록한다(roomUuid, "김동호", true, List.of(LocalDateTime.of(_2023_02_08, _11_00),
+                LocalDateTime.of(_2023_02_08, _11_30),
+                LocalDateTime.of(_2023_02_08, _13_00),
+                LocalDateTime.of(_2023_02_09, _11_00),
+                LocalDateTime.of(_2023_02_09, _11_30),
+                LocalDateTime.of(_2023_02_09, _13_00),
+                LocalDateTime.of(_2023_02_10, _11_00),
+                LocalDateTime.of(_2023_02_10, _11_30)
+        ));
+
+        List<CandidateDateTime> changedCandidateDateTimes = getCandidateDateTimes(roomUuid, _2023_02_10, _2023_02_10);
+        assertAll(
+                () -> assertThat(getCandidateDateTimeIds(roomUuid, _2023_02_08, _2023_02_09))
+                        .containsExactlyInAnyOrderElementsOf(untouchedIds),
+                () -> assertThat(changedCandidateDateTimes).hasSize(5),
+                () -> assertThat(changedCandidateDateTimes)
+                        .noneMatch(candidateDateTime -> candidateDateTime.getStartDateTime()
+                                .isEqual(LocalDateTime.of(_2023_02_10, _13_00)))
+        );
+    }
+
+    @Test
+    void 최소길이와_최소참여자수를_만족하는_구간을_조회한다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+
+        ExtractableResponse<Response> response = get("/api/room/" + roomUuid
+                + "/adjustment-result?minDuration=60m&minParticipants=2");
+        List<CandidateDateTimeResponse> candidateDateTimeResponses = response.body().as(AdjustmentResultResponse.class)
+                .getCandidateDateTimeResponse();
+        ExtractableResponse<Response> emptyResponse = get("/api/room/" + roomUuid
+                + "/adjustment-result?minDuration=90m&minParticipants=2");
+
+        assertAll(
+                () -> assertThat(candidateDateTimeResponses).hasSize(1),
+                () -> assertThat(candidateDateTimeResponses.get(0).getId()).isNull(),
+                () -> assertThat(candidateDateTimeResponses.get(0).getDate()).isEqualTo(_2023_02_08),
+                () -> assertThat(candidateDateTimeResponses.get(0).getStartTime()).isEqualTo(_11_00),
+                () -> assertThat(candidateDateTimeResponses.get(0).getEndTime()).isEqualTo(_12_00),
+                () -> assertThat(candidateDateTimeResponses.get(0).getAvailableParticipantNames())
+                        .containsExactlyInAnyOrder("김동호", "이수진", "이세희"),
+                () -> assertThat(emptyResponse.body().as(AdjustmentResultResponse.class).getCandidateDateTimeResponse())
+                        .isEmpty()
+        );
+    }
+
+    @Test
+    void 최소참여자수가_1보다_작으면_구간을_조회할_수_없다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+
+        ExtractableResponse<Response> response = get("/api/room/" + roomUuid + "/adjustment-result?minParticipants=0");
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private List<Long> getCandidateDateTimeIds(String roomUuid, LocalDate startDate, LocalDate endDate) {
+        return getCandidateDateTimes(roomUuid, startDate, endDate).stream()
+                .map(CandidateDateTime::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<CandidateDateTime> getCandidateDateTimes(String roomUuid, LocalDate startDate, LocalDate endDate) {
+        Long adjustmentResultId = adjustmentResultRepository.findByRoomUuid(roomUuid).get().getId();
+        return candidateDateTimeRepository.findAllByAdjustmentResultIdAndDateTimeBetween(adjustmentResultId,
+                startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+    }
 }
@@ -2,14 +2,23 @@ package com.dnd.modutime.acceptance;
 
 import static com.dnd.modutime.fixture.RoomRequestFixture.getRoomRequestNoTime;
 import static com.dnd.modutime.fixture.TimeFixture._00_00;
+import static com.dnd.modutime.fixture.TimeFixture._11_00;
+import static com.dnd.modutime.fixture.TimeFixture._11_30;
 import static com.dnd.modutime.fixture.TimeFixture._12_00;
 import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_30;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.dnd.modutime.core.room.application.response.RoomCreationResponse;
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.application.request.ParticipantTimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
 import com.dnd.modutime.core.timeblock.application.response.TimeBlockResponse;
+import com.dnd.modutime.core.timeblock.application.response.TimeImportResponse;
+import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import java.time.LocalDateTime;
@@ -76,4 +85,132 @@ public class TimeBlockAcceptanceTest extends AcceptanceSupporter {
                         .contains(LocalDateTime.of(2023, 2, 10, 0, 0))
         );
     }
+
+    @Test
+    void 참여자가_가능한_시간을_구간으로_등록한다() {
+        RoomCreationResponse roomCreationResponse = 방_생성();
+        String participantName = "참여자1";
+        로그인_참여자_1234(roomCreationResponse.getUuid(), participantName);
+        TimeReplaceRequest timeReplaceRequest = new TimeReplaceRequest(participantName, true, null,
+                List.of(new AvailableTimeRangeRequest(_2023_02_10, _12_00, _13_30)));
+        put("/api/room/" + roomCreationResponse.getUuid() + "/available-time", timeReplaceRequest);
+
+        ExtractableResponse<Response> response = get("/api/room/" + roomCreationResponse.getUuid() + "/available-time?name=" + participantName);
+        TimeBlockResponse timeBlockResponse = response.body().as(TimeBlockResponse.class);
+
+        assertThat(timeBlockResponse.getAvailableDateTimes()).containsExactlyInAnyOrder(
+                LocalDateTime.of(_2023_02_10, _12_00),
+                LocalDateTime.of(2023, 2, 10, 12, 30),
+                LocalDateTime.of(_2023_02_10, _13_00));
+    }
+
+    @Test
+    void 시각과_구간을_함께_보내면_등록할_수_없다() {
+        RoomCreationResponse roomCreationResponse = 방_생성();
+        String participantName = "참여자1";
+        로그인_참여자_1234(roomCreationResponse.getUuid(), participantName);
+        TimeReplaceRequest timeReplaceRequest = new TimeReplaceRequest(participantName, true,
+                List.of(LocalDateTime.of(_2023_02_10, _13_30)),
+                List.of(new AvailableTimeRangeRequest(_2023_02_10, _12_00, _13_00)));
+
+        ExtractableResponse<Response> response = put("/api/room/" + roomCreationResponse.getUuid() + "/available-time", timeReplaceRequest);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void 여러_참여자의_가능한_시간을_한번에_등록한다() {
+        RoomCreationResponse roomCreationResponse = 방_생성();
+        로그인_참여자_1234(roomCreationResponse.getUuid(), "참여자1");
+        TimeImportRequest timeImportRequest = new TimeImportRequest(true, List.of(
+                new ParticipantTimeImportRequest("참여자1", "1234", null,
+                        List.of(new AvailableTimeRangeRequest(_2023_02_10, _12_00, _13_00))),
+                new ParticipantTimeImportRequest("참여자2", "5678",
+                        List.of(LocalDateTime.of(_2023_02_10, _13_00)), null)
+        ));
+
+        ExtractableResponse<Response> response = post("/api/room/" + roomCreationResponse.getUuid() + "/available-time/import",
+                timeImportRequest);
+        awaitOutbox();
+        TimeImportResponse timeImportResponse = response.body().as(TimeImportResponse.class);
+        TimeBlockResponse timeBlockResponse = get("/api/room/" + roomCreationResponse.getUuid() + "/available-time?name=참여자2")
+                .body().as(TimeBlockResponse.class);
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(timeImportResponse.getParticipantCount()).isEqualTo(2),
+                () -> assertThat(timeImportResponse.getCreatedParticipantCount()).isEqualTo(1),
+                () -> assertThat(timeImportResponse.getChangedParticipantCount()).isEqualTo(2),
+                () -> assertThat(timeBlockResponse.getAvailableDateTimes()).containsExactly(LocalDateTime.of(_2023_02_10, _13_00))
+        );
+    }
+
+    @Test
+    void 이미_있는_참여자의_비밀번호가_다르면_한번에_등록할_수_없다() {
+        RoomCreationResponse roomCreationResponse = 방_생성();
+        로그인_참여자_1234(roomCreationResponse.getUuid(), "참여자1");
+        TimeImportRequest timeImportRequest = new TimeImportRequest(true, List.of(
+                new ParticipantTimeImportRequest("참여자1", "0000", null, List.of())));
+
+        ExtractableResponse<Response> response = post("/api/room/" + roomCreationResponse.getUuid() + "/available-time/import",
+                timeImportRequest);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void CSV로_여러_참여자의_가능한_시간을_한번에_등록한다() {
+        RoomCreationResponse roomCreationResponse = 방_생성();
+        String csv = "name,password,date,start,end\n"
+                + "참여자1,1234,2023-02-10,12:00,13:30\n"
+                + "참여자2,5678,2023-02-10,11:00,12:00\n";
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType("text/csv")
+                .body(csv)
+                .when().post("/api/room/" + roomCreationResponse.getUuid() + "/available-time/import")
+                .then().log().all()
+                .extract();
+        awaitOutbox();
+        TimeBlockResponse timeBlockResponse = get("/api/room/" + roomCreationResponse.getUuid() + "/available-time?name=참여자1")
+                .body().as(TimeBlockResponse.class);
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.body().as(TimeImportResponse.class).getCreatedParticipantCount()).isEqualTo(2),
+                () -> assertThat(timeBlockResponse.getAvailableDateTimes()).hasSize(3)
+        );
+    }
+
+    @Test
+    void 캘린더의_바쁜_시간을_뺀_나머지를_가능한_시간으로_등록한다() {
+        RoomCreationResponse roomCreationResponse = 방_생성();
+        String participantName = "참여자1";
+        로그인_참여자_1234(roomCreationResponse.getUuid(), participantName);
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "SUMMARY:점심 약속\r\n"
+                + "DTSTART:20230210T030000Z\r\n"
+                + "DTEND:20230210T040000Z\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n";
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType("text/calendar")
+                .body(ics)
+                .when().post("/api/room/" + roomCreationResponse.getUuid() + "/available-time/calendar?name=" + participantName)
+                .then().log().all()
+                .extract();
+        TimeBlockResponse timeBlockResponse = get("/api/room/" + roomCreationResponse.getUuid() + "/available-time?name=" + participantName)
+                .body().as(TimeBlockResponse.class);
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(timeBlockResponse.getAvailableDateTimes()).containsExactlyInAnyOrder(
+                        LocalDateTime.of(_2023_02_10, _11_00),
+                        LocalDateTime.of(_2023_02_10, _11_30),
+                        LocalDateTime.of(_2023_02_10, _13_00),
+                        LocalDateTime.of(_2023_02_10, _13_30))
+        );
+    }
 }
@@ -21,12 +21,29 @@ import com.dnd.modutime.core.timetable.application.response.TimeAndCountPerDate;
 import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import com.dnd.modutime.core.timetable.application.TimeTableService;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
 public class TimeTableAcceptanceTest extends AcceptanceSupporter {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TimeTableMatrixRepository timeTableMatrixRepository;
+
+    @Autowired
+    private TimeTableService timeTableService;
+
     @Test
     void 방에_등록된_날짜와_시간당_참여자의수를_조회한다() {
         RoomCreationResponse roomCreationResponse = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10)));
@@ -183,4 +200,106 @@ public class TimeTableAcceptanceTest extends AcceptanceSupporter {
                 )
         );
     }
+
+    @Test
+    void 방_크기와_참여자수에_관계없이_같은_수의_쿼리로_TimeTable을_조회한다() {
+        String largeRoomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(largeRoomUuid);
+        String smallRoomUuid = 방_생성().getUuid();
+
+        long largeRoomStatementCount = countStatements("/api/room/" + largeRoomUuid + "/available-time/group");
+        long smallRoomStatementCount = countStatements("/api/room/" + smallRoomUuid + "/available-time/group");
+
+        assertAll(
+                () -> assertThat(largeRoomStatementCount).isEqualTo(smallRoomStatementCount),
+                () -> assertThat(largeRoomStatementCount).isLessThanOrEqualTo(2)
+        );
+    }
+
+    @Test
+    void TimeTableMatrix가_없는_방도_같은_수의_쿼리로_TimeTable을_조회한다() {
+        String largeRoomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(largeRoomUuid);
+        String smallRoomUuid = 방_생성().getUuid();
+        timeTableMatrixRepository.delete(timeTableMatrixRepository.findByRoomUuid(largeRoomUuid).get());
+        timeTableMatrixRepository.delete(timeTableMatrixRepository.findByRoomUuid(smallRoomUuid).get());
+
+        long largeRoomStatementCount = countStatements("/api/room/" + largeRoomUuid + "/available-time/group");
+        long smallRoomStatementCount = countStatements("/api/room/" + smallRoomUuid + "/available-time/group");
+
+        // version 조회 1번, TimeTableMatrix 조회 1번, TimeTable -> DateInfo -> TimeInfo -> 참여자 이름 fetch join 3번
+        assertAll(
+                () -> assertThat(largeRoomStatementCount).isEqualTo(smallRoomStatementCount),
+                () -> assertThat(largeRoomStatementCount).isLessThanOrEqualTo(5)
+        );
+    }
+
+    @Test
+    void TimeBlock으로부터_다시_만든_TimeTableMatrix로_같은_참여자수를_조회한다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+        TimeTableResponse expected = get("/api/room/" + roomUuid + "/available-time/group").body().as(TimeTableResponse.class);
+        timeTableMatrixRepository.delete(timeTableMatrixRepository.findByRoomUuid(roomUuid).get());
+
+        timeTableService.rebuildMatrix(roomUuid);
+
+        TimeTableResponse actual = get("/api/room/" + roomUuid + "/available-time/group").body().as(TimeTableResponse.class);
+        assertAll(
+                () -> assertThat(timeTableMatrixRepository.existsByRoomUuid(roomUuid)).isTrue(),
+                () -> assertThat(actual.getTimeAndCountPerDates()).usingRecursiveComparison()
+                        .isEqualTo(expected.getTimeAndCountPerDates())
+        );
+    }
+
+    @Test
+    void 수정이_없는_방은_다시_조회해도_쿼리를_실행하지_않고_수정되면_새로_조회한다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+        get("/api/room/" + roomUuid + "/available-time/group");
+
+        long cachedStatementCount = countStatements("/api/room/" + roomUuid + "/available-time/group");
+        // 2023.02.10 13:00 의 시간만 제거
+        시간을_등록한다(roomUuid, "김동호", true, List.of(LocalDateTime.of(_2023_02_08, _11_00),
+                LocalDateTime.of(_2023_02_08, _11_30),
+                LocalDateTime.of(_2023_02_08, _13_00),
+                LocalDateTime.of(_2023_02_09, _11_00),
+                LocalDateTime.of(_2023_02_09, _11_30),
+                LocalDateTime.of(_2023_02_09, _13_00),
+                LocalDateTime.of(_2023_02_10, _11_00),
+                LocalDateTime.of(_2023_02_10, _11_30)
+        ));
+        TimeTableResponse timeTableResponse = get("/api/room/" + roomUuid + "/available-time/group").body().as(TimeTableResponse.class);
+
+        assertAll(
+                () -> assertThat(cachedStatementCount).isZero(),
+                () -> assertThat(timeTableResponse.getTimeAndCountPerDates().get(2).getAvailableTimeInfos())
+                        .contains(new AvailableTimeInfo(_13_00, 0))
+        );
+    }
+
+    @Test
+    void ETag가_같으면_304를_반환하고_수정되면_새로운_ETag를_반환한다() {
+        String roomUuid = 방_생성(getRoomRequest(List.of(_2023_02_08, _2023_02_09, _2023_02_10))).getUuid();
+        세명의_날짜와_시간을_등록한다(roomUuid);
+        String eTag = get("/api/room/" + roomUuid + "/available-time/group").header(HttpHeaders.ETAG);
+
+        ExtractableResponse<Response> notModifiedResponse = getIfNoneMatch("/api/room/" + roomUuid + "/available-time/group", eTag);
+        시간을_등록한다(roomUuid, "김동호", true, List.of(LocalDateTime.of(_2023_02_08, _11_00)));
+        ExtractableResponse<Response> modifiedResponse = getIfNoneMatch("/api/room/" + roomUuid + "/available-time/group", eTag);
+
+        assertAll(
+                () -> assertThat(eTag).isNotNull(),
+                () -> assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(notModifiedResponse.body().asString()).isEmpty(),
+                () -> assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag)
+        );
+    }
+
+    private long countStatements(String uri) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        get(uri);
+        return statistics.getPrepareStatementCount();
+    }
 }
@@ -0,0 +1,82 @@
+package com.dnd.modutime.benchmark;
+
+import com.dnd.modutime.core.adjustresult.application.DateTimeInfoDto;
+import com.dnd.modutime.core.adjustresult.util.convertor.DateTimeRoomConvertor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class DateTimeRoomConvertorBenchmark {
+
+    private static final int[] PARTICIPANT_COUNTS = {10, 50, 150};
+    private static final int DATE_COUNT = 60;
+    private static final int TIME_COUNT = 48;
+    private static final int RUN_LENGTH = 4;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 50;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+
+    private final DateTimeRoomConvertor dateTimeRoomConvertor = new DateTimeRoomConvertor();
+
+    @Test
+    void 참여자수별로_후보시간_변환_비용을_측정한다() {
+        for (int participantCount : PARTICIPANT_COUNTS) {
+            List<DateTimeInfoDto> dateTimeInfosDto = getDateTimeInfosDto(participantCount);
+
+            long convertorNanos = measure(() -> dateTimeRoomConvertor.convert(dateTimeInfosDto));
+            long containsAllNanos = measure(() -> countRunsByContainsAll(dateTimeInfosDto));
+
+            System.out.printf("[%d participants, %d slots] DateTimeRoomConvertor=%dus, containsAll comparison only=%dus%n",
+                    participantCount, dateTimeInfosDto.size(), convertorNanos / 1_000, containsAllNanos / 1_000);
+        }
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runnable.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    // 이전 구현처럼 이웃한 슬롯의 참여자 목록을 List.containsAll 로 비교한다.
+    private int countRunsByContainsAll(List<DateTimeInfoDto> dateTimeInfosDto) {
+        int runs = 1;
+        for (int i = 1; i < dateTimeInfosDto.size(); i++) {
+            List<String> pre = dateTimeInfosDto.get(i - 1).getParticipantNames();
+            List<String> current = dateTimeInfosDto.get(i).getParticipantNames();
+            if (pre.size() != current.size() || !current.containsAll(pre)) {
+                runs++;
+            }
+        }
+        return runs;
+    }
+
+    // RUN_LENGTH 슬롯마다 한 명씩 빠지는 참여자 구성을 새 목록으로 만든다.
+    private List<DateTimeInfoDto> getDateTimeInfosDto(int participantCount) {
+        List<DateTimeInfoDto> dateTimeInfosDto = new ArrayList<>(DATE_COUNT * TIME_COUNT);
+        for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+            for (int timeIndex = 0; timeIndex < TIME_COUNT; timeIndex++) {
+                int excluded = (timeIndex / RUN_LENGTH) % participantCount;
+                List<String> names = new ArrayList<>(participantCount);
+                for (int i = 0; i < participantCount; i++) {
+                    if (i != excluded) {
+                        names.add("참여자" + i);
+                    }
+                }
+                dateTimeInfosDto.add(new DateTimeInfoDto(LocalDateTime.of(START_DATE.plusDays(dateIndex),
+                        LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex)), names));
+            }
+        }
+        return dateTimeInfosDto;
+    }
+}
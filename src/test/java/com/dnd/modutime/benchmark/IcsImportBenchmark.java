@@ -0,0 +1,122 @@
+package com.dnd.modutime.benchmark;
+
+import com.dnd.modutime.core.timeblock.util.BusyTimeSlots;
+import com.dnd.modutime.core.timeblock.util.IcsBusyTimeReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class IcsImportBenchmark {
+
+    private static final int[] EVENT_COUNTS = {10_000, 50_000};
+    private static final int RECURRING_EVENT_RATIO = 20;
+    private static final int DESCRIPTION_LINES = 8;
+    private static final int ITERATIONS = 5;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate FIRST_EVENT_DATE = LocalDate.of(2018, 1, 1);
+    private static final LocalDate ROOM_FIRST_DATE = LocalDate.of(2023, 3, 1);
+    private static final LocalDate ROOM_LAST_DATE = LocalDate.of(2023, 3, 31);
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final IcsBusyTimeReader icsBusyTimeReader = new IcsBusyTimeReader();
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("ics-benchmark");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var paths = Files.list(directory)) {
+            paths.forEach(path -> path.toFile().delete());
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void 큰_캘린더_파일을_읽는_시간과_힙_사용량을_측정한다() throws IOException {
+        for (int eventCount : EVENT_COUNTS) {
+            Path file = writeCalendar(eventCount);
+            long fileBytes = Files.size(file);
+
+            read(file);
+            long usedBefore = getUsedHeap();
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                read(file);
+            }
+            long elapsedMillis = (System.nanoTime() - startedAt) / ITERATIONS / 1_000_000;
+            long streamedHeapKb = Math.max(0L, getUsedHeap() - usedBefore) / 1024;
+
+            usedBefore = getUsedHeap();
+            String wholeFile = Files.readString(file, StandardCharsets.UTF_8);
+            long wholeFileHeapKb = Math.max(0L, getUsedHeap() - usedBefore) / 1024;
+
+            System.out.printf("[%d events, %.1fMB] streamed=%dms (%.1fMB/s), heap retained after stream=%dKB,"
+                            + " heap retained by reading whole file=%dKB (length %d)%n",
+                    eventCount, fileBytes / 1024.0 / 1024.0, elapsedMillis,
+                    fileBytes / 1024.0 / 1024.0 / Math.max(1L, elapsedMillis) * 1000,
+                    streamedHeapKb, wholeFileHeapKb, wholeFile.length());
+        }
+    }
+
+    private BusyTimeSlots read(Path file) {
+        BusyTimeSlots busyTimeSlots = new BusyTimeSlots(ROOM_FIRST_DATE, ROOM_LAST_DATE);
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            icsBusyTimeReader.read(inputStream, SEOUL, busyTimeSlots.getStart(), busyTimeSlots.getEnd(), busyTimeSlots::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return busyTimeSlots;
+    }
+
+    private long getUsedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 5년 넘게 이어지는 일정에 접힌 DESCRIPTION과 알람을 붙이고, 일부는 매주 반복하게 만든다.
+    private Path writeCalendar(int eventCount) throws IOException {
+        Path file = directory.resolve("calendar-" + eventCount + ".ics");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//modutime//benchmark//KO\r\n");
+            for (int i = 0; i < eventCount; i++) {
+                LocalDateTime start = FIRST_EVENT_DATE.atStartOfDay()
+                        .plusHours((long) i * 24 * 365 * 6 / eventCount)
+                        .withMinute(i % 2 == 0 ? 0 : 30);
+                writer.write("BEGIN:VEVENT\r\nUID:" + i + "@modutime\r\n");
+                writer.write("SUMMARY:일정 " + i + "\r\n");
+                writer.write("DESCRIPTION:회의 안건과 참석자 메모");
+                for (int line = 0; line < DESCRIPTION_LINES; line++) {
+                    writer.write("\r\n  - " + line + "번째 안건에 대한 긴 설명이 이어지는 줄입니다.");
+                }
+                writer.write("\r\nDTSTART;TZID=Asia/Seoul:" + start.format(DATE_TIME_FORMATTER) + "\r\n");
+                writer.write("DTEND;TZID=Asia/Seoul:" + start.plusMinutes(90).format(DATE_TIME_FORMATTER) + "\r\n");
+                if (i % RECURRING_EVENT_RATIO == 0) {
+                    writer.write("RRULE:FREQ=WEEKLY;BYDAY=MO,WE,FR\r\n");
+                    writer.write("EXDATE;TZID=Asia/Seoul:" + start.plusWeeks(1).format(DATE_TIME_FORMATTER) + "\r\n");
+                }
+                writer.write("BEGIN:VALARM\r\nACTION:DISPLAY\r\nTRIGGER:-PT10M\r\nEND:VALARM\r\n");
+                writer.write("END:VEVENT\r\n");
+            }
+            writer.write("END:VCALENDAR\r\n");
+        }
+        return file;
+    }
+}
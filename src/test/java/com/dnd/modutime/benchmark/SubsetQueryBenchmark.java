@@ -0,0 +1,72 @@
+package com.dnd.modutime.benchmark;
+
+import static com.dnd.modutime.fixture.TimeTableFixture.getTimeTable;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class SubsetQueryBenchmark {
+
+    private static final int[] PARTICIPANT_COUNTS = {10, 50, 150};
+    private static final int DATE_COUNT = 60;
+    private static final int TIME_COUNT = 48;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 50;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+
+    @Test
+    void 참여자수별로_일부참여자_조회_비용을_측정한다() {
+        for (int participantCount : PARTICIPANT_COUNTS) {
+            TimeTable timeTable = getTimeTable("benchmark", START_DATE, DATE_COUNT, TIME_COUNT);
+            Random random = new Random(participantCount);
+            for (int i = 0; i < participantCount; i++) {
+                timeTable.addParticipantName(getAvailableDateTimes(random), "참여자" + i);
+            }
+            TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(timeTable);
+            List<String> names = List.of("참여자0", "참여자" + (participantCount / 2), "참여자" + (participantCount - 1));
+
+            long timeTableNanos = measure(() -> timeTable.getDateTimeInfosDtoByParticipantNames(names));
+            long matrixNanos = measure(() -> timeTableMatrix.getDateTimeInfosDtoByParticipantNames(names));
+
+            System.out.printf("[%d participants, %d slots] TimeTable=%dus, TimeTableMatrix=%dus%n",
+                    participantCount, DATE_COUNT * TIME_COUNT, timeTableNanos / 1_000, matrixNanos / 1_000);
+        }
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runnable.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    // 슬롯마다 절반 확률로 가능한 시간으로 등록한다.
+    private List<AvailableDateTime> getAvailableDateTimes(Random random) {
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>(DATE_COUNT);
+        for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+            List<AvailableTime> availableTimes = new ArrayList<>();
+            for (int timeIndex = 0; timeIndex < TIME_COUNT; timeIndex++) {
+                if (random.nextBoolean()) {
+                    availableTimes.add(new AvailableTime(LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex)));
+                }
+            }
+            availableDateTimes.add(new AvailableDateTime(null, START_DATE.plusDays(dateIndex), availableTimes));
+        }
+        return availableDateTimes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dnd.modutime.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+
+import com.dnd.modutime.core.outbox.application.OutboxEventProcessor;
+import com.dnd.modutime.core.timeblock.application.TimeBlockService;
+import com.dnd.modutime.core.timeblock.application.TimeReplaceValidator;
+import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+})
+class TimeBlockReplaceBenchmark {
+
+    private static final int DATE_COUNT = 30;
+    private static final int TIME_COUNT = 48;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+    private static final String PARTICIPANT_NAME = "참여자1";
+
+    @Autowired
+    private TimeBlockService timeBlockService;
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TimeReplaceValidator timeReplaceValidator;
+
+    @MockBean
+    private OutboxEventProcessor outboxEventProcessor;
+
+    @Test
+    void 전체_일정_등록과_한칸_변경의_쿼리수와_수행시간을_비교한다() {
+        doNothing().when(timeReplaceValidator).validate(any(), any());
+        String roomUuid = UUID.randomUUID().toString();
+        timeBlockRepository.save(new TimeBlock(roomUuid, PARTICIPANT_NAME));
+
+        print("full schedule", () -> replace(roomUuid, getDateTimes(-1)));
+        print("one cell toggle", () -> replace(roomUuid, getDateTimes(0)));
+        print("unchanged", () -> replace(roomUuid, getDateTimes(0)));
+        print("load", () -> timeBlockService.getTimeBlock(roomUuid, PARTICIPANT_NAME));
+    }
+
+    private void replace(String roomUuid, List<LocalDateTime> dateTimes) {
+        timeBlockService.replace(roomUuid, new TimeReplaceRequest(PARTICIPANT_NAME, true, dateTimes));
+    }
+
+    private void print(String name, Runnable runnable) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        runnable.run();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[%s] statements=%d, inserts=%d, loaded=%d, elapsed=%dms%n",
+                name,
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityInsertCount(),
+                statistics.getEntityLoadCount(),
+                elapsedMillis);
+    }
+
+    // excludedTimeIndex 번째 시간을 첫 날짜에서만 뺀 전체 일정을 만든다.
+    private List<LocalDateTime> getDateTimes(int excludedTimeIndex) {
+        List<LocalDateTime> dateTimes = new ArrayList<>(DATE_COUNT * TIME_COUNT);
+        for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+            for (int timeIndex = 0; timeIndex < TIME_COUNT; timeIndex++) {
+                if (dateIndex == 0 && timeIndex == excludedTimeIndex) {
+                    continue;
+                }
+                dateTimes.add(START_DATE.plusDays(dateIndex).atStartOfDay().plusMinutes(30L * timeIndex));
+            }
+        }
+        return dateTimes;
+    }
+}
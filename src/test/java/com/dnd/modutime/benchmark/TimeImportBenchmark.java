@@ -0,0 +1,128 @@
+package com.dnd.modutime.benchmark;
+
+import com.dnd.modutime.core.auth.application.AuthService;
+import com.dnd.modutime.core.auth.application.request.LoginRequest;
+import com.dnd.modutime.core.outbox.application.OutboxEventProcessor;
+import com.dnd.modutime.core.room.application.RoomService;
+import com.dnd.modutime.core.room.application.request.RoomRequest;
+import com.dnd.modutime.core.timeblock.application.TimeBlockService;
+import com.dnd.modutime.core.timeblock.application.TimeImportService;
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.application.request.ParticipantTimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeImportRequest;
+import com.dnd.modutime.core.timetable.application.TimeTableService;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// ./gradlew benchmark 로 실행한다.
+// 참여자마다 로그인과 시간 등록을 하는 경우와 한 번에 등록하는 경우를 outbox 처리가 끝날 때까지 재서 비교한다.
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+})
+class TimeImportBenchmark {
+
+    private static final int DATE_COUNT = 7;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+    private static final LocalTime START_TIME = LocalTime.of(9, 0);
+    private static final LocalTime END_TIME = LocalTime.of(18, 0);
+    private static final String PASSWORD = "1234";
+    private static final long OUTBOX_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private TimeTableService timeTableService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TimeBlockService timeBlockService;
+
+    @Autowired
+    private TimeImportService timeImportService;
+
+    @Autowired
+    private OutboxEventProcessor outboxEventProcessor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 참여자별_등록과_일괄_등록의_쿼리수와_수행시간을_비교한다() {
+        String oneByOneRoomUuid = createRoom();
+        print("one by one x50", () -> {
+            for (ParticipantTimeImportRequest participant : getParticipants(50)) {
+                authService.login(oneByOneRoomUuid, new LoginRequest(participant.getName(), PASSWORD));
+                timeBlockService.replace(oneByOneRoomUuid, participant.toTimeReplaceRequest(true));
+            }
+        });
+
+        String importRoomUuid = createRoom();
+        print("import x50", () -> timeImportService.importAll(importRoomUuid, new TimeImportRequest(true, getParticipants(50))));
+
+        String largeImportRoomUuid = createRoom();
+        print("import x500", () -> timeImportService.importAll(largeImportRoomUuid, new TimeImportRequest(true, getParticipants(500))));
+    }
+
+    private String createRoom() {
+        List<LocalDate> dates = new ArrayList<>(DATE_COUNT);
+        for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+            dates.add(START_DATE.plusDays(dateIndex));
+        }
+        String roomUuid = roomService.create(new RoomRequest("벤치마크", null, dates, START_TIME, END_TIME, null)).getUuid();
+        timeTableService.create(roomUuid);
+        return roomUuid;
+    }
+
+    // 참여자마다 날짜별로 3시간씩 시작 시간을 조금씩 다르게 한 구간을 만든다.
+    private List<ParticipantTimeImportRequest> getParticipants(int participantCount) {
+        List<ParticipantTimeImportRequest> participants = new ArrayList<>(participantCount);
+        for (int participantIndex = 0; participantIndex < participantCount; participantIndex++) {
+            List<AvailableTimeRangeRequest> ranges = new ArrayList<>(DATE_COUNT);
+            LocalTime start = START_TIME.plusMinutes(30L * (participantIndex % 12));
+            for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+                ranges.add(new AvailableTimeRangeRequest(START_DATE.plusDays(dateIndex), start, start.plusHours(3)));
+            }
+            participants.add(new ParticipantTimeImportRequest("참여자" + participantIndex, PASSWORD, null, ranges));
+        }
+        return participants;
+    }
+
+    private void print(String name, Runnable runnable) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        runnable.run();
+        awaitOutbox();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[%s] statements=%d, inserts=%d, elapsed=%dms%n",
+                name,
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityInsertCount(),
+                elapsedMillis);
+    }
+
+    private void awaitOutbox() {
+        try {
+            outboxEventProcessor.awaitIdle(OUTBOX_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
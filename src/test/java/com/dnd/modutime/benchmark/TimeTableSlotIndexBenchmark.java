@@ -0,0 +1,91 @@
+package com.dnd.modutime.benchmark;
+
+import static com.dnd.modutime.fixture.TimeTableFixture.getTimeTable;
+
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
+import com.dnd.modutime.core.timetable.domain.TimeTable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class TimeTableSlotIndexBenchmark {
+
+    private static final int[] DATE_COUNTS = {7, 30, 90, 180};
+    private static final int TIME_COUNT = 48;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 50;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+    private static final String PARTICIPANT_NAME = "참여자1";
+
+    @Test
+    void 방_크기별로_전체_일정_교체_비용을_측정한다() {
+        for (int dateCount : DATE_COUNTS) {
+            TimeTable timeTable = getTimeTable("benchmark", START_DATE, dateCount, TIME_COUNT);
+            List<AvailableDateTime> availableDateTimes = getAvailableDateTimes(dateCount);
+            int slotCount = dateCount * TIME_COUNT;
+
+            long indexedNanos = measure(() -> {
+                timeTable.getTimeInfoIdsByAvailableDateTimes(availableDateTimes);
+                timeTable.removeParticipantName(availableDateTimes, PARTICIPANT_NAME);
+                timeTable.addParticipantName(availableDateTimes, PARTICIPANT_NAME);
+            });
+            long scanNanos = measure(() -> countByLinearScan(timeTable, availableDateTimes));
+
+            System.out.printf("[%d dates x %d times] indexed replace=%dus (%dns/slot), linear scan lookup=%dus (%dns/slot)%n",
+                    dateCount, TIME_COUNT,
+                    indexedNanos / 1_000, indexedNanos / slotCount,
+                    scanNanos / 1_000, scanNanos / slotCount);
+        }
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runnable.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    // 인덱스 도입 전처럼 DateInfo x AvailableDateTime x TimeInfo x AvailableTime을 모두 비교한다.
+    private int countByLinearScan(TimeTable timeTable, List<AvailableDateTime> availableDateTimes) {
+        int count = 0;
+        for (DateInfo dateInfo : timeTable.getDateInfos()) {
+            for (AvailableDateTime availableDateTime : availableDateTimes) {
+                if (!dateInfo.getDate().isEqual(availableDateTime.getDate())) {
+                    continue;
+                }
+                for (TimeInfo timeInfo : dateInfo.getTimeInfos()) {
+                    for (AvailableTime availableTime : availableDateTime.getTimesOrNull()) {
+                        if (timeInfo.isSameTime(availableTime.getTime())) {
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private List<AvailableDateTime> getAvailableDateTimes(int dateCount) {
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>(dateCount);
+        for (int dateIndex = 0; dateIndex < dateCount; dateIndex++) {
+            List<AvailableTime> availableTimes = new ArrayList<>(TIME_COUNT);
+            for (int timeIndex = 0; timeIndex < TIME_COUNT; timeIndex++) {
+                availableTimes.add(new AvailableTime(LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex)));
+            }
+            availableDateTimes.add(new AvailableDateTime(null, START_DATE.plusDays(dateIndex), availableTimes));
+        }
+        return availableDateTimes;
+    }
+}
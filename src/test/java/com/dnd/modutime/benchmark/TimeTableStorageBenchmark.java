@@ -0,0 +1,100 @@
+package com.dnd.modutime.benchmark;
+
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
+import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+})
+class TimeTableStorageBenchmark {
+
+    private static final int DATE_COUNT = 30;
+    private static final int TIME_COUNT = 48;
+    private static final int PARTICIPANT_COUNT = 40;
+    private static final int ITERATIONS = 10;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+
+    @Autowired
+    private TimeTableRepository timeTableRepository;
+
+    @Autowired
+    private TimeTableMatrixRepository timeTableMatrixRepository;
+
+    @Test
+    void 방_하나의_행수_조회시간_힙사용량을_비교한다() {
+        String roomUuid = UUID.randomUUID().toString();
+        TimeTable timeTable = timeTableRepository.save(getTimeTable(roomUuid));
+        timeTableMatrixRepository.save(TimeTableMatrix.from(timeTable));
+
+        TimeTable loadedTimeTable = timeTableRepository.findByRoomUuid(roomUuid).get();
+        long rowCount = 1L + loadedTimeTable.getDateInfos().size();
+        for (DateInfo dateInfo : loadedTimeTable.getDateInfos()) {
+            rowCount += dateInfo.getTimeInfos().size();
+            for (TimeInfo timeInfo : dateInfo.getTimeInfos()) {
+                rowCount += timeInfo.getParticipantsSize();
+            }
+        }
+
+        print("entity graph", rowCount, () -> timeTableRepository.findByRoomUuid(roomUuid).get());
+        print("bitset matrix", 1L, () -> timeTableMatrixRepository.findByRoomUuid(roomUuid).get());
+    }
+
+    private void print(String name, long rowCount, Supplier<Object> loader) {
+        loader.get();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            loader.get();
+        }
+        long averageMillis = (System.nanoTime() - startedAt) / ITERATIONS / 1_000_000;
+
+        long usedBefore = usedHeap();
+        Object loaded = loader.get();
+        long heapBytes = usedHeap() - usedBefore;
+
+        System.out.printf("[%s] rows=%d, load=%dms, heap=%dKB (%s)%n",
+                name, rowCount, averageMillis, heapBytes / 1024, loaded.getClass().getSimpleName());
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private TimeTable getTimeTable(String roomUuid) {
+        TimeTable timeTable = new TimeTable(roomUuid);
+        List<DateInfo> dateInfos = new ArrayList<>(DATE_COUNT);
+        for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+            List<TimeInfo> timeInfos = new ArrayList<>(TIME_COUNT);
+            for (int timeIndex = 0; timeIndex < TIME_COUNT; timeIndex++) {
+                TimeInfo timeInfo = new TimeInfo(LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex), new ArrayList<>());
+                for (int participantIndex = 0; participantIndex < PARTICIPANT_COUNT; participantIndex++) {
+                    if ((dateIndex + timeIndex + participantIndex) % 2 == 0) {
+                        timeInfo.addParticipantName("참여자" + participantIndex);
+                    }
+                }
+                timeInfos.add(timeInfo);
+            }
+            dateInfos.add(new DateInfo(timeTable, START_DATE.plusDays(dateIndex), timeInfos));
+        }
+        timeTable.replaceDateInfos(dateInfos);
+        return timeTable;
+    }
+}
@@ -0,0 +1,115 @@
+package com.dnd.modutime.benchmark;
+
+import static com.dnd.modutime.fixture.TimeTableFixture.getTimeTable;
+
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultReplaceService;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import com.dnd.modutime.core.timeblock.repository.AvailableDateTimeRepository;
+import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
+import com.dnd.modutime.core.timetable.application.TimeTableUpdateService;
+import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+// ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+})
+class TimeTableUpdateBenchmark {
+
+    private static final int DATE_COUNT = 30;
+    private static final int TIME_COUNT = 48;
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+    private static final String PARTICIPANT_NAME = "참여자1";
+
+    @Autowired
+    private TimeTableUpdateService timeTableUpdateService;
+
+    @Autowired
+    private TimeTableRepository timeTableRepository;
+
+    @Autowired
+    private TimeTableMatrixRepository timeTableMatrixRepository;
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+
+    @Autowired
+    private AvailableDateTimeRepository availableDateTimeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AdjustmentResultReplaceService adjustmentResultReplaceService;
+
+    @Test
+    void 전체_일정_등록과_한칸_변경의_쿼리수와_수행시간을_비교한다() {
+        String roomUuid = UUID.randomUUID().toString();
+        TimeTable timeTable = timeTableRepository.save(getTimeTable(roomUuid, START_DATE, DATE_COUNT, TIME_COUNT));
+        timeTableMatrixRepository.save(TimeTableMatrix.from(timeTable));
+
+        saveTimeBlock(roomUuid, -1);
+        print("full schedule", roomUuid);
+        saveTimeBlock(roomUuid, 0);
+        print("one cell toggle", roomUuid);
+        print("unchanged", roomUuid);
+    }
+
+    // TimeBlock에 저장된 시간을 outbox 작업자처럼 reconcile로 TimeTable에 반영한다.
+    private void print(String name, String roomUuid) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        timeTableUpdateService.reconcile(roomUuid, PARTICIPANT_NAME);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("[%s] statements=%d, inserts=%d, deletes=%d, elapsed=%dms%n",
+                name,
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityInsertCount(),
+                statistics.getEntityDeleteCount(),
+                elapsedMillis);
+    }
+
+    private void saveTimeBlock(String roomUuid, int excludedTimeIndex) {
+        timeBlockRepository.findByRoomUuidAndParticipantName(roomUuid, PARTICIPANT_NAME)
+                .ifPresent(timeBlockRepository::delete);
+        TimeBlock timeBlock = timeBlockRepository.save(new TimeBlock(roomUuid, PARTICIPANT_NAME));
+        availableDateTimeRepository.saveAll(getAvailableDateTimes(timeBlock, excludedTimeIndex));
+    }
+
+    // excludedTimeIndex 번째 시간을 첫 날짜에서만 뺀 전체 일정을 만든다.
+    private List<AvailableDateTime> getAvailableDateTimes(TimeBlock timeBlock, int excludedTimeIndex) {
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>(DATE_COUNT);
+        for (int dateIndex = 0; dateIndex < DATE_COUNT; dateIndex++) {
+            List<AvailableTime> availableTimes = new ArrayList<>(TIME_COUNT);
+            for (int timeIndex = 0; timeIndex < TIME_COUNT; timeIndex++) {
+                if (dateIndex == 0 && timeIndex == excludedTimeIndex) {
+                    continue;
+                }
+                availableTimes.add(new AvailableTime(LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex)));
+            }
+            availableDateTimes.add(new AvailableDateTime(timeBlock, START_DATE.plusDays(dateIndex), availableTimes));
+        }
+        return availableDateTimes;
+    }
+}
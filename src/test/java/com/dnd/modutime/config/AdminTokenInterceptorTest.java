@@ -0,0 +1,45 @@
+package com.dnd.modutime.config;
+
+import static com.dnd.modutime.config.AdminTokenInterceptor.ADMIN_TOKEN_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dnd.modutime.exception.InvalidPasswordException;
+import com.dnd.modutime.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdminTokenInterceptorTest {
+
+    @Test
+    void 토큰이_같으면_통과한다() {
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("secret");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ADMIN_TOKEN_HEADER, "secret");
+
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+    }
+
+    @Test
+    void 토큰이_없거나_다르면_예외가_발생한다() {
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("secret");
+        MockHttpServletRequest wrongTokenRequest = new MockHttpServletRequest();
+        wrongTokenRequest.addHeader(ADMIN_TOKEN_HEADER, "secret2");
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(InvalidPasswordException.class);
+        assertThatThrownBy(() -> interceptor.preHandle(wrongTokenRequest, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(InvalidPasswordException.class);
+    }
+
+    @Test
+    void 토큰을_설정하지_않으면_관리자_API를_막는다() {
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ADMIN_TOKEN_HEADER, "");
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(NotFoundException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultRecomputeStatsResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AdjustmentResultRecomputeQueueTest {
+
+    private static final long WINDOW_MILLIS = 200;
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private final AdjustmentResultReplaceService adjustmentResultReplaceService = mock(AdjustmentResultReplaceService.class);
+    private final AdjustmentResultRecomputeQueue adjustmentResultRecomputeQueue =
+            new AdjustmentResultRecomputeQueue(adjustmentResultReplaceService, WINDOW_MILLIS, 1, 1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        adjustmentResultRecomputeQueue.shutdown();
+    }
+
+    @Test
+    void 대기시간안에_들어온_변경은_바뀐_날짜를_합쳐서_한번만_계산한다() throws InterruptedException {
+        CompletableFuture<Void> future = adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_09));
+        adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_08));
+        adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_09));
+
+        assertThat(adjustmentResultRecomputeQueue.awaitIdle(TIMEOUT_MILLIS)).isTrue();
+        AdjustmentResultRecomputeStatsResponse stats = adjustmentResultRecomputeQueue.getStats();
+        assertAll(
+                () -> verify(adjustmentResultReplaceService, times(1)).replace(ROOM_UUID, List.of(_2023_02_08, _2023_02_09)),
+                () -> assertThat(future).succeedsWithin(Duration.ofMillis(TIMEOUT_MILLIS)),
+                () -> assertThat(stats.getRequestCount()).isEqualTo(3),
+                () -> assertThat(stats.getExecutionCount()).isEqualTo(1),
+                () -> assertThat(stats.getCoalescedCount()).isEqualTo(2),
+                () -> assertThat(stats.getQueueSize()).isZero()
+        );
+    }
+
+    @Test
+    void 전체_변경이_섞이면_전체를_한번만_계산한다() throws InterruptedException {
+        adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_09));
+        adjustmentResultRecomputeQueue.request(ROOM_UUID, null);
+
+        assertThat(adjustmentResultRecomputeQueue.awaitIdle(TIMEOUT_MILLIS)).isTrue();
+        assertAll(
+                () -> verify(adjustmentResultReplaceService, times(1)).replaceAll(ROOM_UUID),
+                () -> verify(adjustmentResultReplaceService, never()).replace(any(), anyList())
+        );
+    }
+
+    @Test
+    void 계산에_실패하면_다시_계산한다() throws InterruptedException {
+        willThrow(new IllegalStateException())
+                .willDoNothing()
+                .given(adjustmentResultReplaceService).replace(ROOM_UUID, List.of(_2023_02_08));
+
+        adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_08));
+
+        assertThat(adjustmentResultRecomputeQueue.awaitIdle(TIMEOUT_MILLIS)).isTrue();
+        AdjustmentResultRecomputeStatsResponse stats = adjustmentResultRecomputeQueue.getStats();
+        assertAll(
+                () -> verify(adjustmentResultReplaceService, times(2)).replace(ROOM_UUID, List.of(_2023_02_08)),
+                () -> assertThat(stats.getFailureCount()).isEqualTo(1),
+                () -> assertThat(stats.getStaleRoomSize()).isZero()
+        );
+    }
+
+    @Test
+    void 재시도를_모두_실패한_방은_다음_변경에서_전체를_계산한다() throws InterruptedException {
+        willThrow(new IllegalStateException())
+                .given(adjustmentResultReplaceService).replace(ROOM_UUID, List.of(_2023_02_08));
+        CompletableFuture<Void> failedFuture = adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_08));
+        assertThat(adjustmentResultRecomputeQueue.awaitIdle(TIMEOUT_MILLIS)).isTrue();
+
+        adjustmentResultRecomputeQueue.request(ROOM_UUID, List.of(_2023_02_09));
+
+        assertThat(adjustmentResultRecomputeQueue.awaitIdle(TIMEOUT_MILLIS)).isTrue();
+        assertAll(
+                () -> verify(adjustmentResultReplaceService, times(2)).replace(ROOM_UUID, List.of(_2023_02_08)),
+                () -> verify(adjustmentResultReplaceService, times(1)).replaceAll(ROOM_UUID),
+                () -> assertThat(failedFuture).failsWithin(Duration.ofMillis(TIMEOUT_MILLIS)),
+                () -> assertThat(adjustmentResultRecomputeQueue.getStats().getStaleRoomSize()).isZero()
+        );
+    }
+
+    @Test
+    void 재계산_대기시간은_0이상이어야_한다() {
+        assertThatThrownBy(() -> new AdjustmentResultRecomputeQueue(adjustmentResultReplaceService, -1, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultCacheStatsResponse;
+import com.dnd.modutime.core.adjustresult.application.response.AdjustmentResultResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AdjustmentResultResponseCacheTest {
+
+    private static final CandidateDateTimeSortStandard FAST = CandidateDateTimeSortStandard.FAST;
+
+    @Test
+    void 참여자_이름_순서가_달라도_같은_결과를_반환한다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 10);
+        AdjustmentResultResponse response = getResponse();
+
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호", "이수진"), FAST, 0, 5, () -> response);
+        AdjustmentResultResponse cached = cache.getOrLoad("room1", 1L, 1L, List.of("이수진", "김동호"), FAST, 0, 5, this::getResponse);
+
+        assertAll(
+                () -> assertThat(cached).isSameAs(response),
+                () -> assertThat(cache.getStats().getHitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 정렬기준이나_페이지가_다르면_따로_보관한다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 10);
+
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse);
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), CandidateDateTimeSortStandard.LONG, 0, 5, this::getResponse);
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 5, 5, this::getResponse);
+
+        AdjustmentResultCacheStatsResponse stats = cache.getStats();
+        assertAll(
+                () -> assertThat(stats.getMissCount()).isEqualTo(3),
+                () -> assertThat(stats.getEntrySize()).isEqualTo(3),
+                () -> assertThat(stats.getRoomSize()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void TimeTable_version이_다르면_이전_version으로_계산한_결과를_반환하지_않는다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 10);
+        AdjustmentResultResponse response = getResponse();
+
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse);
+        AdjustmentResultResponse loaded = cache.getOrLoad("room1", 2L, 1L, List.of("김동호"), FAST, 0, 5, () -> response);
+
+        assertAll(
+                () -> assertThat(loaded).isSameAs(response),
+                () -> assertThat(cache.getStats().getMissCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 다른_서버에서_참여자가_추가되어_AdjustmentResult_version이_바뀌면_다시_계산한다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 10);
+        AdjustmentResultResponse response = getResponse();
+
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse);
+        AdjustmentResultResponse loaded = cache.getOrLoad("room1", 1L, 2L, List.of("김동호"), FAST, 0, 5, () -> response);
+
+        assertThat(loaded).isSameAs(response);
+    }
+
+    @Test
+    void 방별_최대_개수를_넘으면_가장_오래_조회되지_않은_결과를_제거한다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 2);
+        AdjustmentResultResponse response = getResponse();
+
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, () -> response);
+        cache.getOrLoad("room1", 1L, 1L, List.of("이수진"), FAST, 0, 5, this::getResponse);
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse);
+        cache.getOrLoad("room1", 1L, 1L, List.of("이세희"), FAST, 0, 5, this::getResponse);
+
+        AdjustmentResultCacheStatsResponse stats = cache.getStats();
+        assertAll(
+                () -> assertThat(cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse)).isSameAs(response),
+                () -> assertThat(stats.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(stats.getEntrySize()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 방을_무효화하면_그_방의_결과를_모두_제거한다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 10);
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse);
+        cache.getOrLoad("room1", 1L, 1L, List.of("이수진"), FAST, 0, 5, this::getResponse);
+        cache.getOrLoad("room2", 1L, 1L, List.of("김동호"), FAST, 0, 5, this::getResponse);
+
+        cache.evict("room1");
+
+        AdjustmentResultCacheStatsResponse stats = cache.getStats();
+        assertAll(
+                () -> assertThat(stats.getRoomSize()).isEqualTo(1),
+                () -> assertThat(stats.getEntrySize()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 조회_도중_무효화되면_조회한_결과를_캐시하지_않는다() {
+        AdjustmentResultResponseCache cache = new AdjustmentResultResponseCache(10, 10);
+
+        cache.getOrLoad("room1", 1L, 1L, List.of("김동호"), FAST, 0, 5, () -> {
+            cache.evict("room1");
+            return getResponse();
+        });
+
+        assertThat(cache.getStats().getEntrySize()).isZero();
+    }
+
+    @Test
+    void 캐시_크기가_1보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> new AdjustmentResultResponseCache(10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdjustmentResultResponse getResponse() {
+        return new AdjustmentResultResponse(List.of(), false);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+class AdjustmentResultVersionTest {
+
+    @Test
+    void ETag에_현재_TimeTable_version을_넣는다() {
+        AdjustmentResultVersion adjustmentResultVersion = new AdjustmentResultVersion(3, 5, 5);
+
+        assertAll(
+                () -> assertThat(adjustmentResultVersion.getETag()).isEqualTo("3-5"),
+                () -> assertThat(adjustmentResultVersion.isUpToDate()).isTrue()
+        );
+    }
+
+    @Test
+    void 조율결과가_현재_TimeTable로_계산되지_않았으면_최신이_아니다() {
+        AdjustmentResultVersion adjustmentResultVersion = new AdjustmentResultVersion(3, 4, 5);
+
+        assertAll(
+                () -> assertThat(adjustmentResultVersion.getETag()).isEqualTo("3-5"),
+                () -> assertThat(adjustmentResultVersion.isUpToDate()).isFalse()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.dnd.modutime.core.adjustresult.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+class AvailabilityWindowConditionTest {
+
+    @Test
+    void 최소길이를_30분_슬롯_단위로_올림한다() {
+        assertAll(
+                () -> assertThat(AvailabilityWindowCondition.of("90m", 5).getWindowSlotSize()).isEqualTo(3),
+                () -> assertThat(AvailabilityWindowCondition.of("2h", 5).getWindowSlotSize()).isEqualTo(4),
+                () -> assertThat(AvailabilityWindowCondition.of("1h15m", 5).getWindowSlotSize()).isEqualTo(3),
+                () -> assertThat(AvailabilityWindowCondition.of("45", 5).getWindowSlotSize()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 값이_없는_조건은_한_슬롯과_한명으로_본다() {
+        AvailabilityWindowCondition condition = AvailabilityWindowCondition.of(null, null);
+
+        assertAll(
+                () -> assertThat(condition.getWindowSlotSize()).isEqualTo(1),
+                () -> assertThat(condition.getMinParticipants()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 형식에_맞지_않거나_범위를_벗어난_조건은_만들_수_없다() {
+        assertAll(
+                () -> assertThatThrownBy(() -> AvailabilityWindowCondition.of("1d", 1))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> AvailabilityWindowCondition.of("0m", 1))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> AvailabilityWindowCondition.of("25h", 1))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> AvailabilityWindowCondition.of("90m", 0))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+}
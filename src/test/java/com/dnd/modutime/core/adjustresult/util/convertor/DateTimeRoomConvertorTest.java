@@ -5,6 +5,7 @@ import static com.dnd.modutime.fixture.TimeFixture._12_30;
 import static com.dnd.modutime.fixture.TimeFixture._13_00;
 import static com.dnd.modutime.fixture.TimeFixture._13_30;
 import static com.dnd.modutime.fixture.TimeFixture._14_00;
+import static com.dnd.modutime.fixture.TimeFixture._14_30;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,6 +76,27 @@ public class DateTimeRoomConvertorTest {
         );
     }
 
+    @Test
+    void 참여자_순서가_달라도_같은_구성이면_하나로_묶고_참여자가_없는_시간은_제외한다() {
+        List<DateTimeInfoDto> dateTimeInfosDto = List.of(
+                new DateTimeInfoDto(LocalDateTime.of(_2023_02_09, _12_00), List.of("김동호", "이수진")),
+                new DateTimeInfoDto(LocalDateTime.of(_2023_02_09, _12_30), List.of("이수진", "김동호")),
+                new DateTimeInfoDto(LocalDateTime.of(_2023_02_09, _13_00), List.of()),
+                new DateTimeInfoDto(LocalDateTime.of(_2023_02_09, _13_30), List.of()),
+                new DateTimeInfoDto(LocalDateTime.of(_2023_02_09, _14_00), List.of("김동호"))
+        );
+
+        List<CandidateDateTime> candidateDateTimes = dateTimeRoomConvertor.convert(dateTimeInfosDto);
+
+        assertAll(
+                () -> assertThat(candidateDateTimes).hasSize(2),
+                () -> assertThat(candidateDateTimes.get(0).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _12_00)),
+                () -> assertThat(candidateDateTimes.get(0).getEndDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _13_00)),
+                () -> assertThat(candidateDateTimes.get(1).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _14_00)),
+                () -> assertThat(candidateDateTimes.get(1).getEndDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _14_30))
+        );
+    }
+
     @Test
     void dateInfosDto이_비어있을경우_빈리스트를_반환한다() {
         List<DateTimeInfoDto> dateTimeInfosDto = List.of();
@@ -5,10 +5,12 @@ import static com.dnd.modutime.fixture.TimeFixture._12_00;
 import static com.dnd.modutime.fixture.TimeFixture._14_00;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
 import com.dnd.modutime.core.adjustresult.domain.CandidateDateTimeParticipantName;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,6 +35,27 @@ class FastFirstSorterTest {
                         LocalDateTime.of(_2023_02_08, _14_00));
     }
 
+    @Test
+    void 전체를_정렬했을때의_offset번째부터_limit개를_고른다() {
+        List<CandidateDateTime> candidateDateTimes = new ArrayList<>();
+        for (int hour = 9; hour < 19; hour++) {
+            List<String> names = hour % 2 == 0 ? List.of("수진", "동호") : List.of("수진");
+            candidateDateTimes.add(getCandidateTime(LocalDateTime.of(_2023_02_08, LocalTime.of(hour, 0)),
+                    LocalDateTime.of(_2023_02_08, LocalTime.of(hour, 30)), names));
+        }
+        List<CandidateDateTime> sorted = new ArrayList<>(candidateDateTimes);
+        candidateDateTimesSorter.sort(sorted);
+
+        List<CandidateDateTime> selected = candidateDateTimesSorter.select(candidateDateTimes, 3, 4);
+
+        assertAll(
+                () -> assertThat(selected).containsExactlyElementsOf(sorted.subList(3, 7)),
+                () -> assertThat(candidateDateTimesSorter.select(candidateDateTimes, 8, 5))
+                        .containsExactlyElementsOf(sorted.subList(8, 10)),
+                () -> assertThat(candidateDateTimesSorter.select(candidateDateTimes, 10, 5)).isEmpty()
+        );
+    }
+
     private CandidateDateTime getCandidateTime(LocalDateTime startTime, LocalDateTime endTime, List<String> names) {
         return new CandidateDateTime(null, startTime, endTime, false,
                 names.stream()
@@ -0,0 +1,135 @@
+package com.dnd.modutime.core.adjustresult.util.window;
+
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._12_30;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_30;
+import static com.dnd.modutime.fixture.TimeFixture._14_00;
+import static com.dnd.modutime.fixture.TimeFixture._14_30;
+import static com.dnd.modutime.fixture.TimeFixture._15_00;
+import static com.dnd.modutime.fixture.TimeFixture._15_30;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static com.dnd.modutime.fixture.TimeTableFixture.getDateInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.adjustresult.application.AvailabilityWindowCondition;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTime;
+import com.dnd.modutime.core.adjustresult.domain.CandidateDateTimeParticipantName;
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityWindowFinderTest {
+
+    private final AvailabilityWindowFinder availabilityWindowFinder = new AvailabilityWindowFinder();
+
+    @Test
+    void 최소길이동안_최소참여자수_이상이_참여가능한_구간을_찾는다() {
+        DateInfo dateInfo = getDateInfo(_2023_02_09, List.of(
+                getTimeInfo(_12_00, List.of("김동호", "이수진", "이세희")),
+                getTimeInfo(_12_30, List.of("김동호", "이수진", "이세희")),
+                getTimeInfo(_13_00, List.of("김동호", "이수진")),
+                getTimeInfo(_13_30, List.of("김동호")),
+                getTimeInfo(_14_30, List.of("김동호", "이수진")),
+                getTimeInfo(_15_00, List.of("김동호", "이수진"))
+        ));
+
+        List<CandidateDateTime> candidateDateTimes = availabilityWindowFinder.find(List.of(dateInfo),
+                new AvailabilityWindowCondition(60, 2), List.of());
+
+        assertAll(
+                () -> assertThat(candidateDateTimes).hasSize(3),
+                () -> assertThat(candidateDateTimes.get(0).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _12_00)),
+                () -> assertThat(candidateDateTimes.get(0).getEndDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _13_00)),
+                () -> assertThat(getNames(candidateDateTimes.get(0))).containsExactly("김동호", "이수진", "이세희"),
+                () -> assertThat(candidateDateTimes.get(1).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _12_30)),
+                () -> assertThat(candidateDateTimes.get(1).getEndDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _13_30)),
+                () -> assertThat(getNames(candidateDateTimes.get(1))).containsExactly("김동호", "이수진"),
+                // 14:00 슬롯이 없으므로 13:00 ~ 13:30 구간과 이어지지 않는다.
+                () -> assertThat(candidateDateTimes.get(2).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _14_30)),
+                () -> assertThat(candidateDateTimes.get(2).getEndDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _15_30))
+        );
+    }
+
+    @Test
+    void 참여자_구성이_같은_이어지는_구간은_하나로_합친다() {
+        DateInfo dateInfo = getDateInfo(_2023_02_09, List.of(
+                getTimeInfo(_12_00, List.of("김동호", "이수진")),
+                getTimeInfo(_12_30, List.of("김동호", "이수진")),
+                getTimeInfo(_13_00, List.of("김동호", "이수진")),
+                getTimeInfo(_13_30, List.of("김동호", "이수진"))
+        ));
+
+        List<CandidateDateTime> candidateDateTimes = availabilityWindowFinder.find(List.of(dateInfo),
+                new AvailabilityWindowCondition(90, 2), List.of());
+
+        assertAll(
+                () -> assertThat(candidateDateTimes).hasSize(1),
+                () -> assertThat(candidateDateTimes.get(0).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _12_00)),
+                () -> assertThat(candidateDateTimes.get(0).getEndDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _14_00))
+        );
+    }
+
+    @Test
+    void 이름을_지정하면_해당_참여자가_모두_포함된_구간만_찾는다() {
+        DateInfo dateInfo = getDateInfo(_2023_02_09, List.of(
+                getTimeInfo(_12_00, List.of("김동호", "이수진", "이세희")),
+                getTimeInfo(_12_30, List.of("김동호", "이수진", "이세희")),
+                getTimeInfo(_13_00, List.of("김동호", "이수진"))
+        ));
+
+        List<CandidateDateTime> candidateDateTimes = availabilityWindowFinder.find(List.of(dateInfo),
+                new AvailabilityWindowCondition(60, 1), List.of("이세희"));
+
+        assertAll(
+                () -> assertThat(candidateDateTimes).hasSize(1),
+                () -> assertThat(candidateDateTimes.get(0).getStartDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _12_00)),
+                () -> assertThat(getNames(candidateDateTimes.get(0))).contains("이세희")
+        );
+    }
+
+    @Test
+    void 날짜만있는_방은_길이와_상관없이_하루를_한_구간으로_본다() {
+        DateInfo dateInfo = getDateInfo(_2023_02_09, List.of(getTimeInfo(null, List.of("김동호", "이수진"))));
+
+        List<CandidateDateTime> candidateDateTimes = availabilityWindowFinder.find(List.of(dateInfo),
+                new AvailabilityWindowCondition(120, 2), List.of());
+
+        assertAll(
+                () -> assertThat(candidateDateTimes).hasSize(1),
+                () -> assertThat(candidateDateTimes.get(0).getStartDateTime()).isEqualTo(_2023_02_09.atStartOfDay()),
+                () -> assertThat(candidateDateTimes.get(0).getEndDateTime()).isEqualTo(_2023_02_09.atStartOfDay())
+        );
+    }
+
+    @Test
+    void 최소참여자수를_만족하는_구간이_없으면_빈리스트를_반환한다() {
+        DateInfo dateInfo = getDateInfo(_2023_02_09, List.of(
+                getTimeInfo(_12_00, List.of("김동호", "이수진")),
+                getTimeInfo(_12_30, List.of("김동호")),
+                getTimeInfo(_14_00, List.of("김동호", "이수진"))
+        ));
+
+        assertThat(availabilityWindowFinder.find(List.of(dateInfo), new AvailabilityWindowCondition(60, 2), List.of()))
+                .isEmpty();
+    }
+
+    private List<String> getNames(CandidateDateTime candidateDateTime) {
+        return candidateDateTime.getParticipantNames().stream()
+                .map(CandidateDateTimeParticipantName::getName)
+                .collect(Collectors.toList());
+    }
+
+    private TimeInfo getTimeInfo(LocalTime time, List<String> names) {
+        return new TimeInfo(time, names.stream()
+                .map(name -> new TimeInfoParticipantName(null, name))
+                .collect(Collectors.toCollection(ArrayList::new)));
+    }
+}
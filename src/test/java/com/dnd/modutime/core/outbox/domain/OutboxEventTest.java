@@ -0,0 +1,50 @@
+package com.dnd.modutime.core.outbox.domain;
+
+import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OutboxEventTest {
+
+    @Test
+    void TimeTable_변경은_바뀐_날짜를_저장하고_그대로_돌려준다() {
+        OutboxEvent outboxEvent = OutboxEvent.timeTableReplaced(ROOM_UUID, List.of(_2023_02_08, _2023_02_10), 0);
+
+        assertAll(
+                () -> assertThat(outboxEvent.getType()).isEqualTo(OutboxEventType.TIME_TABLE_REPLACED),
+                () -> assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.PENDING),
+                () -> assertThat(outboxEvent.getChangedDatesOrNull()).containsExactly(_2023_02_08, _2023_02_10)
+        );
+    }
+
+    @Test
+    void 전체가_바뀐_TimeTable_변경은_바뀐_날짜가_null이다() {
+        OutboxEvent outboxEvent = OutboxEvent.timeTableReplaced(ROOM_UUID, null, 0);
+
+        assertThat(outboxEvent.getChangedDatesOrNull()).isNull();
+    }
+
+    @Test
+    void 가져가면_시도횟수가_늘어난다() {
+        OutboxEvent outboxEvent = OutboxEvent.timeBlockReplaced(ROOM_UUID, "김동호", 0);
+
+        outboxEvent.lease(100, 1_000);
+
+        assertAll(
+                () -> assertThat(outboxEvent.getParticipantName()).isEqualTo("김동호"),
+                () -> assertThat(outboxEvent.getAttemptCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void roomUuid는_null일_수_없다() {
+        assertThatThrownBy(() -> OutboxEvent.timeBlockReplaced(null, "김동호", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
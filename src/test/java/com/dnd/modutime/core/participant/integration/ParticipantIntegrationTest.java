@@ -3,6 +3,7 @@ package com.dnd.modutime.core.participant.integration;
 import com.dnd.modutime.core.participant.application.ParticipantService;
 import com.dnd.modutime.core.participant.repository.ParticipantRepository;
 import com.dnd.modutime.core.timeblock.application.ParticipantCreationEvent;
+import com.dnd.modutime.core.timeblock.application.ParticipantsCreationEvent;
 import com.dnd.modutime.core.timeblock.domain.TimeBlock;
 import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
@@ -42,4 +46,20 @@ public class ParticipantIntegrationTest {
                 () -> assertThat(events.stream(ParticipantCreationEvent.class).count()).isEqualTo(1)
         );
     }
+
+    @Test
+    void 일괄_생성은_참여자마다_이벤트를_발행하지_않고_한번만_발행한다() {
+        Map<String, String> passwordsByName = new LinkedHashMap<>();
+        passwordsByName.put("일괄참여자1", "1234");
+        passwordsByName.put("일괄참여자2", "1234");
+
+        int createdCount = participantService.createAllIfAbsent(ROOM_UUID, passwordsByName);
+
+        assertAll(
+                () -> assertThat(createdCount).isEqualTo(2),
+                () -> assertThat(events.stream(ParticipantCreationEvent.class).count()).isZero(),
+                () -> assertThat(events.stream(ParticipantsCreationEvent.class)
+                        .map(ParticipantsCreationEvent::getNames)).containsExactly(List.of("일괄참여자1", "일괄참여자2"))
+        );
+    }
 }
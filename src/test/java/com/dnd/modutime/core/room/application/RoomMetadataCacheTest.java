@@ -0,0 +1,116 @@
+package com.dnd.modutime.core.room.application;
+
+import static com.dnd.modutime.fixture.RoomFixture.getRoom;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.dnd.modutime.core.room.domain.Room;
+import com.dnd.modutime.core.room.domain.RoomMetadata;
+import com.dnd.modutime.core.room.repository.RoomRepository;
+import com.dnd.modutime.exception.NotFoundException;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class RoomMetadataCacheTest {
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+
+    @Test
+    void 두번째_조회부터는_방을_다시_읽지_않는다() {
+        RoomMetadataCache cache = new RoomMetadataCache(roomRepository, 10);
+        Room room = getRoom();
+        given(roomRepository.findByUuid(room.getUuid())).willReturn(Optional.of(room));
+
+        RoomMetadata first = cache.get(room.getUuid());
+        RoomMetadata second = cache.get(room.getUuid());
+
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> verify(roomRepository, times(1)).findByUuid(room.getUuid())
+        );
+    }
+
+    @Test
+    void 방을_만들때_넣어두면_조회하지_않는다() {
+        RoomMetadataCache cache = new RoomMetadataCache(roomRepository, 10);
+        Room room = getRoom();
+
+        cache.put(room);
+        cache.get(room.getUuid());
+
+        verify(roomRepository, never()).findByUuid(any());
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋한_뒤에_넣는다() {
+        RoomMetadataCache cache = new RoomMetadataCache(roomRepository, 10);
+        Room room = getRoom();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.putAfterCommit(room);
+            assertThat(cache.size()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 롤백되면_넣지_않는다() {
+        RoomMetadataCache cache = new RoomMetadataCache(roomRepository, 10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.putAfterCommit(getRoom());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_조회되지_않은_방을_제거한다() {
+        RoomMetadataCache cache = new RoomMetadataCache(roomRepository, 2);
+        Room room1 = getRoom();
+        Room room2 = getRoom();
+        Room room3 = getRoom();
+        given(roomRepository.findByUuid(room2.getUuid())).willReturn(Optional.of(room2));
+        cache.put(room1);
+        cache.put(room2);
+        cache.get(room1.getUuid());
+
+        cache.put(room3);
+        cache.get(room2.getUuid());
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> verify(roomRepository, times(1)).findByUuid(room2.getUuid())
+        );
+    }
+
+    @Test
+    void 없는_방은_캐시하지_않고_예외가_발생한다() {
+        RoomMetadataCache cache = new RoomMetadataCache(roomRepository, 10);
+        given(roomRepository.findByUuid("none")).willReturn(Optional.empty());
+
+        assertAll(
+                () -> assertThatThrownBy(() -> cache.get("none")).isInstanceOf(NotFoundException.class),
+                () -> assertThat(cache.size()).isZero()
+        );
+    }
+}
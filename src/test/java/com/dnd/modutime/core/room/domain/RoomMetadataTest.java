@@ -0,0 +1,67 @@
+package com.dnd.modutime.core.room.domain;
+
+import static com.dnd.modutime.fixture.RoomFixture.getRoom;
+import static com.dnd.modutime.fixture.TimeFixture._00_00;
+import static com.dnd.modutime.fixture.TimeFixture._00_30;
+import static com.dnd.modutime.fixture.TimeFixture._01_00;
+import static com.dnd.modutime.fixture.TimeFixture._11_00;
+import static com.dnd.modutime.fixture.TimeFixture._11_30;
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._12_30;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._23_00;
+import static com.dnd.modutime.fixture.TimeFixture._23_30;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RoomMetadataTest {
+
+    @Test
+    void 방의_날짜를_오름차순으로_돌려준다() {
+        RoomMetadata metadata = RoomMetadata.from(getRoom(List.of(_2023_02_10, _2023_02_08)));
+
+        assertAll(
+                () -> assertThat(metadata.getDates()).containsExactly(_2023_02_08, _2023_02_10),
+                () -> assertThat(metadata.containsAllDates(List.of(_2023_02_08, _2023_02_10))).isTrue(),
+                () -> assertThat(metadata.containsDate(_2023_02_09)).isFalse(),
+                () -> assertThat(metadata.containsDate(LocalDate.of(2023, 2, 7))).isFalse(),
+                () -> assertThat(metadata.containsDate(LocalDate.of(2024, 2, 10))).isFalse()
+        );
+    }
+
+    @Test
+    void 방의_시간_범위를_30분_슬롯으로_돌려준다() {
+        RoomMetadata metadata = RoomMetadata.from(getRoom(_11_00, _13_00, List.of(_2023_02_10), 1));
+
+        assertAll(
+                () -> assertThat(metadata.getTimes()).containsExactly(_11_00, _11_30, _12_00, _12_30),
+                () -> assertThat(metadata.includeTimeSlots(1L << 22 | 1L << 25)).isTrue(),
+                () -> assertThat(metadata.includeTimeSlots(1L << 26)).isFalse()
+        );
+    }
+
+    @Test
+    void 자정을_넘는_방은_하루의_앞과_뒤_슬롯을_모두_포함한다() {
+        RoomMetadata metadata = RoomMetadata.from(getRoom(_23_00, _01_00, List.of(_2023_02_10), 1));
+
+        assertThat(metadata.getTimes()).containsExactly(_00_00, _00_30, _23_00, _23_30);
+    }
+
+    @Test
+    void 날짜만_있는_방은_시간_슬롯이_없다() {
+        RoomMetadata metadata = RoomMetadata.from(getRoom(null, null, List.of(_2023_02_10), 1));
+
+        assertAll(
+                () -> assertThat(metadata.hasStartAndEndTime()).isFalse(),
+                () -> assertThat(metadata.getTimes()).isEmpty(),
+                () -> assertThat(metadata.includeTimeSlots(1L << 3)).isFalse()
+        );
+    }
+}
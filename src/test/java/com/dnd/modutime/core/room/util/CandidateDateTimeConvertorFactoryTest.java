@@ -9,8 +9,10 @@ import static org.mockito.BDDMockito.given;
 import com.dnd.modutime.core.adjustresult.util.convertor.CandidateDateTimeConvertor;
 import com.dnd.modutime.core.adjustresult.util.convertor.DateRoomConvertor;
 import com.dnd.modutime.core.adjustresult.util.convertor.DateTimeRoomConvertor;
+import com.dnd.modutime.core.room.application.RoomMetadataCache;
 import com.dnd.modutime.core.room.repository.RoomRepository;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -22,9 +24,18 @@ class CandidateDateTimeConvertorFactoryTest {
     @Autowired
     private CandidateDateTimeConvertorFactory candidateDateTimeConvertorFactory;
 
+    @Autowired
+    private RoomMetadataCache roomMetadataCache;
+
     @MockBean
     private RoomRepository roomRepository;
 
+    // 테스트마다 같은 uuid의 방을 다르게 돌려주므로 캐시를 비운다.
+    @BeforeEach
+    void setUp() {
+        roomMetadataCache.evict(ROOM_UUID);
+    }
+
     @Test
     void 시간이없는_방이라면_dateRoomConvertor_을_반환한다() {
         given(roomRepository.findByUuid(ROOM_UUID)).willReturn(
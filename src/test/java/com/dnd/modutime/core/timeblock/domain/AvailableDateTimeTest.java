@@ -1,15 +1,20 @@
 package com.dnd.modutime.core.timeblock.domain;
 
 import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
+import static com.dnd.modutime.fixture.TimeFixture._00_00;
 import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_30;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
 import com.dnd.modutime.core.timeblock.domain.AvailableTime;
 import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 class AvailableDateTimeTest {
@@ -31,4 +36,44 @@ class AvailableDateTimeTest {
         AvailableDateTime availableDateTime = new AvailableDateTime(new TimeBlock(ROOM_UUID, "참여자1"), _2023_02_10, null);
         assertThat(availableDateTime.hasTime()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 가능한_시간을_30분_슬롯마다_한_비트로_저장한다() {
+        AvailableDateTime availableDateTime = new AvailableDateTime(null, _2023_02_10,
+                List.of(new AvailableTime(_00_00), new AvailableTime(_12_00), new AvailableTime(_13_30)));
+
+        assertThat(availableDateTime.getTimeSlotsOrNull()).isEqualTo(1L | 1L << 24 | 1L << 27);
+    }
+
+    @Test
+    void 시간이_30분_단위가_아니면_예외가_발생한다() {
+        assertThatThrownBy(() -> new AvailableDateTime(null, _2023_02_10, List.of(new AvailableTime(LocalTime.of(12, 15)))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 슬롯_구간의_시작이_끝보다_작지_않거나_하루를_넘으면_예외가_발생한다() {
+        assertAll(
+                () -> assertThat(AvailableDateTime.toTimeSlots(0, AvailableDateTime.SLOTS_PER_DAY))
+                        .isEqualTo(-1L >>> (Long.SIZE - AvailableDateTime.SLOTS_PER_DAY)),
+                () -> assertThatThrownBy(() -> AvailableDateTime.toTimeSlots(0, 0))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> AvailableDateTime.toTimeSlots(3, 2))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> AvailableDateTime.toTimeSlots(0, AvailableDateTime.SLOTS_PER_DAY + 1))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void 슬롯_비트로_만들면_가능한_시간으로_꺼낼수_있다() {
+        AvailableDateTime availableDateTime = new AvailableDateTime(null, _2023_02_10, 1L << 24 | 1L << 27);
+
+        assertAll(
+                () -> assertThat(availableDateTime.hasTime()).isTrue(),
+                () -> assertThat(availableDateTime.getTimesOrNull().stream()
+                        .map(AvailableTime::getTime)
+                        .collect(Collectors.toList())).containsExactly(_12_00, _13_30)
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.dnd.modutime.core.timeblock.domain;
+
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._12_30;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static com.dnd.modutime.fixture.TimeTableFixture.getAvailableDateTime;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AvailableDateTimesTest {
+
+    @Test
+    void 다른_AvailableDateTimes에_없는_시간만_남긴다() {
+        AvailableDateTimes old = new AvailableDateTimes(List.of(
+                getAvailableDateTime("참여자1", _2023_02_09, List.of(new AvailableTime(_12_00), new AvailableTime(_12_30))),
+                getAvailableDateTime("참여자1", _2023_02_10, List.of(new AvailableTime(_13_00)))
+        ));
+        AvailableDateTimes now = new AvailableDateTimes(List.of(
+                getAvailableDateTime("참여자1", _2023_02_09, List.of(new AvailableTime(_12_00))),
+                getAvailableDateTime("참여자1", _2023_02_10, List.of(new AvailableTime(_13_00)))
+        ));
+
+        List<AvailableDateTime> removed = old.subtract(now);
+        List<AvailableDateTime> added = now.subtract(old);
+
+        assertAll(
+                () -> assertThat(removed).hasSize(1),
+                () -> assertThat(removed.get(0).getDate()).isEqualTo(_2023_02_09),
+                () -> assertThat(removed.get(0).getTimesOrNull().stream()
+                        .map(AvailableTime::getTime)
+                        .collect(Collectors.toList())).containsExactly(_12_30),
+                () -> assertThat(added).isEmpty()
+        );
+    }
+
+    @Test
+    void 날짜만_있는_경우_시간이_null이든_비어있든_같은_날짜로_본다() {
+        AvailableDateTimes old = new AvailableDateTimes(List.of(
+                getAvailableDateTime("참여자1", _2023_02_09, List.of()),
+                getAvailableDateTime("참여자1", _2023_02_10, List.of())
+        ));
+        AvailableDateTimes now = new AvailableDateTimes(List.of(
+                getAvailableDateTime("참여자1", _2023_02_10, null)
+        ));
+
+        List<AvailableDateTime> removed = old.subtract(now);
+        List<AvailableDateTime> added = now.subtract(old);
+
+        assertAll(
+                () -> assertThat(removed).hasSize(1),
+                () -> assertThat(removed.get(0).getDate()).isEqualTo(_2023_02_09),
+                () -> assertThat(removed.get(0).getTimesOrNull()).isNull(),
+                () -> assertThat(added).isEmpty()
+        );
+    }
+
+    @Test
+    void 가능한_시간이_달라진_날짜만_찾는다() {
+        AvailableDateTimes old = new AvailableDateTimes(List.of(
+                getAvailableDateTime("참여자1", _2023_02_09, List.of(new AvailableTime(_12_00), new AvailableTime(_12_30))),
+                getAvailableDateTime("참여자1", _2023_02_10, List.of(new AvailableTime(_13_00)))
+        ));
+        AvailableDateTimes now = new AvailableDateTimes(List.of(
+                getAvailableDateTime("참여자1", _2023_02_09, List.of(new AvailableTime(_12_30), new AvailableTime(_12_00))),
+                getAvailableDateTime("참여자1", _2023_02_08, List.of(new AvailableTime(_13_00)))
+        ));
+
+        assertAll(
+                () -> assertThat(now.getChangedDates(old)).containsExactlyInAnyOrder(_2023_02_10, _2023_02_08),
+                () -> assertThat(now.getChangedDates(now)).isEmpty()
+        );
+    }
+
+    @Test
+    void null로_생성하면_예외가_발생한다() {
+        assertThatThrownBy(() -> new AvailableDateTimes(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
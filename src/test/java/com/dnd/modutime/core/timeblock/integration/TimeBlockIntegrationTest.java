@@ -23,9 +23,12 @@ import com.dnd.modutime.core.timeblock.domain.AvailableTime;
 import com.dnd.modutime.core.timeblock.domain.TimeBlock;
 import com.dnd.modutime.core.timeblock.repository.AvailableDateTimeRepository;
 import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -108,6 +111,47 @@ class TimeBlockIntegrationTest {
         assertThat(actual.isEmpty()).isTrue();
     }
 
+    @Test
+    void 가능한_시간을_교체하면_달라진_날짜의_시간만_다시_저장한다() {
+        // given
+        doNothing().when(timeReplaceValidator).validate(any(), any());
+        TimeBlock savedTimeBlock = timeBlockRepository.save(new TimeBlock(ROOM_UUID, "참여자1"));
+        timeBlockService.replace(ROOM_UUID, new TimeReplaceRequest("참여자1", true,
+                List.of(LocalDateTime.of(_2023_02_09, _12_00), LocalDateTime.of(_2023_02_10, _12_00))));
+        Map<LocalDate, AvailableDateTime> before = getAvailableDateTimesByDate(savedTimeBlock.getId());
+
+        // when
+        timeBlockService.replace(ROOM_UUID, new TimeReplaceRequest("참여자1", true,
+                List.of(LocalDateTime.of(_2023_02_09, _12_00), LocalDateTime.of(_2023_02_10, _13_00))));
+
+        // then
+        Map<LocalDate, AvailableDateTime> after = getAvailableDateTimesByDate(savedTimeBlock.getId());
+        assertAll(
+                () -> assertThat(after.get(_2023_02_09).getId()).isEqualTo(before.get(_2023_02_09).getId()),
+                () -> assertThat(after.get(_2023_02_10).getId()).isNotEqualTo(before.get(_2023_02_10).getId()),
+                () -> assertThat(after.get(_2023_02_10).getTimesOrNull().stream()
+                        .map(AvailableTime::getTime)
+                        .collect(Collectors.toList())).containsExactly(_13_00)
+        );
+    }
+
+    @Test
+    void 가능한_시간이_같으면_저장된_시간을_그대로_둔다() {
+        // given
+        doNothing().when(timeReplaceValidator).validate(any(), any());
+        TimeBlock savedTimeBlock = timeBlockRepository.save(new TimeBlock(ROOM_UUID, "참여자1"));
+        TimeReplaceRequest timeReplaceRequest = new TimeReplaceRequest("참여자1", true, List.of(LocalDateTime.of(_2023_02_10, _12_00)));
+        timeBlockService.replace(ROOM_UUID, timeReplaceRequest);
+        Map<LocalDate, AvailableDateTime> before = getAvailableDateTimesByDate(savedTimeBlock.getId());
+
+        // when
+        timeBlockService.replace(ROOM_UUID, timeReplaceRequest);
+
+        // then
+        assertThat(getAvailableDateTimesByDate(savedTimeBlock.getId()).get(_2023_02_10).getId())
+                .isEqualTo(before.get(_2023_02_10).getId());
+    }
+
     @Test
     void 시간을_등록하지_않은_참여자로_가능한_시간을_조회하면_빈리스트가_반환된다() {
         // given
@@ -151,4 +195,9 @@ class TimeBlockIntegrationTest {
         assertThatThrownBy(() -> timeBlockService.replace(ROOM_UUID, timeReplaceRequest))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    private Map<LocalDate, AvailableDateTime> getAvailableDateTimesByDate(Long timeBlockId) {
+        return availableDateTimeRepository.findByTimeBlockId(timeBlockId).stream()
+                .collect(Collectors.toMap(AvailableDateTime::getDate, Function.identity()));
+    }
 }
@@ -4,6 +4,7 @@ import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
 import static com.dnd.modutime.fixture.TimeFixture._12_00;
 import static com.dnd.modutime.fixture.TimeFixture._13_00;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
 import com.dnd.modutime.core.timeblock.domain.AvailableTime;
@@ -11,9 +12,11 @@ import com.dnd.modutime.core.timeblock.domain.TimeBlock;
 import com.dnd.modutime.core.timeblock.repository.AvailableDateTimeRepository;
 import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 @DataJpaTest
 class AvailableDateTimeRepositoryTest {
@@ -24,6 +27,9 @@ class AvailableDateTimeRepositoryTest {
     @Autowired
     private TimeBlockRepository timeBlockRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @Test
     void AvailableDateTime을_조회하면_times도_같이_조회해온다() {
         TimeBlock savedTimeBlock = timeBlockRepository.save(new TimeBlock(ROOM_UUID, "참여자1"));
@@ -33,8 +39,12 @@ class AvailableDateTimeRepositoryTest {
                         new AvailableTime(_13_00))
         );
         availableDateTimeRepository.save(availableDateTime);
+        testEntityManager.flush();
+        testEntityManager.clear();
 
-        final List<AvailableDateTime> byTimeBlockId = availableDateTimeRepository.findByTimeBlockId(savedTimeBlock.getId());
-        int a = 0;
+        List<AvailableDateTime> byTimeBlockId = availableDateTimeRepository.findByTimeBlockId(savedTimeBlock.getId());
+        assertThat(byTimeBlockId.get(0).getTimesOrNull().stream()
+                .map(AvailableTime::getTime)
+                .collect(Collectors.toList())).containsExactly(_12_00, _13_00);
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import static com.dnd.modutime.fixture.TimeFixture._00_00;
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._12_30;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_30;
+import static com.dnd.modutime.fixture.TimeFixture._14_00;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class AvailableTimeRangeConvertorTest {
+
+    private final AvailableTimeRangeConvertor availableTimeRangeConvertor = new AvailableTimeRangeConvertor();
+    private final TimeBlock timeBlock = new TimeBlock("roomUuid", "참여자1");
+
+    @Test
+    void 구간의_끝_시간은_포함하지_않는다() {
+        List<AvailableDateTime> availableDateTimes = availableTimeRangeConvertor.convert(timeBlock, true,
+                List.of(new AvailableTimeRangeRequest(_2023_02_10, _12_00, _13_30)));
+
+        assertAll(
+                () -> assertThat(availableDateTimes).hasSize(1),
+                () -> assertThat(availableDateTimes.get(0).getDate()).isEqualTo(_2023_02_10),
+                () -> assertThat(getTimes(availableDateTimes.get(0))).containsExactly(_12_00, _12_30, _13_00)
+        );
+    }
+
+    @Test
+    void 같은_날짜의_구간은_하나로_합친다() {
+        List<AvailableDateTime> availableDateTimes = availableTimeRangeConvertor.convert(timeBlock, true, List.of(
+                new AvailableTimeRangeRequest(_2023_02_10, _12_00, _12_30),
+                new AvailableTimeRangeRequest(_2023_02_10, _13_30, _14_00),
+                new AvailableTimeRangeRequest(_2023_02_09, _12_00, _13_00)
+        ));
+        availableDateTimes.sort(Comparator.comparing(AvailableDateTime::getDate));
+
+        assertAll(
+                () -> assertThat(availableDateTimes).hasSize(2),
+                () -> assertThat(getTimes(availableDateTimes.get(0))).containsExactly(_12_00, _12_30),
+                () -> assertThat(getTimes(availableDateTimes.get(1))).containsExactly(_12_00, _13_30)
+        );
+    }
+
+    @Test
+    void 끝_시간이_자정이면_하루의_끝까지로_본다() {
+        List<AvailableDateTime> availableDateTimes = availableTimeRangeConvertor.convert(timeBlock, true,
+                List.of(new AvailableTimeRangeRequest(_2023_02_10, LocalTime.of(23, 0), _00_00)));
+
+        assertThat(getTimes(availableDateTimes.get(0))).containsExactly(LocalTime.of(23, 0), LocalTime.of(23, 30));
+    }
+
+    @Test
+    void 날짜만_있는_방은_시간_없이_날짜만_만든다() {
+        List<AvailableDateTime> availableDateTimes = availableTimeRangeConvertor.convert(timeBlock, false,
+                List.of(new AvailableTimeRangeRequest(_2023_02_10, null, null)));
+
+        assertAll(
+                () -> assertThat(availableDateTimes).hasSize(1),
+                () -> assertThat(availableDateTimes.get(0).hasTime()).isFalse()
+        );
+    }
+
+    @Test
+    void 형식에_맞지_않는_구간은_변환할_수_없다() {
+        assertAll(
+                () -> assertThatThrownBy(() -> convert(_2023_02_10, LocalTime.of(12, 15), _13_00))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> convert(_2023_02_10, _13_00, _12_00))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> convert(_2023_02_10, _12_00, _12_00))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> convert(null, _12_00, _13_00))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    private void convert(LocalDate date, LocalTime start, LocalTime end) {
+        availableTimeRangeConvertor.convert(timeBlock, true, List.of(new AvailableTimeRangeRequest(date, start, end)));
+    }
+
+    private List<LocalTime> getTimes(AvailableDateTime availableDateTime) {
+        return availableDateTime.getTimesOrNull().stream()
+                .map(AvailableTime::getTime)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class BusyTimeSlotsTest {
+
+    @Test
+    void 구간에_조금이라도_걸친_슬롯을_날짜별로_표시한다() {
+        BusyTimeSlots busyTimeSlots = new BusyTimeSlots(_2023_02_09, _2023_02_10);
+
+        busyTimeSlots.add(LocalDateTime.of(2023, 2, 9, 23, 10), LocalDateTime.of(2023, 2, 10, 0, 40));
+
+        assertAll(
+                () -> assertThat(busyTimeSlots.get(_2023_02_09)).isEqualTo(1L << 46 | 1L << 47),
+                () -> assertThat(busyTimeSlots.get(_2023_02_10)).isEqualTo(0b11L)
+        );
+    }
+
+    @Test
+    void 범위_밖의_구간은_버리고_하루_전체가_바쁜_날을_알려준다() {
+        BusyTimeSlots busyTimeSlots = new BusyTimeSlots(_2023_02_09, _2023_02_10);
+
+        busyTimeSlots.add(LocalDateTime.of(2023, 2, 1, 0, 0), LocalDateTime.of(2023, 2, 10, 0, 0));
+        busyTimeSlots.add(LocalDateTime.of(2023, 2, 11, 9, 0), LocalDateTime.of(2023, 2, 11, 10, 0));
+
+        assertAll(
+                () -> assertThat(busyTimeSlots.isBusyAllDay(_2023_02_09)).isTrue(),
+                () -> assertThat(busyTimeSlots.isBusyAllDay(_2023_02_10)).isFalse(),
+                () -> assertThat(busyTimeSlots.get(_2023_02_10)).isZero()
+        );
+    }
+}
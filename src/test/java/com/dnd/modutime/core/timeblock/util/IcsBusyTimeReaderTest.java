@@ -0,0 +1,110 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IcsBusyTimeReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 2, 6, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2023, 2, 13, 0, 0);
+
+    private final IcsBusyTimeReader icsBusyTimeReader = new IcsBusyTimeReader();
+
+    @Test
+    void 일정의_시간대를_방의_시간대로_바꿔서_읽는다() throws IOException {
+        List<String> busyTimes = read(event("DTSTART:20230210T030000Z", "DTEND:20230210T040000Z")
+                + event("DTSTART;TZID=America/New_York:20230209T200000", "DURATION:PT30M")
+                + event("DTSTART:20230208T090000", "DTEND:20230208T100000"));
+
+        assertThat(busyTimes).containsExactly(
+                "2023-02-10T12:00~2023-02-10T13:00",
+                "2023-02-10T10:00~2023-02-10T10:30",
+                "2023-02-08T09:00~2023-02-08T10:00");
+    }
+
+    @Test
+    void 반복_일정은_구간_안의_일정만_펼친다() throws IOException {
+        List<String> busyTimes = read(event("DTSTART;TZID=Asia/Seoul:20200106T090000", "DTEND;TZID=Asia/Seoul:20200106T100000",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO,WE", "EXDATE;TZID=Asia/Seoul:20230208T090000")
+                + event("DTSTART:20230206T180000", "DTEND:20230206T190000", "RRULE:FREQ=DAILY;COUNT=2")
+                + event("DTSTART;VALUE=DATE:20230101", "RRULE:FREQ=MONTHLY;INTERVAL=1;UNTIL=20230301T000000Z"));
+
+        assertThat(busyTimes).containsExactly(
+                "2023-02-06T09:00~2023-02-06T10:00",
+                "2023-02-06T18:00~2023-02-06T19:00",
+                "2023-02-07T18:00~2023-02-07T19:00");
+    }
+
+    @Test
+    void 순번이_붙은_요일과_달의_날짜로_반복하는_일정을_펼친다() throws IOException {
+        List<String> busyTimes = read(event("DTSTART:20230114T090000", "DTEND:20230114T100000", "RRULE:FREQ=MONTHLY;BYDAY=2SA")
+                + event("DTSTART:20230112T130000", "DTEND:20230112T140000", "RRULE:FREQ=MONTHLY;BYMONTHDAY=-20")
+                + event("DTSTART:20220207T070000", "DTEND:20220207T080000", "RRULE:FREQ=YEARLY;BYMONTH=2;BYDAY=-4MO")
+                + event("DTSTART:20230207T200000", "DTEND:20230207T210000", "RRULE:FREQ=MONTHLY;BYDAY=-1MO;COUNT=1"));
+
+        assertThat(busyTimes).containsExactly(
+                "2023-02-11T09:00~2023-02-11T10:00",
+                "2023-02-09T13:00~2023-02-09T14:00",
+                "2023-02-06T07:00~2023-02-06T08:00",
+                "2023-02-07T20:00~2023-02-07T21:00");
+    }
+
+    @Test
+    void 다룰_수_없는_반복_규칙이_있으면_읽을_수_없다() {
+        assertAll(
+                () -> assertThatThrownBy(() -> read(event("DTSTART:20230207T090000", "DTEND:20230207T100000",
+                        "RRULE:FREQ=MONTHLY;BYDAY=TU;BYSETPOS=2")))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> read(event("DTSTART:20230207T090000", "DTEND:20230207T100000",
+                        "RRULE:FREQ=WEEKLY;BYDAY=2TU")))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void 바쁘지_않은_일정과_알람은_읽지_않는다() throws IOException {
+        List<String> busyTimes = read(event("DTSTART:20230210T090000", "DTEND:20230210T100000", "TRANSP:TRANSPARENT")
+                + event("DTSTART:20230210T110000", "DTEND:20230210T120000", "STATUS:CANCELLED")
+                + event("DTSTART:20230210T130000", "DTEND:20230210T140000",
+                "BEGIN:VALARM", "TRIGGER:-PT15M", "DURATION:PT5H", "END:VALARM",
+                "DESCRIPTION:긴 설명이", " 여러 줄로 접혀 있다"));
+
+        assertThat(busyTimes).containsExactly("2023-02-10T13:00~2023-02-10T14:00");
+    }
+
+    @Test
+    void 접힌_줄을_이어서_읽는다() throws IOException {
+        List<String> busyTimes = read("\uFEFFBEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nDTSTART;TZID=\"Asia/Seoul\":2023021\r\n 0T090000\r\n"
+                + "DTEND:20230210T093000\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n");
+
+        assertThat(busyTimes).containsExactly("2023-02-10T09:00~2023-02-10T09:30");
+    }
+
+    @Test
+    void 형식에_맞지_않는_날짜는_읽을_수_없다() {
+        assertThatThrownBy(() -> read(event("DTSTART:2023-02-10 09:00", "DTEND:20230210T100000")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String event(String... lines) {
+        return "BEGIN:VEVENT\n" + String.join("\n", lines) + "\nEND:VEVENT\n";
+    }
+
+    private List<String> read(String ics) throws IOException {
+        List<String> busyTimes = new ArrayList<>();
+        icsBusyTimeReader.read(new ByteArrayInputStream(ics.getBytes(StandardCharsets.UTF_8)), SEOUL, FROM, TO,
+                (start, end) -> busyTimes.add(start + "~" + end));
+        return busyTimes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dnd.modutime.core.timeblock.util;
+
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_30;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_10;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.timeblock.application.request.AvailableTimeRangeRequest;
+import com.dnd.modutime.core.timeblock.application.request.ParticipantTimeImportRequest;
+import com.dnd.modutime.core.timeblock.application.request.TimeImportRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class TimeImportCsvReaderTest {
+
+    private final TimeImportCsvReader timeImportCsvReader = new TimeImportCsvReader();
+
+    @Test
+    void 같은_이름의_줄을_한_참여자의_구간으로_모은다() throws IOException {
+        TimeImportRequest timeImportRequest = read("\uFEFFname,password,date,start,end\n"
+                + "참여자1,1234,2023-02-10,12:00,13:30\r\n"
+                + "참여자2,5678,2023-02-10,12:00,12:30\n"
+                + "\n"
+                + "참여자1,1234,2023-02-11,09:00,10:00\n", 10);
+
+        ParticipantTimeImportRequest participant = timeImportRequest.getParticipants().get(0);
+        AvailableTimeRangeRequest range = participant.getAvailableTimeRanges().get(0);
+        assertAll(
+                () -> assertThat(timeImportRequest.getHasTime()).isTrue(),
+                () -> assertThat(timeImportRequest.getParticipants()).hasSize(2),
+                () -> assertThat(participant.getName()).isEqualTo("참여자1"),
+                () -> assertThat(participant.getPassword()).isEqualTo("1234"),
+                () -> assertThat(participant.getAvailableTimeRanges()).hasSize(2),
+                () -> assertThat(range.getDate()).isEqualTo(_2023_02_10),
+                () -> assertThat(range.getStart()).isEqualTo(_12_00),
+                () -> assertThat(range.getEnd()).isEqualTo(_13_30)
+        );
+    }
+
+    @Test
+    void 시간이_없는_줄만_있으면_날짜만_등록한다() throws IOException {
+        TimeImportRequest timeImportRequest = read("참여자1,1234,2023-02-10\n참여자2,5678,,,\n", 10);
+
+        assertAll(
+                () -> assertThat(timeImportRequest.getHasTime()).isFalse(),
+                () -> assertThat(timeImportRequest.getParticipants().get(0).getAvailableTimeRanges()).hasSize(1),
+                () -> assertThat(timeImportRequest.getParticipants().get(1).getAvailableTimeRanges()).isEmpty()
+        );
+    }
+
+    @Test
+    void 형식에_맞지_않는_CSV는_읽을_수_없다() {
+        assertAll(
+                () -> assertThatThrownBy(() -> read("참여자1,1234\n", 10))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> read("참여자1,1234,2023-02-10,12:00,13:00\n참여자1,5678,2023-02-10,14:00,15:00\n", 10))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> read("참여자1,1234,2023-02-10,12:00,13:00\n참여자2,5678,2023-02-10\n", 10))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> read("참여자1,1234,2023/02/10,12:00,13:00\n", 10))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> read("참여자1,1234,2023-02-10,12:00,\n", 10))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void 최대_참여자_수를_넘으면_더_읽지_않고_예외가_발생한다() {
+        assertThatThrownBy(() -> read("참여자1,1234,,,\n참여자2,1234,,,\n참여자3,1234,,,\n", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 최대_줄_수를_넘으면_더_읽지_않고_예외가_발생한다() {
+        String csv = "name,password,date,start,end\n"
+                + "참여자1,1234,2023-02-10,12:00,13:00\n"
+                + "참여자1,1234,2023-02-11,12:00,13:00\n"
+                + "참여자1,1234,2023-02-12,12:00,13:00\n";
+
+        assertAll(
+                () -> assertThat(read(csv, 10, 3).getParticipants()).hasSize(1),
+                () -> assertThatThrownBy(() -> read(csv, 10, 2))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    private TimeImportRequest read(String csv, int maxParticipants) throws IOException {
+        return read(csv, maxParticipants, 100);
+    }
+
+    private TimeImportRequest read(String csv, int maxParticipants, int maxRows) throws IOException {
+        return timeImportCsvReader.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), maxParticipants, maxRows);
+    }
+}
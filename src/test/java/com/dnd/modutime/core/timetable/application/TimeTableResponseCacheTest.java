@@ -0,0 +1,112 @@
+package com.dnd.modutime.core.timetable.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.timetable.application.response.TimeTableCacheStatsResponse;
+import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TimeTableResponseCacheTest {
+
+    @Test
+    void 두번째_조회부터는_캐시된_응답을_반환한다() {
+        TimeTableResponseCache cache = new TimeTableResponseCache(10);
+        TimeTableResponse response = new TimeTableResponse(List.of(), 0);
+
+        cache.getOrLoad("room1", 0L, () -> response);
+        TimeTableResponse cached = cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+
+        TimeTableCacheStatsResponse stats = cache.getStats();
+        assertAll(
+                () -> assertThat(cached).isSameAs(response),
+                () -> assertThat(stats.getHitCount()).isEqualTo(1),
+                () -> assertThat(stats.getMissCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_조회되지_않은_방을_제거한다() {
+        TimeTableResponseCache cache = new TimeTableResponseCache(2);
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+        cache.getOrLoad("room2", 0L, () -> new TimeTableResponse(List.of(), 0));
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+
+        cache.getOrLoad("room3", 0L, () -> new TimeTableResponse(List.of(), 0));
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+
+        TimeTableCacheStatsResponse stats = cache.getStats();
+        assertAll(
+                () -> assertThat(stats.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(stats.getSize()).isEqualTo(2),
+                () -> assertThat(stats.getHitCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 무효화하면_다시_조회한다() {
+        TimeTableResponseCache cache = new TimeTableResponseCache(10);
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+
+        cache.evict("room1");
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+
+        assertThat(cache.getStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 캐시된_응답보다_새로운_version이면_다시_조회한다() {
+        TimeTableResponseCache cache = new TimeTableResponseCache(10);
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+        TimeTableResponse response = new TimeTableResponse(List.of(), 1);
+
+        TimeTableResponse loaded = cache.getOrLoad("room1", 1L, () -> response);
+
+        assertAll(
+                () -> assertThat(loaded).isSameAs(response),
+                () -> assertThat(cache.getOrLoad("room1", 1L, () -> new TimeTableResponse(List.of(), 1))).isSameAs(response),
+                () -> assertThat(cache.getStats().getMissCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 조회_도중_무효화되면_조회한_응답을_캐시하지_않는다() {
+        TimeTableResponseCache cache = new TimeTableResponseCache(10);
+
+        cache.getOrLoad("room1", 0L, () -> {
+            cache.evict("room1");
+            return new TimeTableResponse(List.of(), 0);
+        });
+
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋한_뒤에_무효화한다() {
+        TimeTableResponseCache cache = new TimeTableResponseCache(10);
+        cache.getOrLoad("room1", 0L, () -> new TimeTableResponse(List.of(), 0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictAfterCommit("room1");
+            assertThat(cache.getStats().getSize()).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    void 캐시_크기가_1보다_작으면_예외가_발생한다() {
+        assertThatThrownBy(() -> new TimeTableResponseCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dnd.modutime.core.timetable.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.dnd.modutime.core.timetable.application.response.TimeTableResponse;
+import com.dnd.modutime.exception.NotFoundException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimeTableStreamServiceTest {
+
+    private final TimeTableService timeTableService = mock(TimeTableService.class);
+    private final TimeTableStreamService timeTableStreamService = new TimeTableStreamService(timeTableService, 2, 60, 15, 60_000, 1);
+
+    @AfterEach
+    void tearDown() {
+        timeTableStreamService.shutdown();
+    }
+
+    @Test
+    void 방별_최대_구독자수를_넘으면_구독하지_않는다() {
+        given(timeTableService.getTimeTable("room1")).willReturn(new TimeTableResponse(List.of(), 0));
+        given(timeTableService.getTimeTable("room2")).willReturn(new TimeTableResponse(List.of(), 0));
+
+        timeTableStreamService.subscribe("room1");
+        timeTableStreamService.subscribe("room1");
+
+        assertAll(
+                () -> assertThat(timeTableStreamService.subscribe("room1")).isEmpty(),
+                () -> assertThat(timeTableStreamService.subscribe("room2")).isPresent(),
+                () -> assertThat(timeTableStreamService.getSubscriberSize("room1")).isEqualTo(2),
+                () -> assertThat(timeTableStreamService.getSubscriberSize("room2")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 스냅샷을_읽지_못하면_구독을_해제한다() {
+        given(timeTableService.getTimeTable("room1")).willThrow(new NotFoundException("해당하는 TimeTable을 찾을 수 없습니다."));
+
+        assertThatThrownBy(() -> timeTableStreamService.subscribe("room1"))
+                .isInstanceOf(NotFoundException.class);
+
+        assertThat(timeTableStreamService.getSubscriberSize("room1")).isZero();
+    }
+
+    @Test
+    void 다른_서버에서_version이_올라간_방만_스냅샷을_다시_읽는다() {
+        given(timeTableService.getTimeTable("room1")).willReturn(new TimeTableResponse(List.of(), 1));
+        given(timeTableService.getTimeTable("room2")).willReturn(new TimeTableResponse(List.of(), 1));
+        given(timeTableService.getVersion("room1")).willReturn(2L);
+        given(timeTableService.getVersion("room2")).willReturn(1L);
+        timeTableStreamService.subscribe("room1");
+        timeTableStreamService.subscribe("room2");
+
+        timeTableStreamService.pollVersions();
+
+        assertAll(
+                () -> verify(timeTableService, times(2)).getTimeTable("room1"),
+                () -> verify(timeTableService, times(1)).getTimeTable("room2")
+        );
+    }
+
+    @Test
+    void 방별_최대_구독자수는_1이상이어야_한다() {
+        assertThatThrownBy(() -> new TimeTableStreamService(timeTableService, 0, 60, 15, 60_000, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
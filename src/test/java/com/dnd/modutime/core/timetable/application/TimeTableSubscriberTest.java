@@ -0,0 +1,124 @@
+package com.dnd.modutime.core.timetable.application;
+
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.timetable.application.response.AvailableTimeInfo;
+import com.dnd.modutime.core.timetable.application.response.TimeTableChangeResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class TimeTableSubscriberTest {
+
+    @Test
+    void 전송전에_들어온_변경은_슬롯별_최신_참여자수로_합쳐서_한번에_보낸다() throws IOException {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        TimeTableSubscriber subscriber = new TimeTableSubscriber(emitter);
+
+        boolean firstOffer = subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 1)), 1L);
+        boolean secondOffer = subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 2, _13_00, 1)), 2L);
+        subscriber.flush();
+
+        assertAll(
+                () -> assertThat(firstOffer).isTrue(),
+                () -> assertThat(secondOffer).isFalse(),
+                () -> assertThat(emitter.changes).hasSize(1),
+                () -> assertThat(emitter.changes.get(0).getTimeAndCountPerDates().get(0).getAvailableTimeInfos())
+                        .containsExactly(new AvailableTimeInfo(_12_00, 2), new AvailableTimeInfo(_13_00, 1))
+        );
+    }
+
+    @Test
+    void 늦게_도착한_스냅샷은_더_새로운_변경을_덮어쓰지_않는다() throws IOException {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        TimeTableSubscriber subscriber = new TimeTableSubscriber(emitter);
+
+        subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 3)), 5L);
+        subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 2, _13_00, 1)), 4L);
+        subscriber.flush();
+
+        assertThat(emitter.changes.get(0).getTimeAndCountPerDates().get(0).getAvailableTimeInfos())
+                .containsExactly(new AvailableTimeInfo(_12_00, 3), new AvailableTimeInfo(_13_00, 1));
+    }
+
+    @Test
+    void 이미_보낸_참여자수는_다시_보내지_않는다() throws IOException {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        TimeTableSubscriber subscriber = new TimeTableSubscriber(emitter);
+
+        subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 1, _13_00, 1)), 1L);
+        subscriber.flush();
+        boolean offered = subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 1, _13_00, 2)), 2L);
+        subscriber.flush();
+
+        assertAll(
+                () -> assertThat(offered).isTrue(),
+                () -> assertThat(emitter.changes).hasSize(2),
+                () -> assertThat(emitter.changes.get(1).getTimeAndCountPerDates().get(0).getAvailableTimeInfos())
+                        .containsExactly(new AvailableTimeInfo(_13_00, 2))
+        );
+    }
+
+    @Test
+    void 보낼_변경이_없을때만_heartbeat를_보낸다() throws IOException {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        TimeTableSubscriber subscriber = new TimeTableSubscriber(emitter);
+
+        subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 1)), 1L);
+        boolean heartbeatWhileFlushing = subscriber.offerHeartbeat();
+        subscriber.flush();
+        boolean heartbeatWhileIdle = subscriber.offerHeartbeat();
+        subscriber.flush();
+
+        assertAll(
+                () -> assertThat(heartbeatWhileFlushing).isFalse(),
+                () -> assertThat(heartbeatWhileIdle).isTrue(),
+                () -> assertThat(emitter.changes).hasSize(1),
+                () -> assertThat(emitter.heartbeatCount).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 종료된_구독자에게는_변경을_보내지_않는다() throws IOException {
+        RecordingSseEmitter emitter = new RecordingSseEmitter();
+        TimeTableSubscriber subscriber = new TimeTableSubscriber(emitter);
+
+        subscriber.close();
+        boolean offered = subscriber.offer(Map.of(_2023_02_08, Map.of(_12_00, 1)), 1L);
+        subscriber.flush();
+
+        assertAll(
+                () -> assertThat(offered).isFalse(),
+                () -> assertThat(emitter.changes).isEmpty()
+        );
+    }
+
+    private static class RecordingSseEmitter extends SseEmitter {
+
+        private final List<TimeTableChangeResponse> changes = new ArrayList<>();
+        private int heartbeatCount;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            boolean change = false;
+            for (DataWithMediaType dataWithMediaType : builder.build()) {
+                if (dataWithMediaType.getData() instanceof TimeTableChangeResponse) {
+                    changes.add((TimeTableChangeResponse) dataWithMediaType.getData());
+                    change = true;
+                }
+            }
+            if (!change) {
+                heartbeatCount++;
+            }
+        }
+    }
+}
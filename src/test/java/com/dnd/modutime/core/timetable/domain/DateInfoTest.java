@@ -2,6 +2,7 @@ package com.dnd.modutime.core.timetable.domain;
 
 import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
 import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._12_30;
 import static com.dnd.modutime.fixture.TimeFixture._13_00;
 import static com.dnd.modutime.fixture.TimeFixture._14_00;
 import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
@@ -119,6 +120,16 @@ public class DateInfoTest {
                 .collect(Collectors.toList())).contains("참여자1");
     }
 
+    @Test
+    void 존재하지_않는_시간은_timeInfoId를_반환하지_않는다() {
+        DateInfo dateInfo = getDateInfo(List.of(getTimeInfo(_12_00), getTimeInfo(_13_00)));
+
+        List<Long> timeInfoIds = dateInfo.getTimeInfoIdsByAvailableDateTime(getAvailableDateTime("참여자1", _2023_02_10,
+                List.of(new AvailableTime(_12_00), new AvailableTime(_14_00))));
+
+        assertThat(timeInfoIds).hasSize(1);
+    }
+
 //    private DateInfo getDateInfo(List<TimeInfo> timeInfos) {
 //        return new DateInfo(getTimeTable(), _2023_02_10, timeInfos);
 //    }
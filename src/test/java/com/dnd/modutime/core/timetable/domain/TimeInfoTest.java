@@ -3,10 +3,12 @@ package com.dnd.modutime.core.timetable.domain;
 import static com.dnd.modutime.fixture.TimeFixture._12_00;
 import static com.dnd.modutime.fixture.TimeFixture._13_00;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.dnd.modutime.core.timetable.domain.TimeInfo;
 import com.dnd.modutime.core.timetable.domain.TimeInfoParticipantName;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +62,36 @@ public class TimeInfoTest {
         timeInfo.addParticipantName("참여자1");
         assertThat(timeInfo.getTimeInfoParticipantNames()).hasSize(1);
     }
+
+    @Test
+    void 참여자가_100명이_넘어도_모든_참여자_포함_여부를_확인한다() {
+        TimeInfo timeInfo = new TimeInfo(_12_00, new ArrayList<>());
+        List<String> participantNames = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            participantNames.add("참여자" + i);
+            timeInfo.addParticipantName("참여자" + i);
+        }
+
+        timeInfo.removeParticipantName("참여자149");
+
+        assertAll(
+                () -> assertThat(timeInfo.getParticipantsSize()).isEqualTo(149),
+                () -> assertThat(timeInfo.containsAllParticipantName(participantNames.subList(0, 149))).isTrue(),
+                () -> assertThat(timeInfo.containsAllParticipantName(participantNames)).isFalse()
+        );
+    }
+
+    @Test
+    void 삭제한_참여자를_다시_추가할_수_있다() {
+        TimeInfo timeInfo = new TimeInfo(_12_00, new ArrayList<>());
+        timeInfo.addParticipantName("참여자1");
+        timeInfo.removeParticipantName("참여자1");
+
+        timeInfo.addParticipantName("참여자1");
+
+        assertAll(
+                () -> assertThat(timeInfo.getTimeInfoParticipantNames()).hasSize(1),
+                () -> assertThat(timeInfo.containsAllParticipantName(List.of("참여자1"))).isTrue()
+        );
+    }
 }
@@ -0,0 +1,152 @@
+package com.dnd.modutime.core.timetable.domain;
+
+import static com.dnd.modutime.fixture.RoomRequestFixture.ROOM_UUID;
+import static com.dnd.modutime.fixture.TimeFixture._12_00;
+import static com.dnd.modutime.fixture.TimeFixture._13_00;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_09;
+import static com.dnd.modutime.fixture.TimeTableFixture.getAvailableDateTime;
+import static com.dnd.modutime.fixture.TimeTableFixture.getDateInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.adjustresult.application.DateTimeInfoDto;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class TimeTableMatrixTest {
+
+    @Test
+    void TimeTable로부터_슬롯별_참여자수를_옮겨온다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+
+        assertAll(
+                () -> assertThat(timeTableMatrix.getDates()).containsExactly(_2023_02_08, _2023_02_09),
+                () -> assertThat(timeTableMatrix.getTimes()).containsExactly(_12_00, _13_00),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 0)).isEqualTo(2),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 1)).isEqualTo(2),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 0)).isEqualTo(2),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 1)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 참여자이름이_모두포함된_슬롯으로_DateTimeInfosDto를_반환한다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+
+        List<DateTimeInfoDto> dateTimeInfosDto = timeTableMatrix.getDateTimeInfosDtoByParticipantNames(List.of("김동호", "이수진"));
+        assertAll(
+                () -> assertThat(dateTimeInfosDto).hasSize(2),
+                () -> assertThat(dateTimeInfosDto.get(0).getDateTime()).isEqualTo(LocalDateTime.of(_2023_02_08, _13_00)),
+                () -> assertThat(dateTimeInfosDto.get(1).getDateTime()).isEqualTo(LocalDateTime.of(_2023_02_09, _12_00))
+        );
+    }
+
+    @Test
+    void 참여자이름이_모두포함된_슬롯은_TimeTable로_계산한_결과와_같다() {
+        TimeTable timeTable = getTimeTable();
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(timeTable);
+
+        for (List<String> names : List.of(List.of("김동호"), List.of("이채민", "이수진"), List.of("김동호", "이수진"))) {
+            assertThat(getDateTimes(timeTableMatrix.getDateTimeInfosDtoByParticipantNames(names)))
+                    .containsExactlyElementsOf(getDateTimes(timeTable.getDateTimeInfosDtoByParticipantNames(names)));
+        }
+    }
+
+    @Test
+    void 등록되지_않은_참여자이름이_있으면_빈리스트를_반환한다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+
+        assertThat(timeTableMatrix.getDateTimeInfosDtoByParticipantNames(List.of("김동호", "없는참여자"))).isEmpty();
+    }
+
+    @Test
+    void 참여자의_시간을_교체하면_기존_슬롯에서는_지워진다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+
+        timeTableMatrix.replaceParticipantName(List.of(getAvailableDateTime("김동호", _2023_02_09,
+                List.of(new AvailableTime(_13_00)))), "김동호");
+
+        assertAll(
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 0)).isEqualTo(1),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 1)).isEqualTo(1),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 0)).isEqualTo(1),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 1)).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void 참여자의_빠진_시간과_추가된_시간만_반영한다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+
+        timeTableMatrix.updateParticipantName(
+                List.of(getAvailableDateTime("김동호", _2023_02_08, List.of(new AvailableTime(_12_00)))),
+                List.of(getAvailableDateTime("김동호", _2023_02_09, List.of(new AvailableTime(_13_00)))),
+                "김동호");
+
+        assertAll(
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 0)).isEqualTo(1),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 1)).isEqualTo(2),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 0)).isEqualTo(2),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 1)).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void 참여자가_64명을_넘어도_기존_슬롯_정보를_유지한다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+
+        for (int i = 0; i < 100; i++) {
+            timeTableMatrix.replaceParticipantName(List.of(getAvailableDateTime("참여자" + i, _2023_02_08,
+                    List.of(new AvailableTime(_12_00)))), "참여자" + i);
+        }
+
+        assertAll(
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 0)).isEqualTo(102),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 1)).isEqualTo(2),
+                () -> assertThat(timeTableMatrix.getDateTimeInfosDtoByParticipantNames(List.of("이채민", "참여자99")))
+                        .hasSize(1)
+        );
+    }
+
+    @Test
+    void 다른_TimeTableMatrix의_내용으로_교체한다() {
+        TimeTableMatrix timeTableMatrix = TimeTableMatrix.from(getTimeTable());
+        TimeTableMatrix rebuiltMatrix = new TimeTableMatrix(ROOM_UUID, List.of(_2023_02_08, _2023_02_09), List.of(_12_00, _13_00));
+        rebuiltMatrix.replaceParticipantName(List.of(getAvailableDateTime("김동호", _2023_02_09,
+                List.of(new AvailableTime(_13_00)))), "김동호");
+
+        timeTableMatrix.replace(rebuiltMatrix);
+
+        assertAll(
+                () -> assertThat(timeTableMatrix.getParticipantNames()).containsExactly("김동호"),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(0, 0)).isEqualTo(0),
+                () -> assertThat(timeTableMatrix.getParticipantsSize(1, 1)).isEqualTo(1)
+        );
+    }
+
+    private List<LocalDateTime> getDateTimes(List<DateTimeInfoDto> dateTimeInfosDto) {
+        return dateTimeInfosDto.stream()
+                .map(DateTimeInfoDto::getDateTime)
+                .collect(Collectors.toList());
+    }
+
+    private TimeTable getTimeTable() {
+        TimeTable timeTable = new TimeTable(ROOM_UUID);
+        timeTable.replaceDateInfos(List.of(
+                getDateInfo(_2023_02_08, List.of(getTimeInfo(_12_00, List.of("김동호", "이채민")), getTimeInfo(_13_00, List.of("김동호", "이수진")))),
+                getDateInfo(_2023_02_09, List.of(getTimeInfo(_12_00, List.of("김동호", "이수진")), getTimeInfo(_13_00, List.of("이채민", "이수진"))))
+        ));
+        return timeTable;
+    }
+
+    private TimeInfo getTimeInfo(LocalTime time, List<String> names) {
+        return new TimeInfo(time, names.stream()
+                .map(name -> new TimeInfoParticipantName(null, name))
+                .collect(Collectors.toList()));
+    }
+}
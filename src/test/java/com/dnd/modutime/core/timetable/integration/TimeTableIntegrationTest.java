@@ -8,6 +8,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.dnd.modutime.core.timeblock.application.request.TimeReplaceRequest;
@@ -29,6 +30,8 @@ import org.springframework.test.context.event.RecordApplicationEvents;
 @RecordApplicationEvents
 public class TimeTableIntegrationTest {
 
+    private static final long TIMEOUT_MILLIS = 5_000;
+
     @MockBean
     private TimeReplaceValidator timeReplaceValidator;
 
@@ -45,7 +48,7 @@ public class TimeTableIntegrationTest {
     private ApplicationEvents events;
 
     @Test
-    void 참여자가_가능한_시간을_교체하면_TimeTable을_수정한다() {
+    void 참여자가_가능한_시간을_교체하면_outbox를_거쳐_TimeTable을_수정한다() {
         participantService.create(ROOM_UUID, "참여자1", "1234");
         doNothing().when(timeReplaceValidator).validate(any(), any());
         TimeReplaceRequest timeReplaceRequest = new TimeReplaceRequest("참여자1", true, List.of(LocalDateTime.of(_2023_02_10, _12_00), LocalDateTime.of(_2023_02_10, _13_00)));
@@ -53,7 +56,7 @@ public class TimeTableIntegrationTest {
 
         assertAll(
                 () -> assertThat(events.stream(TimeBlockReplaceEvent.class).count()).isEqualTo(1),
-                () -> verify(timeTableUpdateService).update(any())
+                () -> verify(timeTableUpdateService, timeout(TIMEOUT_MILLIS)).reconcile(ROOM_UUID, "참여자1")
         );
     }
 }
@@ -0,0 +1,196 @@
+package com.dnd.modutime.core.timetable.integration;
+
+import static com.dnd.modutime.fixture.TimeFixture._2023_02_08;
+import static com.dnd.modutime.fixture.TimeTableFixture.getTimeTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.dnd.modutime.core.adjustresult.application.AdjustmentResultReplaceService;
+import com.dnd.modutime.core.outbox.application.OutboxEventProcessor;
+import com.dnd.modutime.core.timeblock.domain.AvailableDateTime;
+import com.dnd.modutime.core.timeblock.domain.AvailableTime;
+import com.dnd.modutime.core.timeblock.domain.TimeBlock;
+import com.dnd.modutime.core.timeblock.repository.AvailableDateTimeRepository;
+import com.dnd.modutime.core.timeblock.repository.TimeBlockRepository;
+import com.dnd.modutime.core.timetable.application.TimeTableUpdateService;
+import com.dnd.modutime.core.timetable.domain.DateInfo;
+import com.dnd.modutime.core.timetable.domain.TimeInfo;
+import com.dnd.modutime.core.timetable.domain.TimeTable;
+import com.dnd.modutime.core.timetable.domain.TimeTableMatrix;
+import com.dnd.modutime.core.timetable.repository.TimeTableMatrixRepository;
+import com.dnd.modutime.core.timetable.repository.TimeTableRepository;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest
+class TimeTableUpdateServiceTest {
+
+    private static final int DATE_COUNT = 2;
+    private static final int TIME_COUNT = 48;
+    private static final int MAX_WRITE_STATEMENTS = 10;
+
+    @Autowired
+    private TimeTableUpdateService timeTableUpdateService;
+
+    @Autowired
+    private TimeTableRepository timeTableRepository;
+
+    @Autowired
+    private TimeTableMatrixRepository timeTableMatrixRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+
+    @Autowired
+    private AvailableDateTimeRepository availableDateTimeRepository;
+
+    @MockBean
+    private AdjustmentResultReplaceService adjustmentResultReplaceService;
+
+    // outbox 작업자가 같은 참여자를 동시에 반영하지 않도록 막는다.
+    @MockBean
+    private OutboxEventProcessor outboxEventProcessor;
+
+    private String roomUuid;
+
+    @BeforeEach
+    void setUp() {
+        roomUuid = UUID.randomUUID().toString();
+        TimeTable timeTable = timeTableRepository.save(getTimeTable(roomUuid, _2023_02_08, DATE_COUNT, TIME_COUNT));
+        timeTableMatrixRepository.save(TimeTableMatrix.from(timeTable));
+    }
+
+    @Test
+    void 모든_시간을_등록해도_한_칸을_등록할_때와_쿼리수가_거의_같다() {
+        // given
+        saveTimeBlock("참여자1", 1, 1);
+        long oneSlotStatementCount = countReconcileStatements("참여자1");
+        saveTimeBlock("참여자2", DATE_COUNT, TIME_COUNT);
+
+        // when
+        long allSlotsStatementCount = countReconcileStatements("참여자2");
+
+        // then
+        assertAll(
+                () -> assertThat(allSlotsStatementCount - oneSlotStatementCount).isLessThan(MAX_WRITE_STATEMENTS),
+                () -> assertThat(getParticipantsSizeSum()).isEqualTo(1 + DATE_COUNT * TIME_COUNT)
+        );
+    }
+
+    @Test
+    void 모든_시간을_삭제해도_한_칸을_삭제할_때와_쿼리수가_거의_같다() {
+        // given
+        saveTimeBlock("참여자1", 1, 1);
+        saveTimeBlock("참여자2", DATE_COUNT, TIME_COUNT);
+        timeTableUpdateService.reconcileAll(roomUuid, List.of("참여자1", "참여자2"));
+        deleteTimeBlock("참여자1");
+        long oneSlotStatementCount = countReconcileStatements("참여자1");
+        deleteTimeBlock("참여자2");
+
+        // when
+        long allSlotsStatementCount = countReconcileStatements("참여자2");
+
+        // then
+        assertAll(
+                () -> assertThat(allSlotsStatementCount - oneSlotStatementCount).isLessThan(MAX_WRITE_STATEMENTS),
+                () -> assertThat(getParticipantsSizeSum()).isZero()
+        );
+    }
+
+    @Test
+    void 같은_참여자를_여러번_반영해도_TimeBlock과_같은_결과가_된다() {
+        // given
+        TimeBlock timeBlock = timeBlockRepository.save(new TimeBlock(roomUuid, "참여자1"));
+        List<AvailableDateTime> availableDateTimes = getAvailableDateTimes(timeBlock, 1, 2);
+        availableDateTimeRepository.saveAll(availableDateTimes);
+        timeBlock.replace(availableDateTimes);
+        timeBlockRepository.save(timeBlock);
+
+        // when
+        timeTableUpdateService.reconcile(roomUuid, "참여자1");
+        timeTableUpdateService.reconcile(roomUuid, "참여자1");
+
+        // then
+        assertAll(
+                () -> assertThat(getParticipantsSizeSum()).isEqualTo(2),
+                () -> assertThat(timeTableMatrixRepository.findByRoomUuid(roomUuid).get()
+                        .getAvailableDateTimesByParticipantName("참여자1")).hasSize(1)
+        );
+    }
+
+    @Test
+    void 일괄_등록된_참여자들을_한번에_반영하고_버전은_한번만_올린다() {
+        // given
+        for (String participantName : List.of("참여자1", "참여자2")) {
+            TimeBlock timeBlock = timeBlockRepository.save(new TimeBlock(roomUuid, participantName));
+            List<AvailableDateTime> availableDateTimes = getAvailableDateTimes(timeBlock, 1, 2);
+            availableDateTimeRepository.saveAll(availableDateTimes);
+        }
+        long version = timeTableRepository.findByRoomUuid(roomUuid).get().getVersion();
+
+        // when
+        timeTableUpdateService.reconcileAll(roomUuid, List.of("참여자1", "참여자2"));
+
+        // then
+        assertAll(
+                () -> assertThat(getParticipantsSizeSum()).isEqualTo(4),
+                () -> assertThat(timeTableRepository.findByRoomUuid(roomUuid).get().getVersion()).isEqualTo(version + 1),
+                () -> assertThat(timeTableMatrixRepository.findByRoomUuid(roomUuid).get()
+                        .getAvailableDateTimesByParticipantName("참여자2")).hasSize(1)
+        );
+    }
+
+    // TimeBlock을 읽는 쿼리 수는 시간 개수와 상관없으므로 두 경우의 차이는 TimeTable에 쓰는 쿼리 수의 차이다.
+    private long countReconcileStatements(String participantName) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        timeTableUpdateService.reconcile(roomUuid, participantName);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveTimeBlock(String participantName, int dateCount, int timeCount) {
+        TimeBlock timeBlock = timeBlockRepository.save(new TimeBlock(roomUuid, participantName));
+        availableDateTimeRepository.saveAll(getAvailableDateTimes(timeBlock, dateCount, timeCount));
+    }
+
+    private void deleteTimeBlock(String participantName) {
+        timeBlockRepository.delete(timeBlockRepository.findByRoomUuidAndParticipantName(roomUuid, participantName).get());
+    }
+
+    private int getParticipantsSizeSum() {
+        TimeTable timeTable = timeTableRepository.findByRoomUuid(roomUuid).get();
+        int sum = 0;
+        for (DateInfo dateInfo : timeTable.getDateInfos()) {
+            for (TimeInfo timeInfo : dateInfo.getTimeInfos()) {
+                sum += timeInfo.getParticipantsSize();
+            }
+        }
+        return sum;
+    }
+
+    // 앞에서부터 dateCount개 날짜의 timeCount개 시간을 가능한 시간으로 만든다.
+    private List<AvailableDateTime> getAvailableDateTimes(TimeBlock timeBlock, int dateCount, int timeCount) {
+        List<AvailableDateTime> availableDateTimes = new ArrayList<>();
+        for (int dateIndex = 0; dateIndex < dateCount; dateIndex++) {
+            List<AvailableTime> availableTimes = new ArrayList<>();
+            for (int timeIndex = 0; timeIndex < timeCount; timeIndex++) {
+                availableTimes.add(new AvailableTime(LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex)));
+            }
+            availableDateTimes.add(new AvailableDateTime(timeBlock, _2023_02_08.plusDays(dateIndex), availableTimes));
+        }
+        return availableDateTimes;
+    }
+}
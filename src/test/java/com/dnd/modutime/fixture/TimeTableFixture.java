@@ -28,6 +28,20 @@ public class TimeTableFixture {
         return new TimeTable(ROOM_UUID);
     }
 
+    public static TimeTable getTimeTable(String roomUuid, LocalDate startDate, int dateCount, int timeCount) {
+        TimeTable timeTable = new TimeTable(roomUuid);
+        List<DateInfo> dateInfos = new ArrayList<>(dateCount);
+        for (int dateIndex = 0; dateIndex < dateCount; dateIndex++) {
+            List<TimeInfo> timeInfos = new ArrayList<>(timeCount);
+            for (int timeIndex = 0; timeIndex < timeCount; timeIndex++) {
+                timeInfos.add(getTimeInfo(LocalTime.MIDNIGHT.plusMinutes(30L * timeIndex)));
+            }
+            dateInfos.add(new DateInfo(timeTable, startDate.plusDays(dateIndex), timeInfos));
+        }
+        timeTable.replaceDateInfos(dateInfos);
+        return timeTable;
+    }
+
     public static TimeInfo getTimeInfo(LocalTime time) {
         return new TimeInfo(time, new ArrayList<>());
     }